@@ -1,23 +1,93 @@
 package com.codeinspector.backend.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codeinspector.backend.dto.CodeAnalysisResult;
+import com.codeinspector.backend.dto.ProjectSmellResult;
+import com.codeinspector.backend.dto.TypeSmellReport;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.service.ProjectSmellService;
 import com.codeinspector.backend.utils.CodeSmellAnalyzer;
+import com.codeinspector.backend.utils.smell.SmellProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
 
 @RestController
 @CrossOrigin(origins = "https://codeinspector.vercel.app")
 @RequestMapping("/api/code-analysis")
+@RequiredArgsConstructor
 public class CodeAnalysisController {
     
-    private final CodeSmellAnalyzer analyzer = new CodeSmellAnalyzer();
+    private final CodeSmellAnalyzer analyzer;
+    private final ProjectSmellService projectSmellService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/analyze")
-    public CodeAnalysisResult analyzeCode(@RequestBody String sourceCode) {
-        return analyzer.analyzeCode(sourceCode);
+    public CodeAnalysisResult analyzeCode(
+        @RequestBody String sourceCode,
+        @RequestParam(defaultValue = "REGEX") AnalysisMode mode,
+        @RequestParam(defaultValue = "SEQUENTIAL") ExecutionMode execution,
+        @RequestParam(defaultValue = "DEFAULT") SmellProfile profile
+    ) {
+        return analyzer.analyzeCode(sourceCode, mode, execution, profile);
+    }
+
+    // Tip bazında döküm NDJSON olarak akışa yazılır: her satır bir tip, hesaplandığı anda gönderilir
+    @PostMapping(value = "/analyze/types", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> analyzeTypes(
+        @RequestBody String sourceCode,
+        @RequestParam(defaultValue = "DEFAULT") SmellProfile profile
+    ) {
+        Stream<TypeSmellReport> reports = analyzer.analyzeTypes(sourceCode, profile);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> {
+                for (Iterator<TypeSmellReport> it = reports.iterator(); it.hasNext(); ) {
+                    out.write(objectMapper.writeValueAsBytes(it.next()));
+                    out.write('\n');
+                    out.flush();
+                }
+            });
+    }
+
+    // Modül/proje analizi: zip arşivi veya sunucuda code-analysis.project.root-dir altındaki bir dizin
+    @PostMapping(value = "/analyze/project", consumes = "application/zip")
+    public ProjectSmellResult analyzeProjectArchive(
+        InputStream archive,
+        @RequestParam(defaultValue = "REGEX") AnalysisMode mode,
+        @RequestParam(defaultValue = "DEFAULT") SmellProfile profile
+    ) throws IOException {
+        return projectSmellService.analyzeArchive(archive, mode, profile);
+    }
+
+    @PostMapping(value = "/analyze/project", params = "directory")
+    public ProjectSmellResult analyzeProjectDirectory(
+        @RequestParam String directory,
+        @RequestParam(defaultValue = "REGEX") AnalysisMode mode,
+        @RequestParam(defaultValue = "DEFAULT") SmellProfile profile
+    ) throws IOException {
+        return projectSmellService.analyzeDirectory(directory, mode, profile);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
     }
-}
\ No newline at end of file
+}
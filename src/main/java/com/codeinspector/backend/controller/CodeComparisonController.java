@@ -1,25 +1,36 @@
 package com.codeinspector.backend.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.codeinspector.backend.dto.CodeComparisonRequest;
 import com.codeinspector.backend.dto.CodeComparisonResponse;
+import com.codeinspector.backend.dto.CodeMetrics;
 import com.codeinspector.backend.dto.CodeMetricsRequest;
 import com.codeinspector.backend.dto.CodeMetricsResponse;
 import com.codeinspector.backend.dto.CodeGraphRequest;
 import com.codeinspector.backend.dto.GraphResponse;
+import com.codeinspector.backend.dto.MetricsTable;
+import com.codeinspector.backend.dto.ProjectMetricsRequest;
+import com.codeinspector.backend.dto.ProjectMetricsResult;
 import com.codeinspector.backend.service.CodeComparisonService;
 import com.codeinspector.backend.service.CodeGraphService;
+import com.codeinspector.backend.service.ProjectMetricsService;
+import com.codeinspector.backend.utils.metrics.MetricsSort;
 
 @RestController
 @RequestMapping("/api/code")
@@ -28,14 +39,17 @@ public class CodeComparisonController {
 
     private final CodeComparisonService codeComparisonService;
     private final CodeGraphService codeGraphService;
+    private final ProjectMetricsService projectMetricsService;
 
     @Autowired
     public CodeComparisonController(
             CodeComparisonService codeComparisonService,
 
-            CodeGraphService codeGraphService) {
+            CodeGraphService codeGraphService,
+            ProjectMetricsService projectMetricsService) {
         this.codeComparisonService = codeComparisonService;
         this.codeGraphService = codeGraphService;
+        this.projectMetricsService = projectMetricsService;
     }
 
     @PostMapping("/compare")
@@ -48,9 +62,41 @@ public class CodeComparisonController {
         return codeComparisonService.analyzeMetrics(request.code());
     }
 
+    // Sayısal metrikler; "Accept: application/cbor" ile ikili (CBOR) yanıt döner
+    @PostMapping(value = "/metrics/typed", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public CodeMetrics computeMetrics(@RequestBody CodeMetricsRequest request) {
+        return codeComparisonService.computeMetrics(request.code());
+    }
+
+    // Sınıf/metod başına metrikler; top > 0 ise her listede yalnızca en kötü top satır
+    @PostMapping("/metrics/table")
+    public MetricsTable metricsTable(
+        @RequestBody CodeMetricsRequest request,
+        @RequestParam(defaultValue = "COMPLEXITY") MetricsSort sort,
+        @RequestParam(defaultValue = "0") int top
+    ) {
+        return codeComparisonService.metricsTable(request.code(), sort, top);
+    }
+
+    // Çok dosyalı metrikler: dosya listesi (JSON) veya zip arşivi; paket başına p50/p90/p99 dağılımları döner
+    @PostMapping(value = "/metrics/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ProjectMetricsResult batchMetrics(@RequestBody ProjectMetricsRequest request) {
+        return projectMetricsService.analyzeFiles(request.getFiles());
+    }
+
+    @PostMapping(value = "/metrics/batch", consumes = "application/zip")
+    public ProjectMetricsResult batchMetricsArchive(InputStream archive) throws IOException {
+        return projectMetricsService.analyzeArchive(archive);
+    }
+
 
     @PostMapping("/graph")
     public GraphResponse generateGraph(@RequestBody CodeGraphRequest request) {
         return codeGraphService.analyzeCode(request.code());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -1,10 +1,31 @@
 package com.codeinspector.backend.controller;
 
-import com.codeinspector.backend.dto.CodeSmellRequest;
+import com.codeinspector.backend.dto.IncrementalAnalysisResponse;
+import com.codeinspector.backend.dto.ProjectScanRequest;
+import com.codeinspector.backend.dto.ProjectSecurityResult;
+import com.codeinspector.backend.dto.SecurityAnalysisRequest;
 import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.dto.SecurityEditRequest;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.ReportMode;
+import com.codeinspector.backend.model.security.RulePackReport;
+import com.codeinspector.backend.service.IncrementalSecurityService;
+import com.codeinspector.backend.service.ProjectSecurityService;
+import com.codeinspector.backend.service.RulePackService;
 import com.codeinspector.backend.service.SecurityService;
+import com.codeinspector.backend.utils.security.RulePackException;
+import com.codeinspector.backend.utils.security.SarifReportWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/security")
@@ -13,9 +34,90 @@ import org.springframework.web.bind.annotation.*;
 public class SecurityController {
 
     private final SecurityService securityService;
+    private final RulePackService rulePackService;
+    private final IncrementalSecurityService incrementalSecurityService;
+    private final ProjectSecurityService projectSecurityService;
 
     @PostMapping("/analyze")
-    public SecurityAnalysisResult analyzeCodeSecurity(@RequestBody CodeSmellRequest request) {
-        return securityService.analyzeCode(request.getSourceCode());
+    public SecurityAnalysisResult analyzeCodeSecurity(@RequestBody SecurityAnalysisRequest request) {
+        return securityService.analyzeCode(
+            request.getSourceCode(),
+            new AnalysisOptions(request.getMode(), request.getExecution(), request.getReport())
+        );
+    }
+
+    // SARIF 2.1.0: ?format=sarif ile istenir, bulgular yanıta akış olarak yazılır
+    @PostMapping(value = "/analyze", params = "format=sarif", produces = SarifReportWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> analyzeCodeSecuritySarif(@RequestBody SecurityAnalysisRequest request) {
+        SecurityAnalysisResult result = securityService.analyzeCode(
+            request.getSourceCode(),
+            new AnalysisOptions(request.getMode(), request.getExecution(), ReportMode.NONE)
+        );
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(SarifReportWriter.MEDIA_TYPE))
+            .body(out -> securityService.writeSarif(result, request.getFileName(), out));
+    }
+
+    // Metin raporu chunked text/plain olarak akıtılır
+    @PostMapping(value = "/analyze/report", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSecurityReport(@RequestBody SecurityAnalysisRequest request) {
+        SecurityAnalysisResult result = securityService.analyzeCode(
+            request.getSourceCode(),
+            new AnalysisOptions(request.getMode(), request.getExecution(), ReportMode.NONE)
+        );
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+            .body(out -> securityService.writeReport(result, out));
+    }
+
+    // Editör eklentileri: ilk analiz bir handle döner, sonraki istekler yalnızca düzenlemeleri gönderir
+    @PostMapping("/analyze/incremental")
+    public IncrementalAnalysisResponse startIncrementalAnalysis(@RequestBody SecurityAnalysisRequest request) {
+        return incrementalSecurityService.start(
+            request.getSourceCode(),
+            new AnalysisOptions(request.getMode(), request.getExecution(), request.getReport())
+        );
+    }
+
+    @PostMapping("/analyze/incremental/{handle}")
+    public ResponseEntity<IncrementalAnalysisResponse> applyEdits(
+        @PathVariable String handle,
+        @RequestBody SecurityEditRequest request
+    ) {
+        return ResponseEntity.of(incrementalSecurityService.applyEdits(handle, request.getEdits()));
+    }
+
+    // Proje taraması: dosya listesi (JSON) veya zip arşivi; dosyalar arası taint bulguları da döner
+    @PostMapping(value = "/analyze/project", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ProjectSecurityResult analyzeProject(@RequestBody ProjectScanRequest request) {
+        return projectSecurityService.analyzeFiles(request.getFiles(), request.getMode());
+    }
+
+    @PostMapping(value = "/analyze/project", consumes = "application/zip")
+    public ProjectSecurityResult analyzeProjectArchive(
+        InputStream archive,
+        @RequestParam(defaultValue = "REGEX") AnalysisMode mode
+    ) throws IOException {
+        return projectSecurityService.analyzeArchive(archive, mode);
+    }
+
+    @GetMapping("/metrics")
+    public Map<String, Long> getScanMetrics() {
+        return securityService.getScanMetrics();
+    }
+
+    @GetMapping("/rules")
+    public ResponseEntity<RulePackReport> getRulePackReport() {
+        return ResponseEntity.of(rulePackService.getLastReport());
+    }
+
+    @PostMapping("/rules/reload")
+    public RulePackReport reloadRulePacks() {
+        return rulePackService.reload();
+    }
+
+    @ExceptionHandler({RulePackException.class, IllegalArgumentException.class})
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
     }
 } 
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.codeinspector.backend.dto;
 
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+
 import java.util.List;
 import java.util.Map;
 
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,4 +17,12 @@ public class CodeAnalysisResult {
     private Map<String, Double> smellScores;
     private Map<String, List<String>> smellDetails;
     private double overallScore;
-}
\ No newline at end of file
+    // Tip ve metod bazında döküm; yalnızca kaynak ayrıştırılabildiğinde (AST modu) doldurulur
+    private List<TypeSmellReport> types;
+    // Gerçekte çalışan mod: AST istenip kaynak ayrıştırılamadığında REGEX; birleştirilmiş sonuçlarda boş
+    private AnalysisMode analysisMode;
+
+    public CodeAnalysisResult(Map<String, Double> smellScores, Map<String, List<String>> smellDetails, double overallScore) {
+        this(smellScores, smellDetails, overallScore, null, null);
+    }
+}
@@ -0,0 +1,50 @@
+package com.codeinspector.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Sayısal metrikler; toMap() eski /metrics yanıtındaki biçimlendirilmiş görünümü üretir
+public record CodeMetrics(
+    int linesOfCode,
+    int methodCount,
+    int classCount,
+    int loopCount,
+    int commentCount,
+    int cyclomaticComplexity,
+    int variableDeclarations,
+    int functionCalls,
+    int maxLineLength,
+    int emptyLines,
+    int halsteadProgramLength,
+    int halsteadVocabulary,
+    double halsteadVolume,
+    double halsteadDifficulty,
+    double halsteadEffort,
+    double halsteadTime,
+    double halsteadBugs,
+    double maintainabilityIndex
+) {
+
+    public Map<String, String> toMap() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Lines of Code", String.valueOf(linesOfCode));
+        metrics.put("Number of Methods", String.valueOf(methodCount));
+        metrics.put("Number of Classes", String.valueOf(classCount));
+        metrics.put("Number of Loops", String.valueOf(loopCount));
+        metrics.put("Number of Comments", String.valueOf(commentCount));
+        metrics.put("Cyclomatic Complexity", String.valueOf(cyclomaticComplexity));
+        metrics.put("Variable Declarations", String.valueOf(variableDeclarations));
+        metrics.put("Function Calls", String.valueOf(functionCalls));
+        metrics.put("Max Line Length", String.valueOf(maxLineLength));
+        metrics.put("Empty Lines", String.valueOf(emptyLines));
+        metrics.put("Halstead Program Length", String.format("%.2f", (double) halsteadProgramLength));
+        metrics.put("Halstead Vocabulary", String.format("%.2f", (double) halsteadVocabulary));
+        metrics.put("Halstead Volume", String.format("%.2f", halsteadVolume));
+        metrics.put("Halstead Difficulty", String.format("%.2f", halsteadDifficulty));
+        metrics.put("Halstead Effort", String.format("%.2f", halsteadEffort));
+        metrics.put("Halstead Time", String.format("%.2f", halsteadTime));
+        metrics.put("Halstead Bugs", String.format("%.2f", halsteadBugs));
+        metrics.put("Maintainability Index", String.format("%.2f", maintainabilityIndex));
+        return metrics;
+    }
+}
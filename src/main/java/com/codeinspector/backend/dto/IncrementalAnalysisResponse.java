@@ -0,0 +1,8 @@
+package com.codeinspector.backend.dto;
+
+public record IncrementalAnalysisResponse(
+    String handle,
+    SecurityAnalysisResult result,
+    boolean fullScan,
+    int rescannedLines
+) {}
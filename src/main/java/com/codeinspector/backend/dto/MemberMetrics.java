@@ -0,0 +1,18 @@
+package com.codeinspector.backend.dto;
+
+// Sınıf veya metod satırı. name: "Dış.İç" ya da "Sınıf.metod"; loc: token içeren satır sayısı (boş ve yalnızca
+// yorum satırları hariç); complexity: 1 + karar noktaları
+public record MemberMetrics(
+    String name,
+    int line,
+    int endLine,
+    int loc,
+    int complexity,
+    int halsteadLength,
+    int halsteadVocabulary,
+    double halsteadVolume,
+    double halsteadDifficulty,
+    double halsteadEffort,
+    double halsteadBugs,
+    double maintainabilityIndex
+) {}
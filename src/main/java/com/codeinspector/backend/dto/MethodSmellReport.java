@@ -0,0 +1,14 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+
+public record MethodSmellReport(
+    String name,
+    int line,
+    int bodyLines,
+    int parameterCount,
+    int complexity,
+    int switchCount,
+    double score,
+    List<String> issues
+) {}
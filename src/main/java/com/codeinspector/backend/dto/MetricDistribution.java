@@ -0,0 +1,12 @@
+package com.codeinspector.backend.dto;
+
+// Dağılım özeti; p50/p90/p99 QuantileSketch tahminidir (64'ten küçük değerler tam, büyüklerde göreli hata <= 1/64)
+public record MetricDistribution(
+    long count,
+    double mean,
+    int min,
+    int p50,
+    int p90,
+    int p99,
+    int max
+) {}
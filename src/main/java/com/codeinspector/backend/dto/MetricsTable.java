@@ -0,0 +1,10 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+
+// Her iki liste de istenen ölçüte göre en kötüden iyiye sıralıdır
+public record MetricsTable(
+    String sort,
+    List<MemberMetrics> classes,
+    List<MemberMetrics> methods
+) {}
@@ -0,0 +1,9 @@
+package com.codeinspector.backend.dto;
+
+// fileLoc: dosya başına kod satırı; methodLoc/methodComplexity: metod başına kod satırı ve cyclomatic complexity
+public record PackageMetrics(
+    int fileCount,
+    MetricDistribution fileLoc,
+    MetricDistribution methodLoc,
+    MetricDistribution methodComplexity
+) {}
@@ -0,0 +1,14 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectMetricsRequest {
+    private List<ProjectSourceFile> files;
+}
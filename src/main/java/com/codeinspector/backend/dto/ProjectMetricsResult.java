@@ -0,0 +1,14 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// project: tüm dosyaların birleşik dağılımları; packages: paket başına dağılımlar; skippedFiles: boyut sınırını aşan dosyalar
+public record ProjectMetricsResult(
+    int fileCount,
+    PackageMetrics project,
+    Map<String, PackageMetrics> packages,
+    List<String> skippedFiles,
+    double elapsedMillis,
+    double filesPerSecond
+) {}
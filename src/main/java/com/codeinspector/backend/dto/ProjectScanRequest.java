@@ -0,0 +1,18 @@
+package com.codeinspector.backend.dto;
+
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+
+import java.util.List;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectScanRequest {
+    private List<ProjectSourceFile> files;
+    private AnalysisMode mode = AnalysisMode.REGEX;
+}
@@ -0,0 +1,18 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.model.security.TaintFinding;
+
+// files: dosya başına tek dosyalık analiz sonucu (metin raporu olmadan);
+// unparsedFiles: ayrıştırılamayan veya boyut sınırını aşan dosyalar
+public record ProjectSecurityResult(
+    int fileCount,
+    int methodCount,
+    List<String> unparsedFiles,
+    List<TaintFinding> taintFindings,
+    Map<String, SecurityAnalysisResult> files,
+    int taintRounds,
+    double elapsedMillis
+) {}
@@ -0,0 +1,16 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// project: tüm dosyaların birleşik sonucu (detaylarda paketler); packages: paket başına sonuç (detaylarda dosyalar);
+// fileScores: dosya başına genel skor; skippedFiles: boyut sınırını aşan dosyalar
+public record ProjectSmellResult(
+    int fileCount,
+    CodeAnalysisResult project,
+    Map<String, CodeAnalysisResult> packages,
+    Map<String, Double> fileScores,
+    List<String> skippedFiles,
+    double elapsedMillis,
+    double filesPerSecond
+) {}
@@ -0,0 +1,3 @@
+package com.codeinspector.backend.dto;
+
+public record ProjectSourceFile(String path, String content) {}
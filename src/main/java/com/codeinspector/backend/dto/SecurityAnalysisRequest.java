@@ -0,0 +1,21 @@
+package com.codeinspector.backend.dto;
+
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.model.security.ReportMode;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SecurityAnalysisRequest {
+    private String sourceCode;
+    private AnalysisMode mode = AnalysisMode.REGEX;
+    private ExecutionMode execution = ExecutionMode.SEQUENTIAL;
+    private ReportMode report = ReportMode.INLINE;
+    // SARIF çıktısında bulguların konumu olarak kullanılır
+    private String fileName;
+}
@@ -11,5 +11,7 @@ public record SecurityAnalysisResult(
     Map<String, List<SecurityIssue>> vulnerabilities,
     List<SecurityRecommendation> recommendations,
     RiskMetrics riskMetrics,
-    String securityReport
+    String securityReport,
+    List<String> incompleteDetectors,
+    String ruleSetVersion
 ) {} 
\ No newline at end of file
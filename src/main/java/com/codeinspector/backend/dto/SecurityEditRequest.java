@@ -0,0 +1,16 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+
+import com.codeinspector.backend.model.security.TextEdit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SecurityEditRequest {
+    private List<TextEdit> edits;
+}
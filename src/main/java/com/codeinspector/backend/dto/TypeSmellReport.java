@@ -0,0 +1,17 @@
+package com.codeinspector.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// smellScores: yalnızca bu tipin metod ve alanları üzerinden hesaplanan skorlar;
+// details: tip düzeyindeki bulgular (metod bulguları methods altında)
+public record TypeSmellReport(
+    String name,
+    int line,
+    int methodCount,
+    int fieldCount,
+    Map<String, Double> smellScores,
+    List<String> details,
+    double overallScore,
+    List<MethodSmellReport> methods
+) {}
@@ -0,0 +1,6 @@
+package com.codeinspector.backend.model.analysis;
+
+public enum AnalysisMode {
+    REGEX,
+    AST
+}
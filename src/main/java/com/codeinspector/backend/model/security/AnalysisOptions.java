@@ -0,0 +1,22 @@
+package com.codeinspector.backend.model.security;
+
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+
+public record AnalysisOptions(
+    AnalysisMode mode,
+    ExecutionMode execution,
+    ReportMode report
+) {
+    public static final AnalysisOptions DEFAULT = new AnalysisOptions(AnalysisMode.REGEX, ExecutionMode.SEQUENTIAL);
+
+    public AnalysisOptions {
+        mode = mode == null ? AnalysisMode.REGEX : mode;
+        execution = execution == null ? ExecutionMode.SEQUENTIAL : execution;
+        report = report == null ? ReportMode.INLINE : report;
+    }
+
+    public AnalysisOptions(AnalysisMode mode, ExecutionMode execution) {
+        this(mode, execution, ReportMode.INLINE);
+    }
+}
@@ -0,0 +1,6 @@
+package com.codeinspector.backend.model.security;
+
+public enum ReportMode {
+    INLINE,
+    NONE
+}
@@ -0,0 +1,32 @@
+package com.codeinspector.backend.model.security;
+
+import java.util.List;
+
+/**
+ * Harici kural paketi dosyasının (YAML/JSON) şeması.
+ * Pattern'ler kaynağın tamamında, kurallar satır satır aranır.
+ */
+public record RulePack(
+    String name,
+    List<PatternSpec> patterns,
+    List<LineRuleSpec> rules
+) {
+    // anchors verilirse her eşleşme, başlangıcından en fazla anchorLead karakter sonra bu literal'lerden birini içermelidir
+    public record PatternSpec(
+        String id,
+        String regex,
+        RiskLevel risk,
+        String description,
+        String recommendation,
+        List<String> anchors,
+        Integer anchorLead
+    ) {}
+
+    public record LineRuleSpec(
+        String id,
+        String lineRegex,
+        RiskLevel risk,
+        String description,
+        String recommendation
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.codeinspector.backend.model.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Kural seti değişiminin özeti. Maliyetler kalibrasyon örneği üzerinde ölçülür,
+ * en pahalı kural en başta.
+ */
+public record RulePackReport(
+    String version,
+    List<String> packs,
+    Instant activatedAt,
+    double loadMillis,
+    int calibrationChars,
+    List<RuleCost> ruleCosts
+) {
+    public record RuleCost(
+        String ruleId,
+        String kind,
+        double compileMicros,
+        double scanMicros
+    ) {}
+}
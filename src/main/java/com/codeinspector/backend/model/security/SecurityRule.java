@@ -1,11 +1,56 @@
 package com.codeinspector.backend.model.security;
 
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * Kaynak satır satır bir kez dolaşılır; her kural her tarama için kendi
+ * LineEvaluator örneğini alır ve bulduğu her ihlali satırıyla bildirir.
+ * lineLocal kurallar yalnızca satırın kendisine bakar; artımlı taramada sadece değişen satırlarda çalışır.
+ */
 public record SecurityRule(
     String ruleId,
-    Predicate<String> condition,
+    Supplier<LineEvaluator> evaluator,
     RiskLevel riskLevel,
     String description,
-    String recommendation
-) {} 
\ No newline at end of file
+    String recommendation,
+    boolean lineLocal
+) {
+    public SecurityRule(
+        String ruleId,
+        Supplier<LineEvaluator> evaluator,
+        RiskLevel riskLevel,
+        String description,
+        String recommendation
+    ) {
+        this(ruleId, evaluator, riskLevel, description, recommendation, false);
+    }
+
+    public interface LineEvaluator {
+        void onLine(int lineNumber, String line, Violations violations);
+
+        // Dosya genelinde karar veren kurallar biriktirdiklerini burada bildirir
+        default void finish(Violations violations) {}
+    }
+
+    @FunctionalInterface
+    public interface Violations {
+        void report(int lineNumber, String line);
+    }
+
+    // Durumsuz kurallar: predicate'i sağlayan her satır bir ihlaldir
+    public static SecurityRule perLine(
+        String ruleId,
+        Predicate<String> linePredicate,
+        RiskLevel riskLevel,
+        String description,
+        String recommendation
+    ) {
+        LineEvaluator evaluator = (lineNumber, line, violations) -> {
+            if (linePredicate.test(line)) {
+                violations.report(lineNumber, line);
+            }
+        };
+        return new SecurityRule(ruleId, () -> evaluator, riskLevel, description, recommendation, true);
+    }
+}
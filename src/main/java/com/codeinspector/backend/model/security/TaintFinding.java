@@ -0,0 +1,19 @@
+package com.codeinspector.backend.model.security;
+
+import java.util.List;
+
+/**
+ * Kullanıcı girdisinin (kaynak) dosyalar arası çağrılar üzerinden tehlikeli bir çağrıya (sink) ulaştığı yol.
+ * trace: kaynağın kullanıldığı metoddan sink'e kadar çağrı zinciri, "Sınıf.metod (Dosya:satır)" biçiminde.
+ */
+public record TaintFinding(
+    String type,
+    RiskLevel riskLevel,
+    String source,
+    String sourceFile,
+    int sourceLine,
+    String sinkFile,
+    int sinkLine,
+    String sinkCode,
+    List<String> trace
+) {}
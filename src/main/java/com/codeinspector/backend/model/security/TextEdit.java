@@ -0,0 +1,11 @@
+package com.codeinspector.backend.model.security;
+
+/**
+ * [start, end) karakter aralığını text ile değiştirir. Bir listedeki düzenlemeler sırayla uygulanır;
+ * her biri bir öncekinin uygulandığı metne göre konumlanır.
+ */
+public record TextEdit(
+    int start,
+    int end,
+    String text
+) {}
@@ -1,10 +1,21 @@
 package com.codeinspector.backend.model.security;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
+/**
+ * anchors: her eşleşmenin başında (en fazla anchorLead karakter önce başlayarak) bulunan literal'ler.
+ * Boş bırakılırsa pattern ön filtre olmadan tüm kaynak üzerinde çalıştırılır.
+ */
 public record VulnerabilityPattern(
     Pattern pattern,
     RiskLevel riskLevel,
     String description,
-    String recommendation
-) {} 
\ No newline at end of file
+    String recommendation,
+    List<String> anchors,
+    int anchorLead
+) {
+    public VulnerabilityPattern(Pattern pattern, RiskLevel riskLevel, String description, String recommendation) {
+        this(pattern, riskLevel, description, recommendation, List.of(), 0);
+    }
+}
@@ -3,10 +3,13 @@ package com.codeinspector.backend.service;
 import org.springframework.stereotype.Service;
 
 import com.codeinspector.backend.dto.CodeComparisonResponse;
+import com.codeinspector.backend.dto.CodeMetrics;
 import com.codeinspector.backend.dto.CodeMetricsResponse;
+import com.codeinspector.backend.dto.MetricsTable;
 import com.codeinspector.backend.utils.CodeMetricsAnalyzer;
 import com.codeinspector.backend.utils.DuplicateCodeDetector;
 import com.codeinspector.backend.utils.SimianAnalyzer;
+import com.codeinspector.backend.utils.metrics.MetricsSort;
 
 @Service
 public class CodeComparisonService {
@@ -44,4 +47,12 @@ public class CodeComparisonService {
         var metrics = codeMetricsAnalyzer.analyzeMetrics(code);
         return new CodeMetricsResponse(metrics);
     }
+
+    public CodeMetrics computeMetrics(String code) {
+        return codeMetricsAnalyzer.computeMetrics(code);
+    }
+
+    public MetricsTable metricsTable(String code, MetricsSort sort, int top) {
+        return codeMetricsAnalyzer.metricsTable(code, sort, top);
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import com.codeinspector.backend.dto.GraphResponse;
 import com.codeinspector.backend.dto.GraphResponse.GraphNode;
 import com.codeinspector.backend.dto.GraphResponse.NodeType;
+import com.codeinspector.backend.utils.LineIndex;
 
 @Service
 public class CodeGraphService {
@@ -19,7 +20,8 @@ public class CodeGraphService {
 
         try {
             String[] lines = code.split("\n");
-            GraphNode rootNode = parseCode(lines, 0, lines.length - 1);
+            LineIndex lineIndex = LineIndex.of(code);
+            GraphNode rootNode = parseCode(lines, lineIndex, 0, lines.length - 1);
             complexity = calculateComplexity(rootNode);
             collectComplexityDetails(rootNode, complexityDetails);
 
@@ -29,7 +31,7 @@ public class CodeGraphService {
         }
     }
 
-    private GraphNode parseCode(String[] lines, int start, int end) {
+    private GraphNode parseCode(String[] lines, LineIndex lineIndex, int start, int end) {
         GraphNode currentNode = new GraphNode("root", start, end, NodeType.SEQUENCE);
         StringBuilder codeBuilder = new StringBuilder();
         
@@ -38,30 +40,30 @@ public class CodeGraphService {
             codeBuilder.append(lines[i]).append("\n");
             
             if (line.matches(".*\\b(if|else if)\\s*\\(.*")) {
-                GraphNode ifNode = parseIfBlock(lines, i);
+                GraphNode ifNode = parseIfBlock(lines, lineIndex, i);
                 currentNode.getChildren().add(ifNode);
-                parseCode(lines, ifNode.getStartLine() + 1, ifNode.getEndLine() - 1)
+                parseCode(lines, lineIndex, ifNode.getStartLine() + 1, ifNode.getEndLine() - 1)
                     .getChildren()
                     .forEach(child -> ifNode.getChildren().add(child));
                 i = ifNode.getEndLine();
             }
             else if (line.matches(".*\\b(while|for)\\s*\\(.*")) {
-                GraphNode loopNode = parseLoopBlock(lines, i);
+                GraphNode loopNode = parseLoopBlock(lines, lineIndex, i);
                 currentNode.getChildren().add(loopNode);
-                parseCode(lines, loopNode.getStartLine() + 1, loopNode.getEndLine() - 1)
+                parseCode(lines, lineIndex, loopNode.getStartLine() + 1, loopNode.getEndLine() - 1)
                     .getChildren()
                     .forEach(child -> loopNode.getChildren().add(child));
                 i = loopNode.getEndLine();
             }
             else if (line.matches(".*\\bswitch\\s*\\(.*")) {
-                GraphNode switchNode = parseSwitchBlock(lines, i);
+                GraphNode switchNode = parseSwitchBlock(lines, lineIndex, i);
                 currentNode.getChildren().add(switchNode);
                 i = switchNode.getEndLine();
             }
             else if (line.matches(".*\\b(public|private|protected)\\s+.*\\(.*\\)\\s*\\{")) {
-                GraphNode methodNode = parseMethodBlock(lines, i);
+                GraphNode methodNode = parseMethodBlock(lines, lineIndex, i);
                 currentNode.getChildren().add(methodNode);
-                parseCode(lines, methodNode.getStartLine() + 1, methodNode.getEndLine() - 1)
+                parseCode(lines, lineIndex, methodNode.getStartLine() + 1, methodNode.getEndLine() - 1)
                     .getChildren()
                     .forEach(child -> methodNode.getChildren().add(child));
                 i = methodNode.getEndLine();
@@ -72,32 +74,32 @@ public class CodeGraphService {
         return currentNode;
     }
 
-    private GraphNode parseIfBlock(String[] lines, int start) {
+    private GraphNode parseIfBlock(String[] lines, LineIndex lineIndex, int start) {
         int end = findBlockEnd(lines, start);
         GraphNode ifNode = new GraphNode("If Statement", start, end, NodeType.IF_CONDITION);
-        ifNode.setCode(extractCode(lines, start, end));
+        ifNode.setCode(extractCode(lineIndex, start, end));
         return ifNode;
     }
 
-    private GraphNode parseLoopBlock(String[] lines, int start) {
+    private GraphNode parseLoopBlock(String[] lines, LineIndex lineIndex, int start) {
         int end = findBlockEnd(lines, start);
         GraphNode loopNode = new GraphNode("Loop", start, end, NodeType.LOOP);
-        loopNode.setCode(extractCode(lines, start, end));
+        loopNode.setCode(extractCode(lineIndex, start, end));
         return loopNode;
     }
 
-    private GraphNode parseSwitchBlock(String[] lines, int start) {
+    private GraphNode parseSwitchBlock(String[] lines, LineIndex lineIndex, int start) {
         int end = findBlockEnd(lines, start);
         GraphNode switchNode = new GraphNode("Switch", start, end, NodeType.SWITCH_CASE);
-        switchNode.setCode(extractCode(lines, start, end));
+        switchNode.setCode(extractCode(lineIndex, start, end));
         return switchNode;
     }
 
-    private GraphNode parseMethodBlock(String[] lines, int start) {
+    private GraphNode parseMethodBlock(String[] lines, LineIndex lineIndex, int start) {
         int end = findBlockEnd(lines, start);
         String methodName = extractMethodName(lines[start]);
         GraphNode methodNode = new GraphNode("Method: " + methodName, start, end, NodeType.METHOD);
-        methodNode.setCode(extractCode(lines, start, end));
+        methodNode.setCode(extractCode(lineIndex, start, end));
         return methodNode;
     }
 
@@ -136,12 +138,9 @@ public class CodeGraphService {
         return "unknown";
     }
 
-    private String extractCode(String[] lines, int start, int end) {
-        StringBuilder code = new StringBuilder();
-        for (int i = start; i <= end; i++) {
-            code.append(lines[i]).append("\n");
-        }
-        return code.toString();
+    // Satırlar 0 tabanlı; blok kodu satır indeksinden tek substring ile alınır
+    private String extractCode(LineIndex lineIndex, int start, int end) {
+        return lineIndex.lines(start + 1, end + 1) + "\n";
     }
 
     private int calculateComplexity(GraphNode node) {
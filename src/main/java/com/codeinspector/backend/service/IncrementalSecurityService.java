@@ -0,0 +1,66 @@
+package com.codeinspector.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codeinspector.backend.dto.IncrementalAnalysisResponse;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.TextEdit;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import com.codeinspector.backend.utils.security.SecurityAnalysisSnapshot;
+
+/**
+ * Editör eklentileri için artımlı güvenlik analizi. Her analiz bir handle ile saklanır; düzenlemeler
+ * önceki handle'a uygulanır ve yeni bir handle döner. Eski handle'lar LRU ile düşer.
+ */
+@Service
+public class IncrementalSecurityService {
+
+    private final AdvancedSecurityAnalyzer securityAnalyzer;
+    private final int maxSessions;
+    private final Map<String, SecurityAnalysisSnapshot> snapshots;
+
+    public IncrementalSecurityService(
+        AdvancedSecurityAnalyzer securityAnalyzer,
+        @Value("${security.incremental.max-sessions:256}") int maxSessions
+    ) {
+        this.securityAnalyzer = securityAnalyzer;
+        this.maxSessions = maxSessions;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SecurityAnalysisSnapshot> eldest) {
+                return size() > IncrementalSecurityService.this.maxSessions;
+            }
+        };
+    }
+
+    public IncrementalAnalysisResponse start(String sourceCode, AnalysisOptions options) {
+        return store(securityAnalyzer.analyzeForEditing(sourceCode, options));
+    }
+
+    // Handle bilinmiyorsa (süresi dolmuş) istemci start ile yeniden başlamalıdır
+    public Optional<IncrementalAnalysisResponse> applyEdits(String handle, List<TextEdit> edits) {
+        SecurityAnalysisSnapshot previous;
+        synchronized (snapshots) {
+            previous = snapshots.get(handle);
+        }
+        if (previous == null) {
+            return Optional.empty();
+        }
+        return Optional.of(store(securityAnalyzer.reanalyze(previous, edits)));
+    }
+
+    private IncrementalAnalysisResponse store(SecurityAnalysisSnapshot snapshot) {
+        String handle = UUID.randomUUID().toString();
+        synchronized (snapshots) {
+            snapshots.put(handle, snapshot);
+        }
+        return new IncrementalAnalysisResponse(handle, snapshot.result(), snapshot.fullScan(), snapshot.rescannedLines());
+    }
+}
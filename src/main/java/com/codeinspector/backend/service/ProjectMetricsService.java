@@ -0,0 +1,114 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codeinspector.backend.dto.PackageMetrics;
+import com.codeinspector.backend.dto.ProjectMetricsResult;
+import com.codeinspector.backend.dto.ProjectSourceFile;
+import com.codeinspector.backend.utils.metrics.MemberMetricsScanner;
+import com.codeinspector.backend.utils.metrics.MetricsAggregator;
+import com.codeinspector.backend.utils.metrics.MetricsSweep;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Çok dosyalı metrik analizi. Dosyalar ForkJoinPool'da paralel ölçülür; dosya ve metod değerleri saklanmaz, paket
+ * başına QuantileSketch'lere eklenir. Dosya döngüsü {@link ProjectRun}'dır; bellekte bekleyen dosya sayısı havuz
+ * boyutuyla sınırlı ve görev nesneleri tutulmadığından bellek kullanımı dosya sayısıyla değil paket sayısıyla büyür.
+ */
+@Service
+public class ProjectMetricsService {
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final int maxFiles;
+    private final int maxFileBytes;
+
+    public ProjectMetricsService(
+        @Value("${code-analysis.metrics.max-files:100000}") int maxFiles,
+        @Value("${code-analysis.metrics.max-file-bytes:1048576}") int maxFileBytes
+    ) {
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    // JSON dosya listesi; boyut sınırı burada karakter sayısına uygulanır
+    public ProjectMetricsResult analyzeFiles(List<ProjectSourceFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("No files to analyze");
+        }
+        MetricsRun run = new MetricsRun();
+        for (ProjectSourceFile file : files) {
+            if (file.path() == null || file.content() == null) {
+                run.files.cancel();
+                throw new IllegalArgumentException("Each file needs a path and content");
+            }
+            if (file.content().length() > maxFileBytes) {
+                run.files.skip(file.path());
+                continue;
+            }
+            String content = file.content();
+            run.files.submit(file.path(), () -> content);
+        }
+        return run.finish();
+    }
+
+    // Arşivdeki .java dosyaları akış halinde okunur; max-file-bytes'tan büyük dosyalar atlanır
+    public ProjectMetricsResult analyzeArchive(InputStream archive) throws IOException {
+        MetricsRun run = new MetricsRun();
+        run.files.readArchive(archive);
+        return run.finish();
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    private final class MetricsRun {
+
+        private final Map<String, MetricsAggregator> packages = new ConcurrentHashMap<>();
+        private final ProjectRun files = new ProjectRun(pool, pool.getParallelism() * 2, maxFiles, maxFileBytes, "metrics",
+            (path, source) -> measure(source));
+
+        private void measure(String source) {
+            MetricsAggregator file = new MetricsAggregator();
+            file.addFile(MetricsSweep.sweep(source).codeLines());
+            MemberMetricsScanner.scan(source, type -> { }, file::addMethod);
+            MetricsAggregator target = packages.computeIfAbsent(ProjectRun.packageOf(source), name -> new MetricsAggregator());
+            synchronized (target) {
+                target.merge(file);
+            }
+        }
+
+        ProjectMetricsResult finish() {
+            files.finish();
+
+            MetricsAggregator project = new MetricsAggregator();
+            Map<String, PackageMetrics> packageResults = new TreeMap<>();
+            for (Map.Entry<String, MetricsAggregator> entry : new TreeMap<>(packages).entrySet()) {
+                packageResults.put(entry.getKey(), entry.getValue().result());
+                project.merge(entry.getValue());
+            }
+
+            int fileCount = files.fileCount();
+            double elapsedMillis = files.elapsedMillis();
+            return new ProjectMetricsResult(
+                fileCount,
+                project.result(),
+                packageResults,
+                files.skippedFiles(),
+                elapsedMillis,
+                elapsedMillis > 0 ? fileCount * 1000.0 / elapsedMillis : 0.0
+            );
+        }
+    }
+}
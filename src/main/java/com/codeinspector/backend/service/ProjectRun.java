@@ -0,0 +1,197 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Proje servislerinin ortak dosya döngüsü: dosyalar verilen executor'da işlenir, aynı anda bellekte bekleyen dosya
+ * sayısı izin sayısıyla sınırlıdır. Görev nesneleri tutulmaz; tamamlanma, finish() içinde tüm izinlerin geri
+ * alınmasıyla beklenir. İlk hata saklanır ve kalan dosyalar işlenmez. Dosyaları gönderen tek thread'den kullanılır.
+ */
+final class ProjectRun {
+
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    private static final String DEFAULT_PACKAGE = "(default package)";
+
+    interface SourceReader {
+        String read() throws IOException;
+    }
+
+    interface FileTask {
+        void process(String path, String source);
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final Executor executor;
+    private final int permits;
+    private final Semaphore inFlight;
+    private final int maxFiles;
+    private final int maxFileBytes;
+    private final String name;
+    private final FileTask task;
+    private final List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private volatile boolean cancelled;
+    private int submitted;
+
+    // name: hata mesajlarında görünen iş adı, ör. "scan" -> "Project scan failed"
+    ProjectRun(Executor executor, int permits, int maxFiles, int maxFileBytes, String name, FileTask task) {
+        this.executor = executor;
+        this.permits = permits;
+        this.inFlight = new Semaphore(permits);
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+        this.name = name;
+        this.task = task;
+    }
+
+    void submit(String path, SourceReader reader) {
+        if (submitted >= maxFiles) {
+            cancel();
+            throw new IllegalArgumentException("Project exceeds " + maxFiles + " files");
+        }
+        if (failure.get() != null) {
+            cancel();
+            throw new IllegalStateException("Project " + name + " failed", failure.get());
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new IllegalStateException("Project " + name + " interrupted", e);
+        }
+        submitted++;
+        executor.execute(() -> {
+            try {
+                if (!cancelled) {
+                    task.process(path, reader.read());
+                }
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+                cancelled = true;
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    void skip(String path) {
+        skipped.add(path);
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    // Arşivdeki .java dosyaları akış halinde okunur; maxFileBytes'tan büyük dosyalar atlanır
+    void readArchive(InputStream archive) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().endsWith(".java")) {
+                    continue;
+                }
+                byte[] content = zip.readNBytes(maxFileBytes + 1);
+                if (content.length > maxFileBytes) {
+                    skip(entry.getName());
+                    continue;
+                }
+                String source = new String(content, StandardCharsets.UTF_8);
+                submit(entry.getName(), () -> source);
+            }
+        } catch (ZipException e) {
+            cancel();
+            throw new IllegalArgumentException("Invalid zip archive: " + e.getMessage());
+        }
+    }
+
+    // Dizin root altında olmalıdır; karşılaştırma sembolik bağlar çözüldükten sonra yapılır, tarama sırasında bağlar
+    // izlenmez. Dosya içerikleri işçi thread'lerinde, bağ izlenmeden okunur
+    void readDirectory(Path root, String directory) throws IOException {
+        Path base;
+        Path realRoot;
+        try {
+            realRoot = root.toRealPath();
+            base = realRoot.resolve(directory).toRealPath();
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Not a directory under the analysis root: " + directory);
+        }
+        if (!base.startsWith(realRoot) || !Files.isDirectory(base)) {
+            throw new IllegalArgumentException("Not a directory under the analysis root: " + directory);
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            for (Path file : (Iterable<Path>) files.filter(path -> path.toString().endsWith(".java"))::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                String path = base.relativize(file).toString().replace('\\', '/');
+                if (attributes.size() > maxFileBytes) {
+                    skip(path);
+                    continue;
+                }
+                submit(path, () -> {
+                    try (InputStream in = Files.newInputStream(file, LinkOption.NOFOLLOW_LINKS)) {
+                        return new String(in.readNBytes(maxFileBytes), StandardCharsets.UTF_8);
+                    }
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            cancel();
+            throw e;
+        }
+    }
+
+    // Tüm görevlerin bitmesini bekler; bir görev hata verdiyse onu fırlatır
+    void finish() {
+        try {
+            inFlight.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new IllegalStateException("Project " + name + " interrupted", e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Project " + name + " failed", failure.get());
+        }
+    }
+
+    int fileCount() {
+        return submitted;
+    }
+
+    List<String> skippedFiles() {
+        List<String> sorted = new ArrayList<>(skipped);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    double elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    // Paket bildirimi olmayan dosyalar "(default package)" altında gruplanır
+    static String packageOf(String source) {
+        Matcher matcher = PACKAGE_PATTERN.matcher(source);
+        return matcher.find() ? matcher.group(1) : DEFAULT_PACKAGE;
+    }
+}
@@ -0,0 +1,143 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codeinspector.backend.dto.ProjectSecurityResult;
+import com.codeinspector.backend.dto.ProjectSourceFile;
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.ReportMode;
+import com.codeinspector.backend.model.security.TaintFinding;
+import com.codeinspector.backend.utils.security.MethodSummarizer;
+import com.codeinspector.backend.utils.security.MethodSummary;
+import com.codeinspector.backend.utils.security.TaintAnalyzer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Çok dosyalı proje taraması. Her dosya sanal thread'lerde bir kez ayrıştırılır, metod özetlerine indirgenir
+ * ve tek dosyalık analizden geçirilir; AST'ler tutulmaz. Aynı anda işlenen dosya sayısı sınırlıdır, böylece
+ * arşivden okunan kaynaklar da bellekte birikmez. Özetler toplandıktan sonra dosyalar arası taint analizi çalışır.
+ */
+@Service
+public class ProjectSecurityService {
+
+    private final SecurityService securityService;
+    private final MethodSummarizer summarizer = new MethodSummarizer();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxFiles;
+    private final int maxFileBytes;
+
+    public ProjectSecurityService(
+        SecurityService securityService,
+        @Value("${security.project.max-files:5000}") int maxFiles,
+        @Value("${security.project.max-file-bytes:1048576}") int maxFileBytes
+    ) {
+        this.securityService = securityService;
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    public ProjectSecurityResult analyzeFiles(List<ProjectSourceFile> files, AnalysisMode mode) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("No files to analyze");
+        }
+        ProjectScan scan = new ProjectScan(mode);
+        for (ProjectSourceFile file : files) {
+            if (file.path() == null || file.content() == null) {
+                scan.files.cancel();
+                throw new IllegalArgumentException("Each file needs a path and content");
+            }
+            String content = file.content();
+            scan.files.submit(file.path(), () -> content);
+        }
+        return scan.finish();
+    }
+
+    // Arşivdeki .java dosyaları akış halinde okunur; max-file-bytes'tan büyük dosyalar atlanır
+    public ProjectSecurityResult analyzeArchive(InputStream archive, AnalysisMode mode) throws IOException {
+        ProjectScan scan = new ProjectScan(mode);
+        scan.files.readArchive(archive);
+        return scan.finish();
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private final class ProjectScan {
+
+        private final AnalysisOptions options;
+        private final Map<String, SecurityAnalysisResult> results = new ConcurrentHashMap<>();
+        private final List<MethodSummary> methods = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, List<String>> supertypes = new HashMap<>();
+        private final List<String> unparsed = Collections.synchronizedList(new ArrayList<>());
+        private final ProjectRun files;
+
+        ProjectScan(AnalysisMode mode) {
+            this.options = new AnalysisOptions(mode, ExecutionMode.SEQUENTIAL, ReportMode.NONE);
+            this.files = new ProjectRun(executor, Runtime.getRuntime().availableProcessors() * 2, maxFiles, maxFileBytes,
+                "scan", this::scan);
+        }
+
+        private void scan(String path, String content) {
+            results.put(path, securityService.analyzeCode(content, options));
+            if (!path.endsWith(".java")) {
+                return;
+            }
+            Optional<MethodSummarizer.UnitSummary> summary = summarizer.summarize(path, content);
+            if (summary.isEmpty()) {
+                unparsed.add(path);
+                return;
+            }
+            methods.addAll(summary.get().methods());
+            synchronized (supertypes) {
+                summary.get().supertypes().forEach((type, parents) ->
+                    supertypes.computeIfAbsent(type, k -> new ArrayList<>()).addAll(parents));
+            }
+        }
+
+        ProjectSecurityResult finish() {
+            files.finish();
+            // Dosyaların tamamlanma sırası değişken; sonuç deterministik olsun diye özetler sıralanır
+            List<MethodSummary> sorted = new ArrayList<>(methods);
+            sorted.sort(Comparator.comparing(MethodSummary::file)
+                .thenComparingInt(MethodSummary::line)
+                .thenComparing(MethodSummary::name)
+                .thenComparingInt(MethodSummary::arity));
+            TaintAnalyzer taintAnalyzer = new TaintAnalyzer(sorted, supertypes);
+            List<TaintFinding> findings = taintAnalyzer.analyze();
+
+            List<String> skipped = new ArrayList<>(unparsed);
+            skipped.addAll(files.skippedFiles());
+            Collections.sort(skipped);
+            return new ProjectSecurityResult(
+                files.fileCount(),
+                sorted.size(),
+                skipped,
+                findings,
+                new TreeMap<>(results),
+                taintAnalyzer.rounds(),
+                files.elapsedMillis()
+            );
+        }
+    }
+}
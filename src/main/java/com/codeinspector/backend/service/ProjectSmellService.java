@@ -0,0 +1,122 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codeinspector.backend.dto.CodeAnalysisResult;
+import com.codeinspector.backend.dto.ProjectSmellResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.utils.CodeSmellAnalyzer;
+import com.codeinspector.backend.utils.smell.SmellAggregator;
+import com.codeinspector.backend.utils.smell.SmellProfile;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Modül/proje ölçeğinde kod kokusu analizi. Zip girdileri diske açılmadan akış halinde okunur, dizin taramasında
+ * dosyalar işçi thread'lerinde okunur; her dosya work-stealing bir ForkJoinPool'da analiz edilir. Aynı anda
+ * bellekte bekleyen dosya sayısı sınırlıdır. Sonuçlar sonunda yol sırasıyla paket ve proje düzeyinde birleştirilir.
+ */
+@Service
+public class ProjectSmellService {
+
+    private final CodeSmellAnalyzer analyzer;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final int maxFiles;
+    private final int maxFileBytes;
+    private final Path rootDirectory;
+
+    public ProjectSmellService(
+        CodeSmellAnalyzer analyzer,
+        @Value("${code-analysis.project.max-files:5000}") int maxFiles,
+        @Value("${code-analysis.project.max-file-bytes:1048576}") int maxFileBytes,
+        @Value("${code-analysis.project.root-dir:}") String rootDirectory
+    ) {
+        this.analyzer = analyzer;
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+        this.rootDirectory = rootDirectory.isBlank() ? null : Path.of(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    // Arşivdeki .java dosyaları sırayla okunur, analiz havuzda paralel yürür
+    public ProjectSmellResult analyzeArchive(InputStream archive, AnalysisMode mode, SmellProfile profile) throws IOException {
+        SmellRun run = new SmellRun(mode, profile);
+        run.files.readArchive(archive);
+        return run.finish();
+    }
+
+    // Dizin yalnızca code-analysis.project.root-dir altında olabilir; dosya içerikleri işçi thread'lerinde okunur
+    public ProjectSmellResult analyzeDirectory(String directory, AnalysisMode mode, SmellProfile profile) throws IOException {
+        if (rootDirectory == null) {
+            throw new IllegalArgumentException("Directory analysis is disabled (code-analysis.project.root-dir)");
+        }
+        SmellRun run = new SmellRun(mode, profile);
+        run.files.readDirectory(rootDirectory, directory);
+        return run.finish();
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    private record FileResult(String packageName, CodeAnalysisResult result) {}
+
+    private final class SmellRun {
+
+        private final Map<String, FileResult> results = new ConcurrentHashMap<>();
+        private final ProjectRun files;
+
+        SmellRun(AnalysisMode mode, SmellProfile profile) {
+            // Dosyalar havuzda paralel işlendiği için kontroller dosya içinde sıralı çalışır
+            files = new ProjectRun(pool, pool.getParallelism() * 2, maxFiles, maxFileBytes, "analysis", (path, source) ->
+                results.put(path, new FileResult(ProjectRun.packageOf(source),
+                    analyzer.analyzeCode(source, mode, ExecutionMode.SEQUENTIAL, profile))));
+        }
+
+        ProjectSmellResult finish() {
+            files.finish();
+
+            // Dosyalar yol sırasıyla birleştirilir; tamamlanma sırası sonucu etkilemez
+            List<String> checks = analyzer.checkNames();
+            Map<String, FileResult> sorted = new TreeMap<>(results);
+            Map<String, SmellAggregator> packageAggregates = new TreeMap<>();
+            Map<String, Double> fileScores = new TreeMap<>();
+            for (Map.Entry<String, FileResult> entry : sorted.entrySet()) {
+                FileResult file = entry.getValue();
+                packageAggregates.computeIfAbsent(file.packageName(), name -> new SmellAggregator(checks))
+                    .add(entry.getKey(), file.result(), 1);
+                fileScores.put(entry.getKey(), file.result().getOverallScore());
+            }
+
+            SmellAggregator project = new SmellAggregator(checks);
+            Map<String, CodeAnalysisResult> packages = new TreeMap<>();
+            for (Map.Entry<String, SmellAggregator> entry : packageAggregates.entrySet()) {
+                CodeAnalysisResult packageResult = entry.getValue().result();
+                packages.put(entry.getKey(), packageResult);
+                project.add(entry.getKey(), packageResult, entry.getValue().weight());
+            }
+
+            double elapsedMillis = files.elapsedMillis();
+            return new ProjectSmellResult(
+                sorted.size(),
+                project.result(),
+                packages,
+                fileScores,
+                files.skippedFiles(),
+                elapsedMillis,
+                elapsedMillis > 0 ? sorted.size() * 1000.0 / elapsedMillis : 0.0
+            );
+        }
+    }
+}
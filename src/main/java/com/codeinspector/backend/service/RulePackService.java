@@ -0,0 +1,140 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codeinspector.backend.model.security.RulePackReport;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import com.codeinspector.backend.utils.security.RulePackException;
+import com.codeinspector.backend.utils.security.RulePackLoader;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * security.rule-packs.dir altındaki kural paketlerini yükler ve dizin değiştiğinde yeniden yükler.
+ * Geçersiz bir paket reddedilir; etkin kural seti değişmeden kalır.
+ */
+@Service
+public class RulePackService {
+
+    private static final Logger log = LoggerFactory.getLogger(RulePackService.class);
+    // Editörlerin art arda yazdığı değişiklikler tek bir yeniden yüklemede toplanır
+    private static final long RELOAD_DEBOUNCE_MILLIS = 250;
+
+    private final AdvancedSecurityAnalyzer securityAnalyzer;
+    private final RulePackLoader loader = new RulePackLoader();
+    private final Path directory;
+    private volatile RulePackReport lastReport;
+    private WatchService watchService;
+
+    public RulePackService(
+        AdvancedSecurityAnalyzer securityAnalyzer,
+        @Value("${security.rule-packs.dir:}") String directory
+    ) {
+        this.securityAnalyzer = securityAnalyzer;
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+    }
+
+    // Dizin yoksa ya da izlenemiyorsa yerleşik kurallarla başlanır; reload() yine elle çağrılabilir
+    @PostConstruct
+    void start() {
+        if (directory == null) {
+            return;
+        }
+        if (!Files.isDirectory(directory)) {
+            log.warn("Rule pack directory {} not found, using built-in rules without watching", directory);
+            return;
+        }
+        try {
+            reload();
+        } catch (RulePackException e) {
+            log.error("Rule packs rejected, using built-in rules: {}", e.getMessage());
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("Rule pack directory {} cannot be watched, changes need a manual reload: {}", directory, e.getMessage());
+            stop();
+            return;
+        }
+        Thread.ofPlatform().daemon().name("rule-pack-watcher").start(this::watch);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Rule pack watcher did not close cleanly: {}", e.getMessage());
+        }
+        watchService = null;
+    }
+
+    public synchronized RulePackReport reload() {
+        if (directory == null) {
+            throw new RulePackException("No rule pack directory configured (security.rule-packs.dir)");
+        }
+        RulePackReport report = securityAnalyzer.applyRulePacks(loader.load(directory));
+        lastReport = report;
+        log.info("Activated security rules {} from {} in {} ms", report.version(), report.packs(),
+            String.format("%.1f", report.loadMillis()));
+        report.ruleCosts().stream().limit(5).forEach(cost ->
+            log.info("  {} {}: {} us per {} chars", cost.kind(), cost.ruleId(),
+                String.format("%.1f", cost.scanMicros()), report.calibrationChars()));
+        return report;
+    }
+
+    public Optional<RulePackReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                TimeUnit.MILLISECONDS.sleep(RELOAD_DEBOUNCE_MILLIS);
+                key.pollEvents();
+                WatchKey pending;
+                while ((pending = watchService.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                try {
+                    reload();
+                } catch (RulePackException e) {
+                    log.warn("Rule pack change rejected, keeping {}: {}", securityAnalyzer.getRuleSetVersion(), e.getMessage());
+                }
+                if (!key.reset()) {
+                    log.warn("Rule pack directory {} is no longer watched", directory);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Uygulama kapanıyor
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.codeinspector.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.ReportMode;
+import com.codeinspector.backend.model.security.RiskMetrics;
+import com.codeinspector.backend.model.security.SecurityIssue;
+import com.codeinspector.backend.model.security.SecurityRecommendation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * İçerik adresli güvenlik sonucu önbelleği. Anahtar kaynağın SHA-256 özeti, etkin kural seti
+ * sürümü, analiz modu ve rapor modudur. Bellek katmanı LRU ile sınırlıdır; isteğe bağlı disk
+ * katmanı sonuçları kural seti sürümü başına bir dizinde JSON olarak saklar ve kayıt sayısı
+ * aşıldığında en uzun süredir okunmayan kayıtları siler. Önbellekteki sonuçlar değiştirilemez.
+ * Eksik tamamlanan (zaman aşımı, bütçe aşımı) sonuçlar önbelleğe alınmaz.
+ */
+@Component
+public class SecurityResultCache {
+
+    private record CacheKey(String contentHash, String ruleSetVersion, AnalysisMode mode, ReportMode report) {}
+
+    private final int maxEntries;
+    private final Path directory;
+    private final int maxDiskEntries;
+    private final Object diskLock = new Object();
+    // Diskteki kayıt sayısı; ilk yazmada sayılır, sonra artırılarak izlenir (diskLock ile korunur)
+    private int diskEntries = -1;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<CacheKey, SecurityAnalysisResult> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+    private final LongAdder diskErrors = new LongAdder();
+
+    public SecurityResultCache(
+        @Value("${security.cache.max-entries:1000}") int maxEntries,
+        @Value("${security.cache.dir:}") String directory,
+        @Value("${security.cache.disk-max-entries:10000}") int maxDiskEntries
+    ) {
+        this.maxEntries = maxEntries;
+        this.directory = directory.isBlank() || maxDiskEntries <= 0 ? null : Path.of(directory);
+        this.maxDiskEntries = maxDiskEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, SecurityAnalysisResult> eldest) {
+                if (size() > SecurityResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public SecurityAnalysisResult getOrAnalyze(
+        String sourceCode,
+        AnalysisOptions options,
+        String ruleSetVersion,
+        Supplier<SecurityAnalysisResult> analysis
+    ) {
+        if (maxEntries <= 0) {
+            return analysis.get();
+        }
+        // Yürütme modu sonucu değiştirmez, anahtara girmez
+        CacheKey key = new CacheKey(contentHash(sourceCode), ruleSetVersion, options.mode(), options.report());
+
+        SecurityAnalysisResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        cached = readFromDisk(key);
+        if (cached != null) {
+            diskHits.increment();
+            cached = immutableCopy(cached);
+            putInMemory(key, cached);
+            return cached;
+        }
+
+        misses.increment();
+        SecurityAnalysisResult result = analysis.get();
+        // Analiz sırasında kural seti değiştiyse sonuç başka bir sürüme aittir
+        if (result.incompleteDetectors().isEmpty() && ruleSetVersion.equals(result.ruleSetVersion())) {
+            result = immutableCopy(result);
+            putInMemory(key, result);
+            writeToDisk(key, result);
+        }
+        return result;
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        snapshot.put("cache.hit", hits.sum());
+        snapshot.put("cache.disk_hit", diskHits.sum());
+        snapshot.put("cache.miss", misses.sum());
+        snapshot.put("cache.eviction", evictions.sum());
+        snapshot.put("cache.disk_eviction", diskEvictions.sum());
+        snapshot.put("cache.disk_error", diskErrors.sum());
+        synchronized (entries) {
+            snapshot.put("cache.size", (long) entries.size());
+        }
+        return snapshot;
+    }
+
+    private void putInMemory(CacheKey key, SecurityAnalysisResult result) {
+        synchronized (entries) {
+            entries.put(key, result);
+        }
+    }
+
+    private SecurityAnalysisResult readFromDisk(CacheKey key) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = diskPath(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            SecurityAnalysisResult result = objectMapper.readValue(file.toFile(), SecurityAnalysisResult.class);
+            // Silme sırası son okuma zamanına göredir
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (IOException e) {
+            // Bozuk kayıt silinir, sonuç yeniden hesaplanır
+            diskErrors.increment();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Bir sonraki yazma üzerine yazar
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(CacheKey key, SecurityAnalysisResult result) {
+        if (directory == null) {
+            return;
+        }
+        Path file = diskPath(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key.contentHash(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), result);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            synchronized (diskLock) {
+                diskEntries = diskEntries < 0 ? diskFiles().size() : diskEntries + 1;
+                if (diskEntries > maxDiskEntries) {
+                    diskEntries = pruneDisk();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Dizin taranırken silinen dosyalar UncheckedIOException olarak gelir
+            diskErrors.increment();
+        }
+    }
+
+    // Sınır aşıldığında her yazmada dizini taramamak için kayıt sayısı sınırın %90'ına indirilir
+    private int pruneDisk() throws IOException {
+        List<Path> files = diskFiles();
+        files.sort(Comparator.comparing(SecurityResultCache::lastModified));
+        int target = maxDiskEntries - maxDiskEntries / 10;
+        int removed = 0;
+        while (files.size() - removed > target) {
+            Files.deleteIfExists(files.get(removed++));
+            diskEvictions.increment();
+        }
+        return files.size() - removed;
+    }
+
+    private List<Path> diskFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files.filter(path -> path.toString().endsWith(".json") && Files.isRegularFile(path))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    // Aynı sonuç tüm çağıranlara döndüğü için iç koleksiyonlar değiştirilemez kopyalarla saklanır
+    private static SecurityAnalysisResult immutableCopy(SecurityAnalysisResult result) {
+        Map<String, List<SecurityIssue>> vulnerabilities = new LinkedHashMap<>();
+        result.vulnerabilities().forEach((type, issues) -> vulnerabilities.put(type, List.copyOf(issues)));
+        List<SecurityRecommendation> recommendations = result.recommendations().stream()
+            .map(recommendation -> new SecurityRecommendation(
+                recommendation.category(),
+                recommendation.description(),
+                recommendation.recommendation(),
+                recommendation.priority(),
+                List.copyOf(recommendation.relatedIssues())))
+            .toList();
+        RiskMetrics metrics = result.riskMetrics();
+        RiskMetrics riskMetrics = new RiskMetrics(
+            metrics.overallRiskScore(),
+            metrics.criticalIssues(),
+            metrics.highIssues(),
+            metrics.mediumIssues(),
+            metrics.lowIssues(),
+            metrics.codeQualityScore(),
+            metrics.securityScore(),
+            Collections.unmodifiableMap(new LinkedHashMap<>(metrics.categoryScores()))
+        );
+        return new SecurityAnalysisResult(
+            Collections.unmodifiableMap(vulnerabilities),
+            recommendations,
+            riskMetrics,
+            result.securityReport(),
+            List.copyOf(result.incompleteDetectors()),
+            result.ruleSetVersion()
+        );
+    }
+
+    private Path diskPath(CacheKey key) {
+        String name = key.contentHash() + "." + key.mode() + "." + key.report() + ".json";
+        return directory.resolve(key.ruleSetVersion().replaceAll("[^A-Za-z0-9._+-]", "_")).resolve(name);
+    }
+
+    // Sonuçlar farklı istemciler arasında paylaşıldığı için çakışma üretilebilen bir özet kullanılmaz
+    private static String contentHash(String sourceCode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sourceCode.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.codeinspector.backend.service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
 
 import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.security.AnalysisOptions;
 import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import com.codeinspector.backend.utils.security.SarifReportWriter;
+import com.codeinspector.backend.utils.security.SecurityReportWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -11,9 +22,39 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityService {
     
+    private static final String DEFAULT_ARTIFACT_URI = "Source.java";
+
     private final AdvancedSecurityAnalyzer securityAnalyzer;
+    private final SecurityResultCache resultCache;
 
     public SecurityAnalysisResult analyzeCode(String sourceCode) {
-        return securityAnalyzer.analyzeCode(sourceCode);
+        return analyzeCode(sourceCode, AnalysisOptions.DEFAULT);
+    }
+
+    public SecurityAnalysisResult analyzeCode(String sourceCode, AnalysisOptions options) {
+        return resultCache.getOrAnalyze(
+            sourceCode,
+            options,
+            securityAnalyzer.getRuleSetVersion(),
+            () -> securityAnalyzer.analyzeCode(sourceCode, options)
+        );
+    }
+
+    // Rapor tek bir String'de toplanmadan doğrudan yanıt akışına yazılır
+    public void writeReport(SecurityAnalysisResult result, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        SecurityReportWriter.write(result, writer);
+        writer.flush();
+    }
+
+    public void writeSarif(SecurityAnalysisResult result, String fileName, OutputStream out) throws IOException {
+        SarifReportWriter.write(result, fileName == null || fileName.isBlank() ? DEFAULT_ARTIFACT_URI : fileName, out);
+        out.flush();
+    }
+
+    public Map<String, Long> getScanMetrics() {
+        Map<String, Long> metrics = securityAnalyzer.getMetrics().snapshot();
+        metrics.putAll(resultCache.snapshot());
+        return metrics;
     }
 } 
\ No newline at end of file
@@ -1,22 +1,60 @@
 package com.codeinspector.backend.utils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.springframework.stereotype.Component;
 
 import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.ReportMode;
 import com.codeinspector.backend.model.security.RiskLevel;
 import com.codeinspector.backend.model.security.RiskMetrics;
+import com.codeinspector.backend.model.security.RulePackReport;
 import com.codeinspector.backend.model.security.SecurityIssue;
 import com.codeinspector.backend.model.security.SecurityRecommendation;
 import com.codeinspector.backend.model.security.SecurityRule;
+import com.codeinspector.backend.model.security.TextEdit;
 import com.codeinspector.backend.model.security.VulnerabilityPattern;
-
-
+import com.codeinspector.backend.utils.security.AstSecurityScanner;
+import com.codeinspector.backend.utils.security.BudgetExceededException;
+import com.codeinspector.backend.utils.security.CompiledRulePacks;
+import com.codeinspector.backend.utils.security.IncrementalPatternScan;
+import com.codeinspector.backend.utils.security.IncrementalPatternScan.EditRegion;
+import com.codeinspector.backend.utils.security.InsecureRandomDetector;
+import com.codeinspector.backend.utils.security.MultiPatternScanner;
+import com.codeinspector.backend.utils.security.ParallelDetectorRunner;
+import com.codeinspector.backend.utils.security.ParallelDetectorRunner.Detector;
+import com.codeinspector.backend.utils.security.RiskAggregator;
+import com.codeinspector.backend.utils.security.ScanBudget;
+import com.codeinspector.backend.utils.security.SecretDetector;
+import com.codeinspector.backend.utils.security.SecurityAnalysisSnapshot;
+import com.codeinspector.backend.utils.security.SecurityAnalysisSnapshot.Span;
+import com.codeinspector.backend.utils.security.SecurityReportWriter;
+import com.codeinspector.backend.utils.security.SecurityRuleSet;
+import com.codeinspector.backend.utils.security.SecurityScanMetrics;
+import com.codeinspector.backend.utils.security.SqlConcatenationDetector;
+import com.codeinspector.backend.utils.security.WeakCryptoDetector;
+import com.github.javaparser.ast.CompilationUnit;
+
+import jakarta.annotation.PreDestroy;
 
 @Component
 public class AdvancedSecurityAnalyzer {
@@ -27,6 +65,7 @@ public class AdvancedSecurityAnalyzer {
                 "XSS", 80,              // Kritik
                 "BROKEN_AUTH", 75,      // Yüksek
                 "SENSITIVE_DATA", 70,   // Yüksek
+                "HARDCODED_SECRET", 75, // Yüksek (CWE-798)
                 "UNSAFE_LOGGING", 30,   // Orta
                 "NULL_CHECK", 20        // Düşük
         );
@@ -45,18 +84,135 @@ public class AdvancedSecurityAnalyzer {
                 "XSS", 0.9,             // Kritik (uzaktan erişim mümkün)
                 "BROKEN_AUTH", 0.8,     // Yüksek (yerel erişim gerekebilir)
                 "SENSITIVE_DATA", 0.7,  // Orta (yerel erişim gerekebilir)
+                "HARDCODED_SECRET", 0.9, // Kritik (kaynağa erişen herkes kullanabilir)
                 "UNSAFE_LOGGING", 0.3,  // Düşük (genelde sınırlı etki)
                 "NULL_CHECK", 0.2       // Çok düşük (runtime ile sınırlı)
         );
 
     }
 
+    private static final int MAX_SNIPPET_LENGTH = 120;
+    private static final Duration DETECTOR_TIMEOUT = Duration.ofSeconds(10);
+    // Pattern başına regex adım bütçesi: girdi uzunluğuyla orantılı, küçük girdilerde alt sınırlı
+    private static final long MIN_PATTERN_STEPS = 1_000_000;
+    private static final long PATTERN_STEPS_PER_CHAR = 200;
+    private static final String BUILTIN_RULES_VERSION = "builtin-2";
+    // Artımlı taramada düzenlenen satırların çevresinde yeniden taranan satır sayısı;
+    // satır aşan regex okumaları ayrıca izlendiği için doğruluk buna bağlı değildir
+    private static final int INCREMENTAL_CONTEXT_LINES = 1;
+    // Kural maliyetlerinin ölçüldüğü örnek kaynak
+    private static final String CALIBRATION_SAMPLE = "/security/calibration-sample.txt";
+
+    // Artımlı taramada önceki analiz ve düzenlenen satırlar; değişmeyen bulgular yeniden kurulmaz
+    private record PreviousScan(SecurityAnalysisSnapshot snapshot, EditRegion edit, int firstLine, int newLastLine) {
+        int lineDelta(LineIndex lineIndex) {
+            return lineIndex.lineCount() - snapshot.lineIndex().lineCount();
+        }
+    }
+
+    // İstek başına tarama durumu; paralel modda dedektörler arasında paylaşılır
+    private record ScanContext(
+        SecurityRuleSet ruleSet,
+        String sourceCode,
+        LineIndex lineIndex,
+        ScanBudget budget,
+        Queue<String> truncations
+    ) {}
+
+    private static final class MissingNullCheckEvaluator implements SecurityRule.LineEvaluator {
+        private final List<Integer> nullLines = new ArrayList<>();
+        private final List<String> nullCode = new ArrayList<>();
+        private boolean hasNullCheck;
+
+        @Override
+        public void onLine(int lineNumber, String line, SecurityRule.Violations violations) {
+            if (hasNullCheck || !line.contains("null")) {
+                return;
+            }
+            if (line.contains("!= null") || line.contains("== null")) {
+                hasNullCheck = true;
+                nullLines.clear();
+                nullCode.clear();
+                return;
+            }
+            nullLines.add(lineNumber);
+            nullCode.add(line);
+        }
+
+        @Override
+        public void finish(SecurityRule.Violations violations) {
+            for (int i = 0; i < nullLines.size(); i++) {
+                violations.report(nullLines.get(i), nullCode.get(i));
+            }
+        }
+    }
+
+    // Yerleşik pattern ve kurallar; kural paketleri bunlara eklenir veya aynı id ile bunları geçersiz kılar
     private final Map<String, VulnerabilityPattern> securityPatterns = new HashMap<>();
     private final List<SecurityRule> securityRules = new ArrayList<>();
+    private final AstSecurityScanner astScanner;
+    // Etkin kural seti; applyRulePacks tek bir atama ile değiştirir
+    private volatile SecurityRuleSet ruleSet;
+    private final SecurityScanMetrics metrics = new SecurityScanMetrics();
+    private final ExecutorService detectorExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ParallelDetectorRunner parallelRunner = new ParallelDetectorRunner(detectorExecutor, DETECTOR_TIMEOUT);
 
     public AdvancedSecurityAnalyzer() {
         initializePatterns();
         initializeRules();
+        astScanner = new AstSecurityScanner(List.of(
+            new SqlConcatenationDetector(),
+            new WeakCryptoDetector(),
+            new InsecureRandomDetector()
+        ));
+        ruleSet = compileRuleSet(BUILTIN_RULES_VERSION, securityPatterns, securityRules);
+    }
+
+    @PreDestroy
+    void stop() {
+        detectorExecutor.shutdownNow();
+    }
+
+    private SecurityRuleSet compileRuleSet(String version, Map<String, VulnerabilityPattern> patterns, List<SecurityRule> rules) {
+        return new SecurityRuleSet(version, patterns, rules, astScanner.supersededPatterns(), this::weighIssueType);
+    }
+
+    public String getRuleSetVersion() {
+        return ruleSet.version();
+    }
+
+    // Paketler yerleşik kurallarla birleştirilip derlenir, ölçülür ve ardından etkinleştirilir.
+    // Süren analizler başladıkları kural setiyle tamamlanır.
+    public synchronized RulePackReport applyRulePacks(CompiledRulePacks packs) {
+        long started = System.nanoTime();
+        Map<String, VulnerabilityPattern> patterns = new HashMap<>(securityPatterns);
+        patterns.putAll(packs.patterns());
+        List<SecurityRule> rules = new ArrayList<>(securityRules);
+        for (SecurityRule rule : packs.rules()) {
+            rules.removeIf(existing -> existing.ruleId().equals(rule.ruleId()));
+            rules.add(rule);
+        }
+        String version = packs.fingerprint().isEmpty()
+            ? BUILTIN_RULES_VERSION
+            : BUILTIN_RULES_VERSION + "+" + packs.fingerprint();
+        SecurityRuleSet next = compileRuleSet(version, patterns, rules);
+        double loadMillis = (packs.loadNanos() + System.nanoTime() - started) / 1_000_000.0;
+
+        String sample = calibrationSample();
+        List<RulePackReport.RuleCost> costs = next.profile(sample, packs.compileNanos());
+        ruleSet = next;
+        return new RulePackReport(version, packs.packNames(), Instant.now(), loadMillis, sample.length(), costs);
+    }
+
+    private static String calibrationSample() {
+        try (InputStream in = AdvancedSecurityAnalyzer.class.getResourceAsStream(CALIBRATION_SAMPLE)) {
+            if (in == null) {
+                throw new IllegalStateException("Calibration sample not found: " + CALIBRATION_SAMPLE);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private void initializePatterns() {
@@ -65,35 +221,45 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("(executeQuery|executeUpdate)\\s*\\([^?]*\\+|jdbc:.*[^?]\\+"),
             RiskLevel.CRITICAL,
             "SQL/NoSQL Injection vulnerability",
-            "Use parameterized queries or ORM frameworks"
+            "Use parameterized queries or ORM frameworks",
+            List.of("executeQuery", "executeUpdate", "jdbc:"),
+            0
         ));
 
         securityPatterns.put("BROKEN_AUTH", new VulnerabilityPattern(
             Pattern.compile("(MD5|SHA1)\\.(digest|hash)|password\\s*=\\s*\"[^\"]*\"|crypto\\.createHash\\s*\\(\\s*['\"]md5['\"]\\)"),
             RiskLevel.HIGH,
             "Weak authentication mechanism",
-            "Use strong hashing algorithms (bcrypt, PBKDF2) and secure session management"
+            "Use strong hashing algorithms (bcrypt, PBKDF2) and secure session management",
+            List.of("MD5", "SHA1", "password", "crypto.createHash"),
+            0
         ));
 
         securityPatterns.put("SENSITIVE_DATA", new VulnerabilityPattern(
             Pattern.compile("(password|secret|key|token|credential)\\s*=\\s*\"[^\"]*\"|getenv\\(['\"](?:API_KEY|SECRET)['\"]\\)"),
             RiskLevel.HIGH,
             "Sensitive data exposure",
-            "Use encryption for sensitive data and secure key management"
+            "Use encryption for sensitive data and secure key management",
+            List.of("password", "secret", "key", "token", "credential", "getenv("),
+            0
         ));
 
         securityPatterns.put("XXE", new VulnerabilityPattern(
             Pattern.compile("DocumentBuilder|SAXParser|XMLReader"),
             RiskLevel.HIGH,
             "XML External Entity (XXE) vulnerability",
-            "Disable external entity processing in XML parsers"
+            "Disable external entity processing in XML parsers",
+            List.of("DocumentBuilder", "SAXParser", "XMLReader"),
+            0
         ));
 
         securityPatterns.put("BROKEN_ACCESS", new VulnerabilityPattern(
             Pattern.compile("@PermitAll|role\\s*=\\s*\"ROLE_ADMIN\"|hasRole\\(.*\\)"),
             RiskLevel.HIGH,
             "Broken access control",
-            "Implement proper authorization checks and role-based access control"
+            "Implement proper authorization checks and role-based access control",
+            List.of("@PermitAll", "role", "hasRole("),
+            0
         ));
 
         // Ek güvenlik kontrolleri
@@ -104,7 +270,9 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("(executeQuery|executeUpdate)\\s*\\([^?]*\\+|\"SELECT.*WHERE.*\\+.*\\\""),
             RiskLevel.CRITICAL,
             "SQL Injection vulnerability detected",
-            "Use PreparedStatement with parameterized queries instead of string concatenation"
+            "Use PreparedStatement with parameterized queries instead of string concatenation",
+            List.of("executeQuery", "executeUpdate", "\"SELECT"),
+            0
         ));
 
         // Unsafe Logging pattern'i
@@ -112,7 +280,9 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("System\\.out\\.println\\(.*\\)|System\\.err\\.println\\(.*\\)"),
             RiskLevel.MEDIUM,
             "Unsafe logging practice",
-            "Use a proper logging framework (e.g., SLF4J, Log4j) with appropriate log levels"
+            "Use a proper logging framework (e.g., SLF4J, Log4j) with appropriate log levels",
+            List.of("System.out.println(", "System.err.println("),
+            0
         ));
 
         // Null Check pattern'i
@@ -120,7 +290,9 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("if\\s*\\([^=]*==\\s*null\\)|if\\s*\\([^=]*!=\\s*null\\)"),
             RiskLevel.LOW,
             "Basic null check found",
-            "Consider using Optional<T> or Objects.requireNonNull() for better null handling"
+            "Consider using Optional<T> or Objects.requireNonNull() for better null handling",
+            List.of("if"),
+            0
         ));
     }
 
@@ -130,7 +302,9 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("DES|RC2|RC4|Blowfish|ECB|([^S]|^)DES"),
             RiskLevel.HIGH,
             "Weak cryptographic algorithm",
-            "Use strong algorithms like AES-256-GCM"
+            "Use strong algorithms like AES-256-GCM",
+            List.of("DES", "RC2", "RC4", "Blowfish", "ECB"),
+            1
         ));
 
         // Güvensiz Rastgele Sayı Üretimi
@@ -138,7 +312,9 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("Math\\.random|Random\\(\\)|java\\.util\\.Random"),
             RiskLevel.MEDIUM,
             "Insecure random number generation",
-            "Use SecureRandom for cryptographic operations"
+            "Use SecureRandom for cryptographic operations",
+            List.of("Math.random", "Random()", "java.util.Random"),
+            0
         ));
 
         // Log Injection
@@ -146,23 +322,26 @@ public class AdvancedSecurityAnalyzer {
             Pattern.compile("logger\\.(info|error|debug)\\(.*\\+.*\\)"),
             RiskLevel.MEDIUM,
             "Potential log injection",
-            "Sanitize log inputs and use proper logging frameworks"
+            "Sanitize log inputs and use proper logging frameworks",
+            List.of("logger."),
+            0
         ));
     }
 
     private void initializeRules() {
         // Kod Kalitesi Kuralları
+        // Dosyada hiç null kontrolü yoksa null kullanılan her satır raporlanır
         securityRules.add(new SecurityRule(
             "NULL_CHECK",
-            code -> code.contains("null") && !code.contains("!= null") && !code.contains("== null"),
+            MissingNullCheckEvaluator::new,
             RiskLevel.MEDIUM,
             "Missing null checks",
             "Add proper null checks to prevent NullPointerException"
         ));
 
-        securityRules.add(new SecurityRule(
+        securityRules.add(SecurityRule.perLine(
             "EXCEPTION_HANDLING",
-            code -> code.contains("catch") && code.contains("Exception") && !code.contains("specific"),
+            line -> line.contains("catch") && line.contains("Exception"),
             RiskLevel.MEDIUM,
             "Generic exception handling",
             "Use specific exception types and proper error handling"
@@ -174,165 +353,519 @@ public class AdvancedSecurityAnalyzer {
 
     private void addSecurityRules() {
         // Thread Safety
-        securityRules.add(new SecurityRule(
+        securityRules.add(SecurityRule.perLine(
             "THREAD_SAFETY",
-            code -> code.contains("synchronized") || code.contains("volatile"),
+            line -> line.contains("synchronized") || line.contains("volatile"),
             RiskLevel.MEDIUM,
             "Potential thread safety issues",
             "Ensure proper synchronization in multi-threaded code"
         ));
 
         // Resource Management
-        securityRules.add(new SecurityRule(
+        securityRules.add(SecurityRule.perLine(
             "RESOURCE_LEAK",
-            code -> code.contains("new FileInputStream") || code.contains("new Socket"),
+            line -> line.contains("new FileInputStream") || line.contains("new Socket"),
             RiskLevel.HIGH,
             "Potential resource leak",
             "Use try-with-resources for proper resource management"
         ));
+
+        // Gömülü sırlar: anahtar kelime ön filtresi ve entropi kontrolü
+        securityRules.add(SecretDetector.rule());
+    }
+
+    public SecurityScanMetrics getMetrics() {
+        return metrics;
     }
 
     public SecurityAnalysisResult analyzeCode(String sourceCode) {
+        return analyzeCode(sourceCode, AnalysisOptions.DEFAULT);
+    }
+
+    public SecurityAnalysisResult analyzeCode(String sourceCode, AnalysisMode mode) {
+        return analyzeCode(sourceCode, new AnalysisOptions(mode, ExecutionMode.SEQUENTIAL));
+    }
+
+    public SecurityAnalysisResult analyzeCode(String sourceCode, AnalysisOptions options) {
         Map<String, List<SecurityIssue>> vulnerabilities = new HashMap<>();
-        List<SecurityRecommendation> recommendations = new ArrayList<>();
-        
-        // Pattern-based analysis
-        analyzePatterns(sourceCode, vulnerabilities);
-        
-        // Rule-based analysis
-        analyzeRules(sourceCode, vulnerabilities);
-        
-        // Generate recommendations
-        generateRecommendations(vulnerabilities, recommendations);
-        
-        // Calculate risk metrics
-        RiskMetrics riskMetrics = calculateRiskMetrics(vulnerabilities);
+        ScanContext context = newContext(ruleSet, sourceCode, LineIndex.of(sourceCode));
+        List<String> incompleteDetectors = new ArrayList<>();
+
+        // Pattern, AST ve kural dedektörleri
+        List<Detector> detectors = buildDetectors(context, options);
+        if (options.execution() == ExecutionMode.PARALLEL) {
+            List<String> timedOut = parallelRunner.runAll(detectors, vulnerabilities);
+            timedOut.forEach(metrics::recordDetectorTimeout);
+            incompleteDetectors.addAll(timedOut);
+        } else {
+            detectors.forEach(detector -> detector.body().accept(vulnerabilities));
+        }
+        incompleteDetectors.addAll(context.truncations());
+        return assembleResult(context, options, vulnerabilities, incompleteDetectors);
+    }
+
+    // Tam analiz yapar ve reanalyze için ham eşleşmeleri saklar. AST modunda her düzenleme tam analizdir.
+    public SecurityAnalysisSnapshot analyzeForEditing(String sourceCode, AnalysisOptions options) {
+        LineIndex lineIndex = LineIndex.of(sourceCode);
+        if (options.mode() == AnalysisMode.AST) {
+            return new SecurityAnalysisSnapshot(sourceCode, lineIndex, options, null, null, null,
+                analyzeCode(sourceCode, options), true, lineIndex.lineCount());
+        }
+        ScanContext context = newContext(ruleSet, sourceCode, lineIndex);
+        Map<String, List<Span>> spans = new HashMap<>();
+        Map<String, List<Span>> reads = new HashMap<>();
+        context.ruleSet().patternScanners(false, false).get("all")
+            .scan(sourceCode, context.budget(), spanCollector(context, spans, reads));
+        Map<String, List<Integer>> hits = new HashMap<>();
+        evaluateRules(context.ruleSet().rules(), lineIndex, 1, lineIndex.lineCount(), hitCollector(hits));
+        metrics.increment("incremental.full");
+        return buildSnapshot(context, options, new IncrementalPatternScan.Result(spans, reads), hits, null, lineIndex.lineCount());
+    }
+
+    /**
+     * Önceki analizi düzenlemelere göre günceller: yalnızca düzenlenen satırlar ve çevresindeki
+     * INCREMENTAL_CONTEXT_LINES satır yeniden taranır, diğer bulgular kaydırılarak korunur.
+     * Dosya genelinde karar veren kurallar (lineLocal olmayanlar) tüm satırlarda yeniden çalışır.
+     */
+    public SecurityAnalysisSnapshot reanalyze(SecurityAnalysisSnapshot previous, List<TextEdit> edits) {
+        if (edits.isEmpty()) {
+            return previous;
+        }
+        StringBuilder text = new StringBuilder(previous.sourceCode());
+        int dirtyStart = Integer.MAX_VALUE;
+        int dirtyEnd = -1;
+        for (TextEdit edit : edits) {
+            if (edit.text() == null || edit.start() < 0 || edit.end() < edit.start() || edit.end() > text.length()) {
+                throw new IllegalArgumentException(
+                    "Invalid edit [" + edit.start() + ", " + edit.end() + ") for document of length " + text.length());
+            }
+            int inserted = edit.text().length();
+            // Önceki düzenlemelerin kirli aralığı bu düzenlemeye göre kaydırılır
+            if (dirtyEnd >= edit.end()) {
+                dirtyEnd += inserted - (edit.end() - edit.start());
+            }
+            dirtyStart = Math.min(dirtyStart, edit.start());
+            dirtyEnd = Math.max(dirtyEnd, edit.start() + inserted);
+            text.replace(edit.start(), edit.end(), edit.text());
+        }
+        String sourceCode = text.toString();
+
+        SecurityRuleSet rules = ruleSet;
+        if (!previous.isReusable() || !rules.version().equals(previous.result().ruleSetVersion())) {
+            return analyzeForEditing(sourceCode, previous.options());
+        }
+
+        LineIndex lineIndex = LineIndex.of(sourceCode);
+        EditRegion region = new EditRegion(dirtyStart, dirtyEnd - (sourceCode.length() - previous.sourceCode().length()), dirtyEnd);
+        int firstLine = previous.lineIndex().lineOf(region.start());
+        int oldLastLine = previous.lineIndex().lineOf(region.oldEnd());
+        int newLastLine = lineIndex.lineOf(region.newEnd());
+        int windowFirst = Math.max(1, firstLine - INCREMENTAL_CONTEXT_LINES);
+        int windowLast = Math.min(lineIndex.lineCount(), newLastLine + INCREMENTAL_CONTEXT_LINES);
+        int windowStart = lineIndex.lineStart(windowFirst);
+        int windowEnd = windowLast < lineIndex.lineCount() ? lineIndex.lineStart(windowLast + 1) : sourceCode.length();
+        // Büyük düzenlemelerde kaydırma maliyeti tam taramayı geçer
+        if (windowEnd - windowStart > sourceCode.length() / 2) {
+            return analyzeForEditing(sourceCode, previous.options());
+        }
+
+        ScanContext context = newContext(rules, sourceCode, lineIndex);
+        IncrementalPatternScan.Result matches = IncrementalPatternScan.rescan(
+            rules.patternScanners(false, false).get("all"),
+            rules.patterns(),
+            sourceCode,
+            new IncrementalPatternScan.Result(previous.patternMatches(), previous.lineCrossingReads()),
+            region,
+            windowStart,
+            windowEnd,
+            context.budget(),
+            spanCollector(context, new HashMap<>(), new HashMap<>())
+        );
+
+        // Satır kuralları: önek + değişen satırlar + kaydırılmış sonek; diğer kurallar baştan
+        Map<String, List<Integer>> hits = new HashMap<>();
+        List<SecurityRule> lineLocalRules = new ArrayList<>();
+        List<SecurityRule> fileRules = new ArrayList<>();
+        for (SecurityRule rule : rules.rules()) {
+            (rule.lineLocal() ? lineLocalRules : fileRules).add(rule);
+        }
+        int lineDelta = newLastLine - oldLastLine;
+        for (SecurityRule rule : lineLocalRules) {
+            List<Integer> prefix = new ArrayList<>();
+            for (int line : previous.ruleHits().getOrDefault(rule.ruleId(), List.of())) {
+                if (line < firstLine) {
+                    prefix.add(line);
+                }
+            }
+            hits.put(rule.ruleId(), prefix);
+        }
+        evaluateRules(lineLocalRules, lineIndex, firstLine, newLastLine, hitCollector(hits));
+        for (SecurityRule rule : lineLocalRules) {
+            for (int line : previous.ruleHits().getOrDefault(rule.ruleId(), List.of())) {
+                if (line > oldLastLine) {
+                    hits.get(rule.ruleId()).add(line + lineDelta);
+                }
+            }
+        }
+        evaluateRules(fileRules, lineIndex, 1, lineIndex.lineCount(), hitCollector(hits));
+
+        metrics.increment("incremental.partial");
+        return buildSnapshot(context, previous.options(), matches, hits,
+            new PreviousScan(previous, region, firstLine, newLastLine), windowLast - windowFirst + 1);
+    }
+
+    private MultiPatternScanner.MatchHandler spanCollector(
+        ScanContext context,
+        Map<String, List<Span>> spans,
+        Map<String, List<Span>> reads
+    ) {
+        return new MultiPatternScanner.MatchHandler() {
+            @Override
+            public void onMatch(String patternType, VulnerabilityPattern vulnPattern, int start, int end) {
+                spans.computeIfAbsent(patternType, k -> new ArrayList<>()).add(new Span(start, end));
+            }
+
+            @Override
+            public void onTruncated(String patternType, VulnerabilityPattern vulnPattern, int offset, BudgetExceededException.Reason reason) {
+                recordTruncation(context, patternType, offset, reason);
+            }
+
+            @Override
+            public boolean tracksReads() {
+                return true;
+            }
+
+            @Override
+            public void onLineCrossingRead(String patternType, int start, int horizon) {
+                reads.computeIfAbsent(patternType, k -> new ArrayList<>()).add(new Span(start, horizon));
+            }
+        };
+    }
+
+    private static Function<SecurityRule, SecurityRule.Violations> hitCollector(Map<String, List<Integer>> hits) {
+        return rule -> (lineNumber, line) -> hits.computeIfAbsent(rule.ruleId(), k -> new ArrayList<>()).add(lineNumber);
+    }
+
+    // Bulgular tam analizle aynı sırada kurulur: önce pattern eşleşmeleri, sonra kural ihlalleri.
+    // previous verilirse düzenleme dışındaki bulgular önceki sonuçtan satır numarası kaydırılarak alınır.
+    private SecurityAnalysisSnapshot buildSnapshot(
+        ScanContext context,
+        AnalysisOptions options,
+        IncrementalPatternScan.Result matches,
+        Map<String, List<Integer>> hits,
+        PreviousScan previous,
+        int rescannedLines
+    ) {
+        Map<String, List<SecurityIssue>> vulnerabilities = new HashMap<>();
+        matches.matches().forEach((type, typeSpans) -> {
+            VulnerabilityPattern vulnPattern = context.ruleSet().patterns().get(type);
+            List<Span> oldSpans = previous == null ? List.of() : previous.snapshot().patternMatches().getOrDefault(type, List.of());
+            List<SecurityIssue> oldIssues = previous == null ? List.of() : previous.snapshot().result().vulnerabilities().get(type);
+            int j = 0;
+            for (Span span : typeSpans) {
+                SecurityIssue issue = null;
+                Span old = previous == null ? null : previousSpan(span, previous.edit());
+                if (old != null) {
+                    while (j < oldSpans.size() && oldSpans.get(j).start() < old.start()) {
+                        j++;
+                    }
+                    if (j < oldSpans.size() && oldSpans.get(j).equals(old)) {
+                        issue = shiftIssue(oldIssues.get(j), old == span ? 0 : previous.lineDelta(context.lineIndex()));
+                    }
+                }
+                vulnerabilities.computeIfAbsent(type, k -> new ArrayList<>())
+                    .add(issue != null ? issue : createPatternIssue(context, type, vulnPattern, span.start(), span.end()));
+            }
+        });
+        for (SecurityRule rule : context.ruleSet().rules()) {
+            List<Integer> oldHits = previous == null ? List.of() : previous.snapshot().ruleHits().getOrDefault(rule.ruleId(), List.of());
+            // Kural bulguları listede aynı tipteki pattern bulgularından sonra gelir
+            int offset = previous == null ? 0 : previous.snapshot().patternMatches().getOrDefault(rule.ruleId(), List.of()).size();
+            int j = 0;
+            for (int line : hits.getOrDefault(rule.ruleId(), List.of())) {
+                SecurityIssue issue = null;
+                if (previous != null && (line < previous.firstLine() || line > previous.newLastLine())) {
+                    int lineDelta = line < previous.firstLine() ? 0 : previous.lineDelta(context.lineIndex());
+                    while (j < oldHits.size() && oldHits.get(j) < line - lineDelta) {
+                        j++;
+                    }
+                    if (j < oldHits.size() && oldHits.get(j) == line - lineDelta) {
+                        issue = shiftIssue(previous.snapshot().result().vulnerabilities().get(rule.ruleId()).get(offset + j), lineDelta);
+                    }
+                }
+                vulnerabilities.computeIfAbsent(rule.ruleId(), k -> new ArrayList<>())
+                    .add(issue != null ? issue : createRuleIssue(rule, line, context.lineIndex().line(line)));
+            }
+        }
+
+        SecurityAnalysisResult result = assembleResult(context, options, vulnerabilities, new ArrayList<>(context.truncations()));
+        return new SecurityAnalysisSnapshot(context.sourceCode(), context.lineIndex(), options,
+            matches.matches(), matches.reads(), hits, result, previous == null, rescannedLines);
+    }
+
+    // Metni düzenlemeden etkilenmeyen eşleşmenin eski koordinatları; etkilenmişse null
+    private static Span previousSpan(Span span, EditRegion edit) {
+        if (span.end() <= edit.start()) {
+            return span;
+        }
+        if (span.start() >= edit.newEnd()) {
+            return new Span(span.start() - edit.delta(), span.end() - edit.delta());
+        }
+        return null;
+    }
+
+    private SecurityIssue shiftIssue(SecurityIssue issue, int lineDelta) {
+        if (lineDelta == 0) {
+            return issue;
+        }
+        int lineNumber = issue.lineNumber() + lineDelta;
+        return new SecurityIssue(issue.type(), issue.description(), issue.riskLevel(), lineNumber, issue.vulnerableCode(),
+            issue.recommendation(), issue.impact(), calculateSeverityScore(issue.riskLevel(), lineNumber));
+    }
+
+    private ScanContext newContext(SecurityRuleSet rules, String sourceCode, LineIndex lineIndex) {
+        return new ScanContext(
+            rules,
+            sourceCode,
+            lineIndex,
+            new ScanBudget(
+                Math.max(MIN_PATTERN_STEPS, PATTERN_STEPS_PER_CHAR * sourceCode.length()),
+                System.nanoTime() + DETECTOR_TIMEOUT.toNanos()
+            ),
+            new ConcurrentLinkedQueue<>()
+        );
+    }
+
+    private SecurityAnalysisResult assembleResult(
+        ScanContext context,
+        AnalysisOptions options,
+        Map<String, List<SecurityIssue>> vulnerabilities,
+        List<String> incompleteDetectors
+    ) {
+        metrics.recordScan(!incompleteDetectors.isEmpty());
+        // Öneriler ve risk metrikleri bulgular üzerinden tek geçişte toplanan sayaçlardan türetilir
+        RiskAggregator.Totals totals = context.ruleSet().riskAggregator().aggregate(vulnerabilities);
+        List<SecurityRecommendation> recommendations = generateRecommendations(totals);
+        RiskMetrics riskMetrics = calculateRiskMetrics(totals);
         
         return new SecurityAnalysisResult(
             vulnerabilities,
             recommendations,
             riskMetrics,
-            generateSecurityReport(vulnerabilities, recommendations, riskMetrics)
+            // Rapor yalnızca istenirse üretilir; akış olarak isteyenler SecurityReportWriter'ı kullanır
+            options.report() == ReportMode.INLINE
+                ? generateSecurityReport(vulnerabilities, recommendations, riskMetrics)
+                : null,
+            incompleteDetectors,
+            context.ruleSet().version()
         );
     }
 
-    private void analyzePatterns(String sourceCode, Map<String, List<SecurityIssue>> vulnerabilities) {
-        for (Map.Entry<String, VulnerabilityPattern> entry : securityPatterns.entrySet()) {
-            String patternType = entry.getKey();
-            VulnerabilityPattern vulnPattern = entry.getValue();
-            Matcher matcher = vulnPattern.pattern().matcher(sourceCode);
-            List<SecurityIssue> issues = new ArrayList<>();
+    private List<Detector> buildDetectors(ScanContext context, AnalysisOptions options) {
+        String sourceCode = context.sourceCode();
+        boolean astMode = options.mode() == AnalysisMode.AST;
+        Map<String, MultiPatternScanner> scanners = context.ruleSet()
+            .patternScanners(astMode, options.execution() == ExecutionMode.PARALLEL);
+
+        List<Detector> detectors = new ArrayList<>();
+        scanners.forEach((name, scanner) -> detectors.add(new Detector(
+            "patterns:" + name,
+            out -> analyzePatterns(context, scanner, out)
+        )));
+
+        // AST modu: dedektörlerin tetikleyicisi yoksa ayrıştırma atlanır; ayrıştırılamayan kaynaklarda
+        // AST'nin yerini aldığı regex pattern'leri çalıştırılır
+        if (astMode && astScanner.isApplicable(sourceCode)) {
+            detectors.add(new Detector("ast", out -> {
+                Optional<CompilationUnit> unit = astScanner.parse(sourceCode);
+                if (unit.isPresent()) {
+                    analyzeAst(unit.get(), context, out);
+                } else {
+                    analyzePatterns(context, context.ruleSet().supersededPatternScanner(), out);
+                }
+            }));
+        }
 
-            while (matcher.find()) {
-                String matchedCode = matcher.group();
-                int lineNumber = getLineNumber(sourceCode, matcher.start());
-                
-                SecurityIssue issue = new SecurityIssue(
-                    patternType,
-                    vulnPattern.description(),
-                    vulnPattern.riskLevel(),
-                    lineNumber,
-                    matchedCode,
-                    vulnPattern.recommendation(),
-                    calculateImpact(vulnPattern.riskLevel()),
-                    calculateSeverityScore(vulnPattern.riskLevel(), lineNumber)
-                );
-                issues.add(issue);
+        // Rule-based analysis
+        detectors.add(new Detector("rules", out -> analyzeRules(context, out)));
+        return detectors;
+    }
+
+    private void analyzePatterns(
+        ScanContext context,
+        MultiPatternScanner scanner,
+        Map<String, List<SecurityIssue>> vulnerabilities
+    ) {
+        String sourceCode = context.sourceCode();
+        scanner.scan(sourceCode, context.budget(), new MultiPatternScanner.MatchHandler() {
+            @Override
+            public void onMatch(String patternType, VulnerabilityPattern vulnPattern, int start, int end) {
+                vulnerabilities.computeIfAbsent(patternType, k -> new ArrayList<>())
+                    .add(createPatternIssue(context, patternType, vulnPattern, start, end));
             }
 
-            if (!issues.isEmpty()) {
-                vulnerabilities.put(patternType, issues);
+            @Override
+            public void onTruncated(String patternType, VulnerabilityPattern vulnPattern, int offset, BudgetExceededException.Reason reason) {
+                recordTruncation(context, patternType, offset, reason);
             }
-        }
+        });
     }
 
-    private void analyzeRules(String sourceCode, Map<String, List<SecurityIssue>> vulnerabilities) {
-        for (SecurityRule rule : securityRules) {
-            if (rule.condition().test(sourceCode)) {
-                SecurityIssue issue = new SecurityIssue(
-                    rule.ruleId(),
-                    rule.description(),
-                    rule.riskLevel(),
-                    findRuleViolationLine(sourceCode, rule),
-                    extractRelevantCode(sourceCode, rule),
-                    rule.recommendation(),
-                    calculateImpact(rule.riskLevel()),
-                    calculateSeverityScore(rule.riskLevel(), 0)
-                );
-                
-                vulnerabilities.computeIfAbsent(rule.ruleId(), k -> new ArrayList<>()).add(issue);
-            }
-        }
+    private SecurityIssue createPatternIssue(ScanContext context, String patternType, VulnerabilityPattern vulnPattern, int start, int end) {
+        String matchedCode = context.sourceCode().substring(start, end);
+        int lineNumber = context.lineIndex().lineOf(start);
+
+        return new SecurityIssue(
+            patternType,
+            vulnPattern.description(),
+            vulnPattern.riskLevel(),
+            lineNumber,
+            matchedCode,
+            vulnPattern.recommendation(),
+            calculateImpact(vulnPattern.riskLevel()),
+            calculateSeverityScore(vulnPattern.riskLevel(), lineNumber)
+        );
     }
 
-    private void generateRecommendations(
-        Map<String, List<SecurityIssue>> vulnerabilities, 
-        List<SecurityRecommendation> recommendations
+    // Bütçeyi aşan pattern'in o noktaya kadarki bulguları korunur
+    private void recordTruncation(ScanContext context, String patternType, int offset, BudgetExceededException.Reason reason) {
+        metrics.recordBudgetExceeded(patternType, reason);
+        context.truncations().add(String.format("%s: analysis truncated at line %d (%s)",
+            patternType,
+            context.lineIndex().lineOf(offset),
+            reason == BudgetExceededException.Reason.DEADLINE ? "time limit exceeded" : "step budget exceeded"));
+    }
+
+    private void analyzeAst(
+        CompilationUnit unit,
+        ScanContext context,
+        Map<String, List<SecurityIssue>> vulnerabilities
     ) {
-        Map<String, List<SecurityIssue>> issuesByCategory = new HashMap<>();
-        
-        // İssue'ları kategorilere göre grupla
-        vulnerabilities.forEach((key, issues) -> {
-            String category = getCategoryFromIssueType(key);
-            issuesByCategory.computeIfAbsent(category, k -> new ArrayList<>()).addAll(issues);
-        });
-        
-        // Her kategori için öneriler oluştur
-        issuesByCategory.forEach((category, issues) -> {
-            SecurityRecommendation recommendation = new SecurityRecommendation(
-                category,
-                generateCategoryDescription(category, issues),
-                generateCategoryRecommendation(category, issues),
-                findHighestRiskLevel(issues),
-                issues.stream().map(SecurityIssue::type).distinct().toList()
+        String sourceCode = context.sourceCode();
+        LineIndex lineIndex = context.lineIndex();
+        astScanner.scan(unit, (type, node) -> node.getRange().ifPresent(range -> {
+            VulnerabilityPattern vulnPattern = context.ruleSet().patterns().get(type);
+            int start = lineIndex.lineStart(range.begin.line) + range.begin.column - 1;
+            int end = lineIndex.lineStart(range.end.line) + range.end.column;
+            int lineNumber = range.begin.line;
+
+            SecurityIssue issue = new SecurityIssue(
+                type,
+                vulnPattern.description(),
+                vulnPattern.riskLevel(),
+                lineNumber,
+                extractSnippet(sourceCode.substring(start, Math.min(end, sourceCode.length()))),
+                vulnPattern.recommendation(),
+                calculateImpact(vulnPattern.riskLevel()),
+                calculateSeverityScore(vulnPattern.riskLevel(), lineNumber)
             );
-            recommendations.add(recommendation);
-        });
+            vulnerabilities.computeIfAbsent(type, k -> new ArrayList<>()).add(issue);
+        }));
     }
 
-    private RiskMetrics calculateRiskMetrics(Map<String, List<SecurityIssue>> vulnerabilities) {
-        int criticalCount = 0, highCount = 0, mediumCount = 0, lowCount = 0;
-        Map<String, Double> categoryScores = new HashMap<>();
-        
-        for (List<SecurityIssue> issues : vulnerabilities.values()) {
-            for (SecurityIssue issue : issues) {
-                switch (issue.riskLevel()) {
-                    case CRITICAL -> criticalCount++;
-                    case HIGH -> highCount++;
-                    case MEDIUM -> mediumCount++;
-                    case LOW -> lowCount++;
-                }
+    private void analyzeRules(ScanContext context, Map<String, List<SecurityIssue>> vulnerabilities) {
+        evaluateRules(context.ruleSet().rules(), context.lineIndex(), 1, context.lineIndex().lineCount(),
+            rule -> (lineNumber, line) -> vulnerabilities
+                .computeIfAbsent(rule.ruleId(), k -> new ArrayList<>())
+                .add(createRuleIssue(rule, lineNumber, line)));
+    }
+
+    private void evaluateRules(
+        List<SecurityRule> securityRules,
+        LineIndex lineIndex,
+        int firstLine,
+        int lastLine,
+        Function<SecurityRule, SecurityRule.Violations> sinkFactory
+    ) {
+        // Her kural için tarama başına yeni evaluator; kaynak tek seferde satır satır dolaşılır
+        SecurityRule.LineEvaluator[] evaluators = new SecurityRule.LineEvaluator[securityRules.size()];
+        SecurityRule.Violations[] sinks = new SecurityRule.Violations[securityRules.size()];
+        for (int i = 0; i < evaluators.length; i++) {
+            evaluators[i] = securityRules.get(i).evaluator().get();
+            sinks[i] = sinkFactory.apply(securityRules.get(i));
+        }
+
+        for (int lineNumber = firstLine; lineNumber <= lastLine; lineNumber++) {
+            String line = lineIndex.line(lineNumber);
+            for (int i = 0; i < evaluators.length; i++) {
+                evaluators[i].onLine(lineNumber, line, sinks[i]);
             }
         }
-        
-        double overallScore = calculateOverallScore(criticalCount, highCount, mediumCount, lowCount);
-        double securityScore = calculateSecurityScore(vulnerabilities);
-        double codeQualityScore = calculateCodeQualityScore(vulnerabilities);
-        
+
+        for (int i = 0; i < evaluators.length; i++) {
+            evaluators[i].finish(sinks[i]);
+        }
+    }
+
+    private SecurityIssue createRuleIssue(SecurityRule rule, int lineNumber, String line) {
+        return new SecurityIssue(
+            rule.ruleId(),
+            rule.description(),
+            rule.riskLevel(),
+            lineNumber,
+            extractSnippet(line),
+            rule.recommendation(),
+            calculateImpact(rule.riskLevel()),
+            calculateSeverityScore(rule.riskLevel(), lineNumber)
+        );
+    }
+
+    private List<SecurityRecommendation> generateRecommendations(RiskAggregator.Totals totals) {
+        List<SecurityRecommendation> recommendations = new ArrayList<>(totals.categories().size());
+        // Her kategori için öneriler oluştur
+        for (RiskAggregator.CategoryTotals category : totals.categories()) {
+            recommendations.add(new SecurityRecommendation(
+                category.category(),
+                generateCategoryDescription(category.category(), category.issueCount()),
+                generateCategoryRecommendation(category.category()),
+                category.highestLevel(),
+                category.relatedTypes()
+            ));
+        }
+        return recommendations;
+    }
+
+    private RiskMetrics calculateRiskMetrics(RiskAggregator.Totals totals) {
         // Kategori skorlarını hesapla
-        vulnerabilities.forEach((key, issues) -> {
-            String category = getCategoryFromIssueType(key);
-            double categoryScore = calculateCategoryScore(issues);
-            categoryScores.put(category, categoryScore);
-        });
-        
+        Map<String, Double> categoryScores = new LinkedHashMap<>();
+        for (RiskAggregator.CategoryTotals category : totals.categories()) {
+            categoryScores.put(category.category(), calculateCategoryScore(category));
+        }
+
         return new RiskMetrics(
-            overallScore,
-            criticalCount,
-            highCount,
-            mediumCount,
-            lowCount,
-            codeQualityScore,
-            securityScore,
+            calculateOverallScore(totals.count(RiskLevel.CRITICAL), totals.count(RiskLevel.HIGH),
+                totals.count(RiskLevel.MEDIUM), totals.count(RiskLevel.LOW)),
+            totals.count(RiskLevel.CRITICAL),
+            totals.count(RiskLevel.HIGH),
+            totals.count(RiskLevel.MEDIUM),
+            totals.count(RiskLevel.LOW),
+            Math.max(0, Math.min(100, 100.0 - totals.qualityPenalty())),
+            calculateSecurityScore(totals),
             categoryScores
         );
     }
 
-    // Yardımcı metodlar
-    private int getLineNumber(String sourceCode, int position) {
-        return sourceCode.substring(0, position).split("\n").length;
+    // Tip başına ağırlıklar kural seti derlenirken bir kez hesaplanır; skorlar bunların seviye sayılarıyla çarpımıdır
+    private RiskAggregator.IssueTypeWeights weighIssueType(String issueType) {
+        double exploitabilityMultiplier = SecurityMetrics.EXPLOITABILITY_MULTIPLIERS.getOrDefault(issueType, 0.5);
+        int cweWeight = SecurityMetrics.CWE_WEIGHTS.getOrDefault(issueType, 100);
+        boolean codeQuality = isCodeQualityIssue(issueType);
+
+        RiskLevel[] levels = RiskLevel.values();
+        double[] securityImpact = new double[levels.length];
+        double[] categoryImpact = new double[levels.length];
+        double[] qualityPenalty = new double[levels.length];
+        for (RiskLevel level : levels) {
+            double severityMultiplier = SecurityMetrics.SEVERITY_MULTIPLIERS.get(level);
+            // CVSS benzeri hesaplama
+            securityImpact[level.ordinal()] = (cweWeight / 100.0) * severityMultiplier * exploitabilityMultiplier;
+            categoryImpact[level.ordinal()] = (severityMultiplier * 0.6) + (exploitabilityMultiplier * 0.4);
+            qualityPenalty[level.ordinal()] = codeQuality ? codeQualityPenalty(level) : 0.0;
+        }
+        return new RiskAggregator.IssueTypeWeights(getCategoryFromIssueType(issueType), securityImpact, categoryImpact, qualityPenalty);
     }
 
+    // Yardımcı metodlar
     private String calculateImpact(RiskLevel riskLevel) {
         return switch (riskLevel) {
             case CRITICAL -> "Critical security vulnerability that must be fixed immediately";
@@ -376,56 +909,25 @@ public class AdvancedSecurityAnalyzer {
         return Math.max(0, Math.min(100, baseScore));
     }
 
-    private double calculateSecurityScore(Map<String, List<SecurityIssue>> vulnerabilities) {
+    private double calculateSecurityScore(RiskAggregator.Totals totals) {
         double baseScore = 100.0;
-        double totalImpact = 0.0;
-        int totalIssues = 0;
-
-        for (Map.Entry<String, List<SecurityIssue>> entry : vulnerabilities.entrySet()) {
-            String issueType = entry.getKey();
-            List<SecurityIssue> issues = entry.getValue();
-
-            for (SecurityIssue issue : issues) {
-                double severityMultiplier = SecurityMetrics.SEVERITY_MULTIPLIERS.get(issue.riskLevel());
-                double exploitabilityMultiplier = SecurityMetrics.EXPLOITABILITY_MULTIPLIERS.getOrDefault(issueType, 0.5);
-                int cweWeight = SecurityMetrics.CWE_WEIGHTS.getOrDefault(issueType, 100);
-
-                // CVSS benzeri hesaplama
-                double issueImpact = (cweWeight / 100.0) * severityMultiplier * exploitabilityMultiplier;
-                totalImpact += issueImpact;
-                totalIssues++;
-            }
-        }
 
         // Normalize impact
-        if (totalIssues > 0) {
-            double averageImpact = totalImpact / totalIssues;
+        if (totals.issueCount() > 0) {
+            double averageImpact = totals.securityImpact() / totals.issueCount();
             baseScore -= (averageImpact * 20); // Scale factor
         }
 
         return Math.max(0, Math.min(100, baseScore));
     }
 
-    private double calculateCodeQualityScore(Map<String, List<SecurityIssue>> vulnerabilities) {
-        double baseScore = 100.0;
-        int codeQualityIssues = 0;
-        
-        // Code quality sorunlarını say
-        for (List<SecurityIssue> issues : vulnerabilities.values()) {
-            for (SecurityIssue issue : issues) {
-                if (isCodeQualityIssue(issue.type())) {
-                    codeQualityIssues++;
-                    switch (issue.riskLevel()) {
-                        case CRITICAL -> baseScore -= 20.0;
-                        case HIGH -> baseScore -= 15.0;
-                        case MEDIUM -> baseScore -= 10.0;
-                        case LOW -> baseScore -= 5.0;
-                    }
-                }
-            }
-        }
-        
-        return Math.max(0, Math.min(100, baseScore));
+    private double codeQualityPenalty(RiskLevel riskLevel) {
+        return switch (riskLevel) {
+            case CRITICAL -> 20.0;
+            case HIGH -> 15.0;
+            case MEDIUM -> 10.0;
+            case LOW -> 5.0;
+        };
     }
 
     private boolean isCodeQualityIssue(String issueType) {
@@ -434,43 +936,23 @@ public class AdvancedSecurityAnalyzer {
                issueType.contains("CODE_SMELL");
     }
 
-    private double calculateCategoryScore(List<SecurityIssue> issues) {
-        if (issues.isEmpty()) return 100.0;
-        
-        double totalImpact = 0.0;
-        for (SecurityIssue issue : issues) {
-            double severityImpact = SecurityMetrics.SEVERITY_MULTIPLIERS.get(issue.riskLevel());
-            double exploitabilityImpact = SecurityMetrics.EXPLOITABILITY_MULTIPLIERS.getOrDefault(issue.type(), 0.5);
-            
-            totalImpact += (severityImpact * 0.6) + (exploitabilityImpact * 0.4);
-        }
-        
-        double averageImpact = totalImpact / issues.size();
+    private double calculateCategoryScore(RiskAggregator.CategoryTotals category) {
+        double averageImpact = category.impact() / category.issueCount();
         return Math.max(0, Math.min(100, 100 - (averageImpact * 20)));
     }
 
-    private int findRuleViolationLine(String sourceCode, SecurityRule rule) {
-        // Implement logic to find the line number where the rule is violated
-        return 1; // Placeholder
+    private String extractSnippet(String code) {
+        String snippet = code.strip();
+        return snippet.length() > MAX_SNIPPET_LENGTH
+            ? snippet.substring(0, MAX_SNIPPET_LENGTH) + "..."
+            : snippet;
     }
 
-    private String extractRelevantCode(String sourceCode, SecurityRule rule) {
-        // Implement logic to extract relevant code snippet
-        return ""; // Placeholder
+    private String generateCategoryDescription(String category, int issueCount) {
+        return String.format("Found %d issues in category: %s", issueCount, category);
     }
 
-    private RiskLevel findHighestRiskLevel(List<SecurityIssue> issues) {
-        return issues.stream()
-            .map(SecurityIssue::riskLevel)
-            .max(Enum::compareTo)
-            .orElse(RiskLevel.LOW);
-    }
-
-    private String generateCategoryDescription(String category, List<SecurityIssue> issues) {
-        return String.format("Found %d issues in category: %s", issues.size(), category);
-    }
-
-    private String generateCategoryRecommendation(String category, List<SecurityIssue> issues) {
+    private String generateCategoryRecommendation(String category) {
         return "Review and fix all " + category.toLowerCase() + " related issues";
     }
 
@@ -479,60 +961,23 @@ public class AdvancedSecurityAnalyzer {
         List<SecurityRecommendation> recommendations,
         RiskMetrics riskMetrics
     ) {
-        StringBuilder report = new StringBuilder();
-        
-        // Report Header
-        report.append("Security Analysis Report\n");
-        report.append("======================\n\n");
-        
-        // Overall Metrics
-        report.append("Risk Metrics:\n");
-        report.append("--------------\n");
-        report.append(String.format("Overall Risk Score: %.2f\n", riskMetrics.overallRiskScore()));
-        report.append(String.format("Security Score: %.2f\n", riskMetrics.securityScore()));
-        report.append(String.format("Code Quality Score: %.2f\n\n", riskMetrics.codeQualityScore()));
-        
-        // Issue Summary
-        report.append("Issue Summary:\n");
-        report.append("--------------\n");
-        report.append(String.format("Critical Issues: %d\n", riskMetrics.criticalIssues()));
-        report.append(String.format("High Issues: %d\n", riskMetrics.highIssues()));
-        report.append(String.format("Medium Issues: %d\n", riskMetrics.mediumIssues()));
-        report.append(String.format("Low Issues: %d\n\n", riskMetrics.lowIssues()));
-        
-        // Detailed Vulnerabilities
-        report.append("Detailed Vulnerabilities:\n");
-        report.append("----------------------\n");
-        vulnerabilities.forEach((type, issues) -> {
-            report.append(String.format("\n%s:\n", type));
-            issues.forEach(issue -> {
-                report.append(String.format("- Line %d: %s\n", issue.lineNumber(), issue.description()));
-                report.append(String.format("  Risk Level: %s\n", issue.riskLevel()));
-                report.append(String.format("  Code: %s\n", issue.vulnerableCode()));
-                report.append(String.format("  Recommendation: %s\n", issue.recommendation()));
-            });
-        });
-        
-        // Recommendations
-        report.append("\nRecommendations:\n");
-        report.append("---------------\n");
-        recommendations.forEach(rec -> {
-            report.append(String.format("\nCategory: %s\n", rec.category()));
-            report.append(String.format("Priority: %s\n", rec.priority()));
-            report.append(String.format("Description: %s\n", rec.description()));
-            report.append(String.format("Recommendation: %s\n", rec.recommendation()));
-        });
-        
-        // Category Scores
-        report.append("\nCategory Scores:\n");
-        report.append("---------------\n");
-        riskMetrics.categoryScores().forEach((category, score) -> {
-            report.append(String.format("%s: %.2f\n", category, score));
-        });
-        
+        StringBuilder report = new StringBuilder(1024 + 256 * countIssues(vulnerabilities));
+        try {
+            SecurityReportWriter.write(vulnerabilities, recommendations, riskMetrics, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         return report.toString();
     }
 
+    private static int countIssues(Map<String, List<SecurityIssue>> vulnerabilities) {
+        int count = 0;
+        for (List<SecurityIssue> issues : vulnerabilities.values()) {
+            count += issues.size();
+        }
+        return count;
+    }
+
     private double calculateRiskScore(Map<String, List<SecurityIssue>> vulnerabilities) {
         double totalRisk = 0.0;
         int totalIssues = 0;
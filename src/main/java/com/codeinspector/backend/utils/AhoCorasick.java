@@ -0,0 +1,144 @@
+package com.codeinspector.backend.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Birden fazla anahtar kelimeyi metin üzerinde tek geçişte bulan Aho-Corasick otomatı.
+ * Geçiş tablosu ASCII için önceden hesaplanır; ASCII dışı karakterler kök duruma döner.
+ * Otomat değişmezdir ve thread'ler arasında paylaşılabilir.
+ */
+public final class AhoCorasick {
+
+    private static final int ALPHABET = 128;
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int keywordIndex, int start, int end);
+    }
+
+    private final int[][] transitions;
+    private final int[][] outputs;
+    private final int[] keywordLengths;
+    private final boolean ignoreCase;
+
+    public AhoCorasick(List<String> keywords, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.keywordLengths = new int[keywords.size()];
+
+        List<int[]> gotoTable = new ArrayList<>();
+        List<int[]> outputTable = new ArrayList<>();
+        gotoTable.add(newState());
+        outputTable.add(new int[0]);
+
+        // Trie'yi kur
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords cannot be empty");
+            }
+            keywordLengths[k] = keyword.length();
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = normalize(keyword.charAt(i));
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Only ASCII keywords are supported: " + keyword);
+                }
+                int next = gotoTable.get(state)[c];
+                if (next <= 0) {
+                    next = gotoTable.size();
+                    gotoTable.add(newState());
+                    outputTable.add(new int[0]);
+                    gotoTable.get(state)[c] = next;
+                }
+                state = next;
+            }
+            outputTable.set(state, append(outputTable.get(state), k));
+        }
+
+        // Failure linkleri ile tam DFA'ya dönüştür (BFS)
+        int[] failure = new int[gotoTable.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] root = gotoTable.get(0);
+        for (int c = 0; c < ALPHABET; c++) {
+            if (root[c] > 0) {
+                failure[root[c]] = 0;
+                queue.add(root[c]);
+            } else {
+                root[c] = 0;
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] row = gotoTable.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = row[c];
+                if (next > 0) {
+                    int fallback = gotoTable.get(failure[state])[c];
+                    failure[next] = fallback;
+                    outputTable.set(next, concat(outputTable.get(next), outputTable.get(fallback)));
+                    queue.add(next);
+                } else {
+                    row[c] = gotoTable.get(failure[state])[c];
+                }
+            }
+        }
+
+        this.transitions = gotoTable.toArray(new int[0][]);
+        this.outputs = outputTable.toArray(new int[0][]);
+    }
+
+    public int keywordCount() {
+        return keywordLengths.length;
+    }
+
+    public void scan(CharSequence text, MatchListener listener) {
+        scan(text, 0, text.length(), listener);
+    }
+
+    public void scan(CharSequence text, int from, int to, MatchListener listener) {
+        int state = 0;
+        for (int i = from; i < to; i++) {
+            int c = normalize(text.charAt(i));
+            if (c >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            state = transitions[state][c];
+            int[] matched = outputs[state];
+            for (int keyword : matched) {
+                listener.onMatch(keyword, i + 1 - keywordLengths[keyword], i + 1);
+            }
+        }
+    }
+
+    private int normalize(char c) {
+        if (ignoreCase && c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        return c;
+    }
+
+    private static int[] newState() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -1,40 +1,305 @@
 package com.codeinspector.backend.utils;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
 import com.codeinspector.backend.dto.CodeAnalysisResult;
+import com.codeinspector.backend.dto.MethodSmellReport;
+import com.codeinspector.backend.dto.TypeSmellReport;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.utils.smell.CloneDetector;
+import com.codeinspector.backend.utils.smell.CodeStructure;
+import com.codeinspector.backend.utils.smell.SmellCheck;
+import com.codeinspector.backend.utils.smell.SmellProfile;
+
+import jakarta.annotation.PreDestroy;
 
+/**
+ * Kod kokusu analizi. Varsayılan REGEX modunda satır tabanlı kontroller çalışır. İsteğe bağlı AST modunda kaynak
+ * JavaParser ile bir kez ayrıştırılır ve metod uzunluğu, parametre, alan, switch ve karar noktası sayıları tek
+ * ziyaretçi geçişinden ({@link CodeStructure}) okunur; ayrıştırılamayan kaynaklar regex kontrollerine döner. Eşikler ve skor ağırlıkları
+ * istek başına seçilen {@link SmellProfile}'dan gelir.
+ * Durumsuzdur: her kontrol kaynağı yalnızca okur ve kendi sonucunu döndürür, sonuçlar çağıran thread'de
+ * kontrol sırasıyla birleştirilir. Aynı örnek eşzamanlı isteklerde paylaşılabilir; paralel modda kontroller
+ * ayrı sanal thread'lerde çalışır.
+ */
+@Component
 public class CodeSmellAnalyzer {
-    private final Map<String, Double> smellScores = new HashMap<>();
-    private final Map<String, List<String>> smellDetails = new HashMap<>();
 
+    private static final Pattern METHOD_BODY_PATTERN = Pattern.compile("\\w+\\s+\\w+\\s*\\([^)]*\\)\\s*\\{([^}]*?)\\}");
+    private static final Pattern METHOD_PARAMETERS_PATTERN = Pattern.compile("\\w+\\s+\\w+\\s*\\((.*?)\\)");
+    // McCabe Cyclomatic Complexity için kontrol edilecek yapılar
+    private static final Pattern COMPLEXITY_PATTERN = Pattern.compile(
+        "if\\s*\\(|else\\s*\\{|while\\s*\\(|for\\s*\\(|case\\s+.*:|catch\\s*\\(|\\|\\||&&|\\?|throw\\s+new"
+    );
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\b(?:int|String|boolean|double|float)\\s+(\\w+)\\b");
+    private static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("^[a-z][a-zA-Z0-9]*$");
+    private static final Pattern FIELD_PATTERN = Pattern.compile("private\\s+\\w+\\s+\\w+;");
+    private static final Pattern SWITCH_PATTERN = Pattern.compile("switch\\s*\\(.*?\\)");
+    private static final Pattern METHOD_DECLARATION_PATTERN = Pattern.compile("(public|private|protected)\\s+\\w+\\s+\\w+\\s*\\(");
+
+    private static final Logger log = LoggerFactory.getLogger(CodeSmellAnalyzer.class);
+
+    private record SmellResult(double score, List<String> details) {}
+
+    private interface SourceCheck {
+        SmellResult apply(String sourceCode, LineIndex lineIndex, SmellProfile.Thresholds limits);
+    }
+
+    private interface StructuralCheck {
+        SmellResult apply(CodeStructure structure, SmellProfile.Thresholds limits);
+    }
+
+    // structural: AST modunda ayrıştırılmış yapı üzerinden çalışan sürüm; null ise kontrol kaynak metne bakar
+    private record CheckImpl(SourceCheck body, StructuralCheck structural) {}
+
+    // Profil ağırlıkları kontrol başına; profil açılışta bir kez derlenir
+    private record Scoring(SmellProfile.Thresholds limits, Map<SmellCheck, Double> weights) {
+
+        double overall(Map<SmellCheck, Double> scores) {
+            double weighted = 0.0;
+            double total = 0.0;
+            for (Map.Entry<SmellCheck, Double> score : scores.entrySet()) {
+                double weight = weights.get(score.getKey());
+                weighted += weight * score.getValue();
+                total += weight;
+            }
+            return total > 0 ? weighted / total : 0.0;
+        }
+    }
+
+    private final Map<SmellCheck, CheckImpl> checks = registerChecks();
+    private final Map<SmellProfile, Scoring> scoring = compileProfiles();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Varsayılan REGEX: AST modu daha doğru yapısal sonuç ve tip dökümü verir ama kabaca iki kat pahalıdır
     public CodeAnalysisResult analyzeCode(String sourceCode) {
-        smellScores.clear();
-        smellDetails.clear();
+        return analyzeCode(sourceCode, AnalysisMode.REGEX, ExecutionMode.SEQUENTIAL);
+    }
+
+    public CodeAnalysisResult analyzeCode(String sourceCode, ExecutionMode execution) {
+        return analyzeCode(sourceCode, AnalysisMode.REGEX, execution);
+    }
+
+    public CodeAnalysisResult analyzeCode(String sourceCode, AnalysisMode mode, ExecutionMode execution) {
+        return analyzeCode(sourceCode, mode, execution, SmellProfile.DEFAULT);
+    }
+
+    // AST modu: kaynak bir kez ayrıştırılır, yapısal kontroller tek ziyaretçi geçişinin özetini kullanır.
+    // Ayrıştırılamayan kaynaklarda (kod parçaları, sözdizimi hataları) regex kontrollerine dönülür; sonuçtaki
+    // analysisMode gerçekte çalışan modu gösterir.
+    public CodeAnalysisResult analyzeCode(String sourceCode, AnalysisMode mode, ExecutionMode execution, SmellProfile profile) {
+        Scoring profileScoring = scoring.get(profile);
+        SmellProfile.Thresholds limits = profileScoring.limits();
+        LineIndex lineIndex = LineIndex.of(sourceCode);
+        Optional<CodeStructure> structure = mode == AnalysisMode.AST ? CodeStructure.parse(sourceCode) : Optional.empty();
+        if (mode == AnalysisMode.AST && structure.isEmpty()) {
+            log.debug("Source could not be parsed, code smell analysis falls back to REGEX mode");
+        }
+
+        List<Callable<SmellResult>> tasks = new ArrayList<>(checks.size());
+        for (CheckImpl check : checks.values()) {
+            tasks.add(structure.isPresent() && check.structural() != null
+                ? () -> check.structural().apply(structure.get(), limits)
+                : () -> check.body().apply(sourceCode, lineIndex, limits));
+        }
 
         // Tüm code smell analizlerini yap
-        analyzeLongMethod(sourceCode);
-        analyzeLargeClass(sourceCode);
-        analyzeDuplicateCode(sourceCode);
-        analyzeLongParameterList(sourceCode);
-        analyzeComplexity(sourceCode);
-        analyzeNaming(sourceCode);
-        analyzeDataClumps(sourceCode);
-        analyzeSwitchStatements(sourceCode);
+        List<SmellResult> results = execution == ExecutionMode.PARALLEL ? runParallel(tasks) : runSequential(tasks);
+
+        Map<SmellCheck, Double> scores = new EnumMap<>(SmellCheck.class);
+        Map<String, Double> smellScores = new LinkedHashMap<>();
+        Map<String, List<String>> smellDetails = new LinkedHashMap<>();
+        int i = 0;
+        for (SmellCheck check : checks.keySet()) {
+            SmellResult result = results.get(i++);
+            scores.put(check, result.score());
+            smellScores.put(check.displayName(), result.score());
+            smellDetails.put(check.displayName(), result.details());
+        }
 
         // Genel kod kalite skorunu hesapla
-        double overallScore = calculateOverallScore();
+        double overallScore = profileScoring.overall(scores);
+
+        List<TypeSmellReport> types = structure
+            .map(parsed -> parsed.types().stream().map(type -> typeReport(type, profileScoring)).toList())
+            .orElse(null);
+        AnalysisMode executed = structure.isPresent() ? AnalysisMode.AST : AnalysisMode.REGEX;
+        return new CodeAnalysisResult(smellScores, smellDetails, overallScore, types, executed);
+    }
+
+    // Kontrol adları, sonuç haritalarındaki sırayla
+    public List<String> checkNames() {
+        return checks.keySet().stream().map(SmellCheck::displayName).toList();
+    }
 
-        return new CodeAnalysisResult(smellScores, smellDetails, overallScore);
+    public Stream<TypeSmellReport> analyzeTypes(String sourceCode) {
+        return analyzeTypes(sourceCode, SmellProfile.DEFAULT);
+    }
+
+    /**
+     * Tip bazında döküm; kaynak bir kez ayrıştırılır, raporlar akış tüketildikçe tip tip üretilir.
+     * Yüzlerce tip içeren dosyalarda yanıt tüm sonuç belleğe alınmadan yazılabilir.
+     */
+    public Stream<TypeSmellReport> analyzeTypes(String sourceCode, SmellProfile profile) {
+        Scoring profileScoring = scoring.get(profile);
+        CodeStructure structure = CodeStructure.parse(sourceCode)
+            .orElseThrow(() -> new IllegalArgumentException("Source code could not be parsed as Java"));
+        return structure.types().stream().map(type -> typeReport(type, profileScoring));
+    }
+
+    private Map<SmellCheck, CheckImpl> registerChecks() {
+        Map<SmellCheck, CheckImpl> registered = new EnumMap<>(SmellCheck.class);
+        registered.put(SmellCheck.LONG_METHODS, new CheckImpl(this::analyzeLongMethod,
+            (structure, limits) -> analyzeLongMethod(structure.methods(), limits)));
+        registered.put(SmellCheck.LARGE_CLASS, new CheckImpl((sourceCode, lineIndex, limits) -> analyzeLargeClass(sourceCode, limits),
+            (structure, limits) -> analyzeLargeClass(structure.types(), limits)));
+        registered.put(SmellCheck.DUPLICATE_CODE, new CheckImpl(
+            (sourceCode, lineIndex, limits) -> analyzeDuplicateCode(sourceCode, limits), null));
+        registered.put(SmellCheck.LONG_PARAMETER_LIST, new CheckImpl(this::analyzeLongParameterList,
+            (structure, limits) -> analyzeLongParameterList(structure.methods(), limits)));
+        registered.put(SmellCheck.CYCLOMATIC_COMPLEXITY, new CheckImpl(
+            (sourceCode, lineIndex, limits) -> analyzeComplexity(sourceCode, limits), this::analyzeComplexity));
+        registered.put(SmellCheck.NAMING_CONVENTIONS, new CheckImpl((sourceCode, lineIndex, limits) -> analyzeNaming(sourceCode),
+            (structure, limits) -> analyzeNaming(structure)));
+        registered.put(SmellCheck.DATA_CLUMPS, new CheckImpl((sourceCode, lineIndex, limits) -> analyzeDataClumps(sourceCode, limits),
+            (structure, limits) -> analyzeDataClumps(structure.types(), limits)));
+        registered.put(SmellCheck.SWITCH_STATEMENTS, new CheckImpl(
+            (sourceCode, lineIndex, limits) -> analyzeSwitchStatements(sourceCode, limits), this::analyzeSwitchStatements));
+        if (registered.size() != SmellCheck.values().length) {
+            throw new IllegalStateException("Every code smell check needs an implementation");
+        }
+        return Collections.unmodifiableMap(registered);
+    }
+
+    private Map<SmellProfile, Scoring> compileProfiles() {
+        Map<SmellProfile, Scoring> compiled = new EnumMap<>(SmellProfile.class);
+        for (SmellProfile profile : SmellProfile.values()) {
+            Map<SmellCheck, Double> weights = new EnumMap<>(SmellCheck.class);
+            for (SmellCheck check : SmellCheck.values()) {
+                weights.put(check, profile.weight(check));
+            }
+            compiled.put(profile, new Scoring(profile.thresholds(), weights));
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    // Metod bulguları methods altında kalır; details yalnızca tipin kendisine ait sınır aşımlarını içerir
+    private TypeSmellReport typeReport(CodeStructure.TypeInfo type, Scoring profileScoring) {
+        SmellProfile.Thresholds limits = profileScoring.limits();
+        List<CodeStructure.TypeInfo> self = List.of(type);
+        SmellResult largeClass = analyzeLargeClass(self, limits);
+        SmellResult dataClumps = analyzeDataClumps(self, limits);
+        SmellResult complexity = complexityResult(type.complexity(), limits);
+        SmellResult switches = switchResult(type.switchCount(), limits);
+
+        Map<SmellCheck, Double> scores = new EnumMap<>(SmellCheck.class);
+        scores.put(SmellCheck.LONG_METHODS, analyzeLongMethod(type.methods(), limits).score());
+        scores.put(SmellCheck.LARGE_CLASS, largeClass.score());
+        scores.put(SmellCheck.LONG_PARAMETER_LIST, analyzeLongParameterList(type.methods(), limits).score());
+        scores.put(SmellCheck.CYCLOMATIC_COMPLEXITY, complexity.score());
+        scores.put(SmellCheck.DATA_CLUMPS, dataClumps.score());
+        scores.put(SmellCheck.SWITCH_STATEMENTS, switches.score());
+        Map<String, Double> smellScores = new LinkedHashMap<>();
+        scores.forEach((check, score) -> smellScores.put(check.displayName(), score));
+
+        List<String> details = new ArrayList<>();
+        if (type.methodCount() > limits.maxClassMethods()) {
+            details.addAll(largeClass.details());
+        }
+        if (type.fieldCount() > limits.maxClassFields()) {
+            details.addAll(dataClumps.details());
+        }
+        if (type.complexity() > limits.maxSimpleComplexity()) {
+            details.add(complexity.details().get(0));
+        }
+        details.addAll(switches.details());
+
+        List<MethodSmellReport> methods = type.methods().stream().map(method -> methodReport(method, profileScoring)).toList();
+        return new TypeSmellReport(type.name(), type.line(), type.methodCount(), type.fieldCount(),
+            smellScores, details, profileScoring.overall(scores), methods);
+    }
+
+    private MethodSmellReport methodReport(CodeStructure.MethodInfo method, Scoring profileScoring) {
+        SmellProfile.Thresholds limits = profileScoring.limits();
+        List<CodeStructure.MethodInfo> self = List.of(method);
+        SmellResult length = analyzeLongMethod(self, limits);
+        SmellResult parameters = analyzeLongParameterList(self, limits);
+        SmellResult complexity = complexityResult(method.complexity(), limits);
+        SmellResult switches = switchResult(method.switchCount(), limits);
+
+        List<String> issues = new ArrayList<>(length.details());
+        issues.addAll(parameters.details());
+        if (method.complexity() > limits.maxSimpleComplexity()) {
+            issues.add(complexity.details().get(0));
+        }
+        issues.addAll(switches.details());
+
+        Map<SmellCheck, Double> scores = new EnumMap<>(SmellCheck.class);
+        scores.put(SmellCheck.LONG_METHODS, length.score());
+        scores.put(SmellCheck.LONG_PARAMETER_LIST, parameters.score());
+        scores.put(SmellCheck.CYCLOMATIC_COMPLEXITY, complexity.score());
+        scores.put(SmellCheck.SWITCH_STATEMENTS, switches.score());
+        return new MethodSmellReport(method.name(), method.line(), method.bodyLines(), method.parameterCount(),
+            method.complexity(), method.switchCount(), profileScoring.overall(scores), issues);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private List<SmellResult> runSequential(List<Callable<SmellResult>> tasks) {
+        List<SmellResult> results = new ArrayList<>(tasks.size());
+        for (Callable<SmellResult> task : tasks) {
+            try {
+                results.add(task.call());
+            } catch (Exception e) {
+                throw new IllegalStateException("Code smell check failed", e);
+            }
+        }
+        return results;
+    }
+
+    private List<SmellResult> runParallel(List<Callable<SmellResult>> tasks) {
+        List<Future<SmellResult>> futures = new ArrayList<>(tasks.size());
+        for (Callable<SmellResult> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        List<SmellResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Code smell check failed: " + SmellCheck.values()[i].displayName(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Code smell analysis interrupted", e);
+            }
+        }
+        return results;
     }
 
-    private void analyzeLongMethod(String sourceCode) {
-        Pattern methodPattern = Pattern.compile("\\w+\\s+\\w+\\s*\\([^)]*\\)\\s*\\{([^}]*?)\\}");
-        Matcher matcher = methodPattern.matcher(sourceCode);
+    private SmellResult analyzeLongMethod(String sourceCode, LineIndex lineIndex, SmellProfile.Thresholds limits) {
+        Matcher matcher = METHOD_BODY_PATTERN.matcher(sourceCode);
         List<String> longMethods = new ArrayList<>();
         int totalMethods = 0;
         int longMethodCount = 0;
@@ -43,136 +308,114 @@ public class CodeSmellAnalyzer {
             totalMethods++;
             String methodBody = matcher.group(1);
             int lines = methodBody.split("\n").length;
-            if (lines > 20) {
+            if (lines > limits.maxMethodLines()) {
                 longMethodCount++;
-                longMethods.add("Method with " + lines + " lines found");
+                longMethods.add("Method at line " + lineIndex.lineOf(matcher.start()) + " with " + lines + " lines found");
             }
         }
 
         double score = totalMethods > 0 ? (1 - ((double) longMethodCount / totalMethods)) * 100 : 100;
-        smellScores.put("Long Methods", score);
-        smellDetails.put("Long Methods", longMethods);
+        return new SmellResult(score, longMethods);
     }
 
-    private void analyzeLargeClass(String sourceCode) {
+    private SmellResult analyzeLargeClass(String sourceCode, SmellProfile.Thresholds limits) {
         int methodCount = countMethods(sourceCode);
-        List<String> largeClassIssues = new ArrayList<>();
 
-        if (methodCount > 10) {
-            largeClassIssues.add("Class has " + methodCount + " methods (recommended: max 10)");
-            double score = Math.max(0, 100 - ((methodCount - 10) * 5));
-            smellScores.put("Large Class", score);
-        } else {
-            largeClassIssues.add("Class has " + methodCount + " methods (good practice)");
-            smellScores.put("Large Class", 100.0);
-        }
-        
-        if (!largeClassIssues.isEmpty()) {
-            smellDetails.put("Large Class", largeClassIssues);
+        if (methodCount > limits.maxClassMethods()) {
+            double score = Math.max(0, 100 - ((methodCount - limits.maxClassMethods()) * 5));
+            return new SmellResult(score, List.of("Class has " + methodCount + " methods (recommended: max " + limits.maxClassMethods() + ")"));
         }
+        return new SmellResult(100.0, List.of("Class has " + methodCount + " methods (good practice)"));
     }
 
-    private void analyzeDuplicateCode(String sourceCode) {
-        String[] lines = sourceCode.split("\n");
-        Map<String, Integer> lineFrequency = new HashMap<>();
+    // Normalize edilmiş token pencereleri üzerinden kopya çiftleri; satır eşitliği yerine yapı karşılaştırılır
+    private SmellResult analyzeDuplicateCode(String sourceCode, SmellProfile.Thresholds limits) {
         List<String> duplicateIssues = new ArrayList<>();
-        
-        for (String line : lines) {
-            line = line.trim();
-            if (line.length() > 10) {
-                lineFrequency.put(line, lineFrequency.getOrDefault(line, 0) + 1);
-            }
+        for (CloneDetector.ClonePair clone : CloneDetector.detect(sourceCode, limits.minCloneTokens())) {
+            duplicateIssues.add("Lines " + clone.firstStartLine() + "-" + clone.firstEndLine()
+                + " duplicated at lines " + clone.secondStartLine() + "-" + clone.secondEndLine()
+                + " (" + clone.tokens() + " tokens)");
         }
 
-        int duplicateCount = 0;
-        for (Map.Entry<String, Integer> entry : lineFrequency.entrySet()) {
-            if (entry.getValue() > 1) {
-                duplicateCount++;
-                duplicateIssues.add("Line appears " + entry.getValue() + " times: " + entry.getKey());
-            }
-        }
-
-        double score = Math.max(0, 100 - (duplicateCount * 10));
-        smellScores.put("Duplicate Code", score);
-        smellDetails.put("Duplicate Code", duplicateIssues);
+        double score = Math.max(0, 100 - (duplicateIssues.size() * 10));
+        return new SmellResult(score, duplicateIssues);
     }
 
-    private void analyzeLongParameterList(String sourceCode) {
-        Pattern methodPattern = Pattern.compile("\\w+\\s+\\w+\\s*\\((.*?)\\)");
-        Matcher matcher = methodPattern.matcher(sourceCode);
+    private SmellResult analyzeLongParameterList(String sourceCode, LineIndex lineIndex, SmellProfile.Thresholds limits) {
+        Matcher matcher = METHOD_PARAMETERS_PATTERN.matcher(sourceCode);
         List<String> parameterIssues = new ArrayList<>();
         
         while (matcher.find()) {
             String parameters = matcher.group(1);
             if (!parameters.isEmpty()) {
                 int paramCount = parameters.split(",").length;
-                if (paramCount > 3) {
-                    parameterIssues.add("Method has " + paramCount + " parameters (recommended: max 3)");
+                if (paramCount > limits.maxParameters()) {
+                    parameterIssues.add("Method at line " + lineIndex.lineOf(matcher.start()) + " has " + paramCount
+                        + " parameters (recommended: max " + limits.maxParameters() + ")");
                 }
             }
         }
 
         double score = parameterIssues.isEmpty() ? 100 : Math.max(0, 100 - (parameterIssues.size() * 15));
-        smellScores.put("Long Parameter List", score);
-        smellDetails.put("Long Parameter List", parameterIssues);
+        return new SmellResult(score, parameterIssues);
     }
 
-    private void analyzeComplexity(String sourceCode) {
-        // McCabe Cyclomatic Complexity için kontrol edilecek yapılar
-        Pattern complexityPattern = Pattern.compile(
-            "if\\s*\\(|else\\s*\\{|while\\s*\\(|for\\s*\\(|case\\s+.*:|catch\\s*\\(|\\|\\||&&|\\?|throw\\s+new"
-        );
-        Matcher matcher = complexityPattern.matcher(sourceCode);
+    private SmellResult analyzeComplexity(String sourceCode, SmellProfile.Thresholds limits) {
+        Matcher matcher = COMPLEXITY_PATTERN.matcher(sourceCode);
         
         int mccComplexity = 1; // Başlangıç değeri 1 (temel yol)
-        List<String> complexityIssues = new ArrayList<>();
-        
+
         // Karmaşıklık noktalarını say
         while (matcher.find()) {
             mccComplexity++;
         }
-        
+        return complexityResult(mccComplexity, limits);
+    }
+
+    // Kademeler profilin "Simple" sınırına göre ölçeklenir; varsayılan profilde 10/20/30
+    private SmellResult complexityResult(int mccComplexity, SmellProfile.Thresholds limits) {
+        int simple = limits.maxSimpleComplexity();
+        List<String> complexityIssues = new ArrayList<>();
+
         // McCabe'e göre karmaşıklık değerlendirmesi
         String complexityLevel;
         double score;
         
-        if (mccComplexity <= 10) {
+        if (mccComplexity <= simple) {
             // 1-10 arası: Basit, iyi yapılandırılmış kod
             complexityLevel = "Simple";
             score = 100.0;
-        } else if (mccComplexity <= 20) {
+        } else if (mccComplexity <= 2 * simple) {
             // 11-20 arası: Orta karmaşıklık
             complexityLevel = "Moderate";
-            score = 80.0 - ((mccComplexity - 10) * 3);
-        } else if (mccComplexity <= 30) {
+            score = 80.0 - ((mccComplexity - simple) * 3);
+        } else if (mccComplexity <= 3 * simple) {
             // 21-30 arası: Karmaşık
             complexityLevel = "Complex";
-            score = 50.0 - ((mccComplexity - 20) * 2);
+            score = 50.0 - ((mccComplexity - 2 * simple) * 2);
         } else {
             // 30+ : Çok karmaşık, yeniden yapılandırılmalı
             complexityLevel = "Highly Complex";
-            score = Math.max(0, 30.0 - ((mccComplexity - 30) * 1));
+            score = Math.max(0, 30.0 - ((mccComplexity - 3 * simple) * 1));
         }
         
         // Detaylı açıklama oluştur
         complexityIssues.add(String.format("McCabe Cyclomatic Complexity: %d (%s)", mccComplexity, complexityLevel));
         complexityIssues.add("Risk Levels:");
-        complexityIssues.add("1-10: Simple, well-structured code");
-        complexityIssues.add("11-20: Moderate complexity, moderate risk");
-        complexityIssues.add("21-30: Complex, high risk");
-        complexityIssues.add("30+: Highly complex, very high risk, should be refactored");
+        complexityIssues.add(String.format("1-%d: Simple, well-structured code", simple));
+        complexityIssues.add(String.format("%d-%d: Moderate complexity, moderate risk", simple + 1, 2 * simple));
+        complexityIssues.add(String.format("%d-%d: Complex, high risk", 2 * simple + 1, 3 * simple));
+        complexityIssues.add(String.format("%d+: Highly complex, very high risk, should be refactored", 3 * simple));
         
-        if (mccComplexity > 10) {
-            complexityIssues.add(String.format("Recommendation: Consider refactoring to reduce complexity below 10"));
+        if (mccComplexity > simple) {
+            complexityIssues.add(String.format("Recommendation: Consider refactoring to reduce complexity below %d", simple));
         }
         
-        smellScores.put("Cyclomatic Complexity", Math.max(0, Math.min(100, score)));
-        smellDetails.put("Cyclomatic Complexity", complexityIssues);
+        return new SmellResult(Math.max(0, Math.min(100, score)), complexityIssues);
     }
 
-    private void analyzeNaming(String sourceCode) {
-        Pattern variablePattern = Pattern.compile("\\b(?:int|String|boolean|double|float)\\s+(\\w+)\\b");
-        Matcher matcher = variablePattern.matcher(sourceCode);
+    private SmellResult analyzeNaming(String sourceCode) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(sourceCode);
         List<String> namingIssues = new ArrayList<>();
         int totalVariables = 0;
         int badNameCount = 0;
@@ -180,74 +423,137 @@ public class CodeSmellAnalyzer {
         while (matcher.find()) {
             totalVariables++;
             String variableName = matcher.group(1);
-            if (variableName.length() < 3 || !variableName.matches("^[a-z][a-zA-Z0-9]*$")) {
+            if (isPoorVariableName(variableName)) {
                 badNameCount++;
                 namingIssues.add("Poor variable name: " + variableName);
             }
         }
 
         double score = totalVariables > 0 ? (1 - ((double) badNameCount / totalVariables)) * 100 : 100;
-        smellScores.put("Naming Conventions", score);
-        smellDetails.put("Naming Conventions", namingIssues);
+        return new SmellResult(score, namingIssues);
     }
 
-    private void analyzeDataClumps(String sourceCode) {
-        Pattern fieldPattern = Pattern.compile("private\\s+\\w+\\s+\\w+;");
-        Matcher matcher = fieldPattern.matcher(sourceCode);
-        List<String> dataClumpIssues = new ArrayList<>();
+    private static boolean isPoorVariableName(String variableName) {
+        return variableName.length() < 3 || !VARIABLE_NAME_PATTERN.matcher(variableName).matches();
+    }
+
+    private SmellResult analyzeDataClumps(String sourceCode, SmellProfile.Thresholds limits) {
+        Matcher matcher = FIELD_PATTERN.matcher(sourceCode);
         int fieldCount = 0;
 
         while (matcher.find()) {
             fieldCount++;
         }
 
-        if (fieldCount > 5) {
-            dataClumpIssues.add("Class has " + fieldCount + " fields (possible data clump)");
-            double score = Math.max(0, 100 - ((fieldCount - 5) * 5));
-            smellScores.put("Data Clumps", Math.min(100, score));
-        } else {
-            dataClumpIssues.add("Class has " + fieldCount + " fields (good practice)");
-            smellScores.put("Data Clumps", 100.0);
-        }
-        
-        if (!dataClumpIssues.isEmpty()) {
-            smellDetails.put("Data Clumps", dataClumpIssues);
+        if (fieldCount > limits.maxClassFields()) {
+            double score = Math.max(0, 100 - ((fieldCount - limits.maxClassFields()) * 5));
+            return new SmellResult(Math.min(100, score), List.of("Class has " + fieldCount + " fields (possible data clump)"));
         }
+        return new SmellResult(100.0, List.of("Class has " + fieldCount + " fields (good practice)"));
     }
 
-    private void analyzeSwitchStatements(String sourceCode) {
-        Pattern switchPattern = Pattern.compile("switch\\s*\\(.*?\\)");
-        Matcher matcher = switchPattern.matcher(sourceCode);
-        List<String> switchIssues = new ArrayList<>();
+    private SmellResult analyzeSwitchStatements(String sourceCode, SmellProfile.Thresholds limits) {
+        Matcher matcher = SWITCH_PATTERN.matcher(sourceCode);
         int switchCount = 0;
 
         while (matcher.find()) {
             switchCount++;
         }
+        return switchResult(switchCount, limits);
+    }
 
-        if (switchCount > 2) {
+    private SmellResult switchResult(int switchCount, SmellProfile.Thresholds limits) {
+        List<String> switchIssues = new ArrayList<>();
+        if (switchCount > limits.maxSwitchStatements()) {
             switchIssues.add("Found " + switchCount + " switch statements (consider using polymorphism)");
         }
 
         double score = Math.max(0, 100 - (switchCount * 15));
-        smellScores.put("Switch Statements", score);
-        smellDetails.put("Switch Statements", switchIssues);
+        return new SmellResult(score, switchIssues);
+    }
+
+    private SmellResult analyzeLongMethod(List<CodeStructure.MethodInfo> methods, SmellProfile.Thresholds limits) {
+        List<String> longMethods = new ArrayList<>();
+        for (CodeStructure.MethodInfo method : methods) {
+            if (method.bodyLines() > limits.maxMethodLines()) {
+                longMethods.add("Method " + method.name() + " at line " + method.line() + " with " + method.bodyLines() + " lines found");
+            }
+        }
+        int totalMethods = methods.size();
+        double score = totalMethods > 0 ? (1 - ((double) longMethods.size() / totalMethods)) * 100 : 100;
+        return new SmellResult(score, longMethods);
+    }
+
+    // Skor en büyük sınıfa göre; sınırı aşan her sınıf ayrıca listelenir
+    private SmellResult analyzeLargeClass(List<CodeStructure.TypeInfo> types, SmellProfile.Thresholds limits) {
+        List<String> largeClassIssues = new ArrayList<>();
+        int maxMethods = 0;
+        for (CodeStructure.TypeInfo type : types) {
+            maxMethods = Math.max(maxMethods, type.methodCount());
+            if (type.methodCount() > limits.maxClassMethods()) {
+                largeClassIssues.add("Class " + type.name() + " has " + type.methodCount()
+                    + " methods (recommended: max " + limits.maxClassMethods() + ")");
+            }
+        }
+        if (largeClassIssues.isEmpty()) {
+            return new SmellResult(100.0, List.of("Class has " + maxMethods + " methods (good practice)"));
+        }
+        return new SmellResult(Math.max(0, 100 - ((maxMethods - limits.maxClassMethods()) * 5)), largeClassIssues);
+    }
+
+    private SmellResult analyzeLongParameterList(List<CodeStructure.MethodInfo> methods, SmellProfile.Thresholds limits) {
+        List<String> parameterIssues = new ArrayList<>();
+        for (CodeStructure.MethodInfo method : methods) {
+            if (method.parameterCount() > limits.maxParameters()) {
+                parameterIssues.add("Method " + method.name() + " at line " + method.line() + " has " + method.parameterCount()
+                    + " parameters (recommended: max " + limits.maxParameters() + ")");
+            }
+        }
+        double score = parameterIssues.isEmpty() ? 100 : Math.max(0, 100 - (parameterIssues.size() * 15));
+        return new SmellResult(score, parameterIssues);
+    }
+
+    private SmellResult analyzeComplexity(CodeStructure structure, SmellProfile.Thresholds limits) {
+        return complexityResult(1 + structure.decisionPoints(), limits);
+    }
+
+    private SmellResult analyzeNaming(CodeStructure structure) {
+        List<String> namingIssues = new ArrayList<>();
+        for (CodeStructure.VariableInfo variable : structure.variables()) {
+            if (isPoorVariableName(variable.name())) {
+                namingIssues.add("Poor variable name: " + variable.name());
+            }
+        }
+        int totalVariables = structure.variables().size();
+        double score = totalVariables > 0 ? (1 - ((double) namingIssues.size() / totalVariables)) * 100 : 100;
+        return new SmellResult(score, namingIssues);
+    }
+
+    private SmellResult analyzeDataClumps(List<CodeStructure.TypeInfo> types, SmellProfile.Thresholds limits) {
+        List<String> dataClumpIssues = new ArrayList<>();
+        int maxFields = 0;
+        for (CodeStructure.TypeInfo type : types) {
+            maxFields = Math.max(maxFields, type.fieldCount());
+            if (type.fieldCount() > limits.maxClassFields()) {
+                dataClumpIssues.add("Class " + type.name() + " has " + type.fieldCount() + " fields (possible data clump)");
+            }
+        }
+        if (dataClumpIssues.isEmpty()) {
+            return new SmellResult(100.0, List.of("Class has " + maxFields + " fields (good practice)"));
+        }
+        return new SmellResult(Math.min(100, Math.max(0, 100 - ((maxFields - limits.maxClassFields()) * 5))), dataClumpIssues);
+    }
+
+    private SmellResult analyzeSwitchStatements(CodeStructure structure, SmellProfile.Thresholds limits) {
+        return switchResult(structure.switchCount(), limits);
     }
 
     private int countMethods(String sourceCode) {
-        Pattern methodPattern = Pattern.compile("(public|private|protected)\\s+\\w+\\s+\\w+\\s*\\(");
-        Matcher matcher = methodPattern.matcher(sourceCode);
+        Matcher matcher = METHOD_DECLARATION_PATTERN.matcher(sourceCode);
         int count = 0;
         while (matcher.find()) {
             count++;
         }
         return count;
     }
-
-    private double calculateOverallScore() {
-        return smellScores.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.codeinspector.backend.utils;
+
+import java.util.Arrays;
+
+/**
+ * Satır başlangıç offset'lerinin indeksi. İstek başına bir kez kurulur,
+ * offset -> satır dönüşümü ikili arama ile O(log n) sürer.
+ * Satır numaraları 1'den başlar.
+ */
+public final class LineIndex {
+
+    private final CharSequence text;
+    private final int[] lineStarts;
+    private final int lineCount;
+
+    private LineIndex(CharSequence text, int[] lineStarts, int lineCount) {
+        this.text = text;
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+    }
+
+    public static LineIndex of(CharSequence text) {
+        int[] starts = new int[Math.max(16, text.length() / 32)];
+        int count = 1;
+        starts[0] = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return new LineIndex(text, starts, count);
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    public int lineOf(int offset) {
+        int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public int lineStart(int line) {
+        return lineStarts[line - 1];
+    }
+
+    // Satır sonu karakteri hariç
+    public int lineEnd(int line) {
+        return line < lineCount ? lineStarts[line] - 1 : text.length();
+    }
+
+    public String line(int line) {
+        return text.subSequence(lineStart(line), lineEnd(line)).toString();
+    }
+
+    // firstLine ile lastLine arası (ikisi de dahil), son satır sonu hariç
+    public String lines(int firstLine, int lastLine) {
+        return text.subSequence(lineStart(firstLine), lineEnd(lastLine)).toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.codeinspector.backend.utils.metrics;
+
+/**
+ * JavaLexer token akışından Halstead sayımı. Operatörler: anahtar kelimeler, operatörler ve ayraçlar;
+ * operandlar: tanımlayıcılar ve literal'ler (true/false/null dahil). Operatör kimlikleri sabittir, operandlar
+ * metinlerine göre SymbolTable'da kimliklendirilir; benzersiz sayımlar IntHashSet ile yapılır.
+ */
+public final class HalsteadCounter {
+
+    private final IntHashSet operators = new IntHashSet();
+    private final IntHashSet operands = new IntHashSet();
+    private int totalOperators;
+    private int totalOperands;
+
+    public static HalsteadMetrics count(String source) {
+        JavaLexer lexer = new JavaLexer(source);
+        SymbolTable symbols = new SymbolTable(source);
+        HalsteadCounter counter = new HalsteadCounter();
+        for (int kind = lexer.next(); kind != JavaLexer.END; kind = lexer.next()) {
+            counter.add(lexer, symbols, kind);
+        }
+        return counter.result();
+    }
+
+    public void add(JavaLexer lexer, SymbolTable symbols, int kind) {
+        switch (kind) {
+            case JavaLexer.SYMBOL -> operator(lexer.code());
+            case JavaLexer.KEYWORD -> operator(JavaLexer.SYMBOL_COUNT + lexer.code());
+            case JavaLexer.IDENTIFIER, JavaLexer.LITERAL -> operand(symbols.intern(lexer.start(), lexer.end()));
+            default -> { }
+        }
+    }
+
+    public HalsteadMetrics result() {
+        return new HalsteadMetrics(operators.size(), operands.size(), totalOperators, totalOperands);
+    }
+
+    public void operator(int id) {
+        operators.add(id);
+        totalOperators++;
+    }
+
+    public void operand(int id) {
+        operands.add(id);
+        totalOperands++;
+    }
+}
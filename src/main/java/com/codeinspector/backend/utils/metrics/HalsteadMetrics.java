@@ -0,0 +1,42 @@
+package com.codeinspector.backend.utils.metrics;
+
+// n1/n2: benzersiz operatör/operand sayısı, N1/N2: toplam operatör/operand sayısı
+public record HalsteadMetrics(int distinctOperators, int distinctOperands, int totalOperators, int totalOperands) {
+
+    public int programLength() {
+        return totalOperators + totalOperands;
+    }
+
+    public int vocabulary() {
+        return distinctOperators + distinctOperands;
+    }
+
+    public double volume() {
+        return programLength() * (Math.log(vocabulary()) / Math.log(2));
+    }
+
+    public double difficulty() {
+        return (distinctOperators * totalOperands) / (2.0 * distinctOperands);
+    }
+
+    public double effort() {
+        return difficulty() * volume();
+    }
+
+    public double time() {
+        return effort() / 18.0;
+    }
+
+    public double bugs() {
+        return volume() / 3000.0;
+    }
+
+    // MI = 171 - 5.2 * ln(HV) - 0.23 * CC - 16.2 * ln(LOC), 0-100 aralığına sınırlanır
+    public double maintainabilityIndex(double cyclomaticComplexity, int loc) {
+        double mi = 171
+                  - 5.2 * Math.log(volume())
+                  - 0.23 * cyclomaticComplexity
+                  - 16.2 * Math.log(loc);
+        return Math.max(0, Math.min(100, mi));
+    }
+}
@@ -0,0 +1,67 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Negatif olmayan int değerler için kutulamasız, açık adreslemeli küme. clear() kapasiteyi korur; böylece
+ * metod başına yeniden kullanılan kümeler tekrar bellek ayırmaz.
+ */
+public final class IntHashSet {
+
+    // değer + 1, 0 boş slot
+    private int[] slots;
+    private int size;
+
+    public IntHashSet() {
+        this(64);
+    }
+
+    public IntHashSet(int expectedSize) {
+        slots = new int[Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1];
+    }
+
+    // Değer yeni eklendiyse true
+    public boolean add(int value) {
+        int slot = place(slots, value);
+        if (slots[slot] != 0) {
+            return false;
+        }
+        slots[slot] = value + 1;
+        if (++size * 2 > slots.length) {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            for (int entry : old) {
+                if (entry != 0) {
+                    slots[place(slots, entry - 1)] = entry;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return slots[place(slots, value)] != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(slots, 0);
+            size = 0;
+        }
+    }
+
+    // Değerin bulunduğu ya da eklenebileceği slot
+    private static int place(int[] slots, int value) {
+        int mask = slots.length - 1;
+        int hash = value * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (slots[slot] != 0 && slots[slot] != value + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,282 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Java kaynağı için el yazımı, imleç tabanlı lexer. Token metni kopyalanmaz; her token için tür, kaynak aralığı,
+ * satır ve (anahtar kelime ile operatör/ayraçlar için) sabit bir kimlik verilir. Yorumlar ve boşluklar atlanır.
+ * Operatörler en uzun eşleşmeyle okunur: "==" tek token, "a >>>= b" içinde ">>>=" tek token'dır. Derleyici gibi
+ * generic kapanışındaki ">>" de kaydırma operatörü olarak okunur.
+ */
+public final class JavaLexer {
+
+    public static final int END = 0;
+    public static final int IDENTIFIER = 1;
+    public static final int KEYWORD = 2;
+    public static final int LITERAL = 3;
+    // Operatör veya ayraç (JLS 3.11, 3.12)
+    public static final int SYMBOL = 4;
+
+    private static final String[] SYMBOLS = {
+        "=", ">", "<", "!", "~", "?", ":", "->", "==", ">=", "<=", "!=", "&&", "||", "++", "--",
+        "+", "-", "*", "/", "&", "|", "^", "%", "<<", ">>", ">>>", "+=", "-=", "*=", "/=", "&=",
+        "|=", "^=", "%=", "<<=", ">>=", ">>>=",
+        "(", ")", "{", "}", "[", "]", ";", ",", ".", "...", "@", "::"
+    };
+
+    // var/record/yield bağlamsaldır (JLS 3.9); true/false/null literal'dir. İkisi de listenin sonunda tutulur
+    private static final String[] KEYWORDS = {
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+        "default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "goto", "if",
+        "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "package", "private",
+        "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+        "throw", "throws", "transient", "try", "void", "volatile", "while",
+        "var", "record", "yield",
+        "true", "false", "null"
+    };
+    private static final int FIRST_LITERAL_KEYWORD = KEYWORDS.length - 3;
+    private static final int FIRST_CONTEXTUAL_KEYWORD = FIRST_LITERAL_KEYWORD - 3;
+    private static final int YIELD = FIRST_LITERAL_KEYWORD - 1;
+
+    public static final int SYMBOL_COUNT = SYMBOLS.length;
+    public static final int KEYWORD_COUNT = FIRST_LITERAL_KEYWORD;
+
+    // İlk karaktere göre sembol kimlikleri, uzun olan önce
+    private static final int[][] SYMBOLS_BY_FIRST_CHAR = new int[128][];
+    private static final int[] KEYWORD_SLOTS = new int[256];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            char first = c;
+            SYMBOLS_BY_FIRST_CHAR[c] = IntStream.range(0, SYMBOLS.length)
+                .filter(id -> SYMBOLS[id].charAt(0) == first)
+                .boxed()
+                .sorted((a, b) -> SYMBOLS[b].length() - SYMBOLS[a].length())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+        for (int id = 0; id < KEYWORDS.length; id++) {
+            int slot = hash(KEYWORDS[id], 0, KEYWORDS[id].length()) & (KEYWORD_SLOTS.length - 1);
+            while (KEYWORD_SLOTS[slot] != 0) {
+                slot = (slot + 1) & (KEYWORD_SLOTS.length - 1);
+            }
+            KEYWORD_SLOTS[slot] = id + 1;
+        }
+    }
+
+    private final String source;
+    private final int length;
+    private int position;
+    private int line = 1;
+    private int start;
+    private int end;
+    private int tokenLine;
+    private int code;
+
+    public JavaLexer(String source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    // Sabit kimlik aramaları; tanımlı değilse -1
+    public static int keywordId(String keyword) {
+        return Arrays.asList(KEYWORDS).indexOf(keyword);
+    }
+
+    public static int symbolId(String symbol) {
+        return Arrays.asList(SYMBOLS).indexOf(symbol);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    // Token başlangıcı ve sonu (hariç)
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    // Token'ın başladığı satır, 1'den başlar
+    public int line() {
+        return tokenLine;
+    }
+
+    // KEYWORD için 0..KEYWORD_COUNT-1, SYMBOL için 0..SYMBOL_COUNT-1
+    public int code() {
+        return code;
+    }
+
+    public int next() {
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '\n') {
+                line++;
+                position++;
+            } else if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '/' && position + 1 < length && source.charAt(position + 1) == '/') {
+                while (position < length && source.charAt(position) != '\n') {
+                    position++;
+                }
+            } else if (c == '/' && position + 1 < length && source.charAt(position + 1) == '*') {
+                int close = source.indexOf("*/", position + 2);
+                skipTo(close < 0 ? length : close + 2);
+            } else {
+                start = position;
+                tokenLine = line;
+                int kind = token(c);
+                if (kind != END) {
+                    end = position;
+                    return kind;
+                }
+            }
+        }
+        start = end = length;
+        return END;
+    }
+
+    private int token(char c) {
+        if (c == '"') {
+            skipTo(source.startsWith("\"\"\"", position) ? textBlockEnd(position + 3) : quotedEnd(position + 1, c));
+            return LITERAL;
+        }
+        if (c == '\'') {
+            skipTo(quotedEnd(position + 1, c));
+            return LITERAL;
+        }
+        if (isDigit(c) || c == '.' && position + 1 < length && isDigit(source.charAt(position + 1))) {
+            position++;
+            while (position < length && isNumberPart(position)) {
+                position++;
+            }
+            return LITERAL;
+        }
+        if (Character.isJavaIdentifierStart(c)) {
+            position++;
+            while (position < length && Character.isJavaIdentifierPart(source.charAt(position))) {
+                position++;
+            }
+            code = keyword(start, position);
+            if (code < 0 || code >= FIRST_CONTEXTUAL_KEYWORD && code < FIRST_LITERAL_KEYWORD && usedAsName(code)) {
+                return IDENTIFIER;
+            }
+            return code >= FIRST_LITERAL_KEYWORD ? LITERAL : KEYWORD;
+        }
+        if (c < 128) {
+            for (int id : SYMBOLS_BY_FIRST_CHAR[c]) {
+                if (source.startsWith(SYMBOLS[id], position)) {
+                    position += SYMBOLS[id].length();
+                    code = id;
+                    return SYMBOL;
+                }
+            }
+        }
+        // Java'da anlamı olmayan karakter (ör. '#', '\\')
+        position++;
+        return END;
+    }
+
+    // Bağlamsal anahtar kelime ad olarak kullanılmış mı: "record.size()", "int var = 1;", "yield = 2"
+    private boolean usedAsName(int keyword) {
+        int i = position;
+        while (i < length && Character.isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return true;
+        }
+        char next = source.charAt(i);
+        if (".=;,)]:[?*/%&|^<>".indexOf(next) >= 0 || next == '!' && source.startsWith("!=", i)) {
+            return true;
+        }
+        // "yield -1;" bir yield ifadesidir
+        return keyword != YIELD && (next == '+' || next == '-');
+    }
+
+    private int keyword(int from, int to) {
+        int length = to - from;
+        int slot = hash(source, from, to) & (KEYWORD_SLOTS.length - 1);
+        while (KEYWORD_SLOTS[slot] != 0) {
+            int id = KEYWORD_SLOTS[slot] - 1;
+            if (KEYWORDS[id].length() == length && source.regionMatches(from, KEYWORDS[id], 0, length)) {
+                return id;
+            }
+            slot = (slot + 1) & (KEYWORD_SLOTS.length - 1);
+        }
+        return -1;
+    }
+
+    static int hash(String text, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private void skipTo(int target) {
+        for (; position < target; position++) {
+            if (source.charAt(position) == '\n') {
+                line++;
+            }
+        }
+    }
+
+    private boolean isNumberPart(int i) {
+        char c = source.charAt(i);
+        if (Character.isLetterOrDigit(c) || c == '_' || c == '.') {
+            return true;
+        }
+        // 1e-5, 0x1p+3
+        char previous = source.charAt(i - 1);
+        return (c == '+' || c == '-') && (previous == 'e' || previous == 'E' || previous == 'p' || previous == 'P')
+            && !isHexDigits(i - 1);
+    }
+
+    // 0xE+1 bir toplama ifadesidir, üs değil
+    private boolean isHexDigits(int exponent) {
+        if (source.charAt(exponent) == 'p' || source.charAt(exponent) == 'P') {
+            return false;
+        }
+        for (int i = exponent; i > start; i--) {
+            char c = source.charAt(i - 1);
+            if (c == 'x' || c == 'X') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int quotedEnd(int from, char quote) {
+        for (int i = from; i < length; i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote || c == '\n') {
+                return c == quote ? i + 1 : i;
+            }
+        }
+        return length;
+    }
+
+    private int textBlockEnd(int from) {
+        for (int i = from; i < length; i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (source.startsWith("\"\"\"", i)) {
+                return i + 3;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,384 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import com.codeinspector.backend.dto.MemberMetrics;
+
+/**
+ * Sınıf ve metod başına LOC, McCabe karmaşıklığı, Halstead ve bakım indeksi. Kaynak JavaLexer ile bir kez taranır;
+ * süslü parantezler bir çerçeve yığınıyla izlenir ve her token o an açık metoda ve en içteki tipe yazılır. Üye
+ * bildiriminin başlığı (annotation, niteleyiciler, dönüş tipi, parametreler) metod mu alan mı olduğu belli olana
+ * kadar tamponda bekler. Satırlar metod/tip kapanır kapanmaz üretilir; sonuçlar bellekte biriktirilmez.
+ *
+ * Yalnızca tip gövdesinin doğrudan üyeleri metod sayılır: lambda, anonim ve yerel sınıf içerikleri çevreleyen
+ * metoda, enum sabiti gövdeleri ve başlatıcı blokları tipe yazılır; gövdesiz (abstract, interface) metodlar tabloya
+ * girmez. Karar noktaları: if, for, while, case, catch, &&, || ve üçlü ?: (do-while döngüsü while anahtar
+ * kelimesiyle bir kez sayılır).
+ */
+public final class MemberMetricsScanner {
+
+    private static final int TYPE = 1;
+    private static final int METHOD = 2;
+    private static final int BLOCK = 3;
+
+    private static final int CLASS = JavaLexer.keywordId("class");
+    private static final int INTERFACE = JavaLexer.keywordId("interface");
+    private static final int ENUM = JavaLexer.keywordId("enum");
+    private static final int THROWS = JavaLexer.keywordId("throws");
+    private static final int IF = JavaLexer.keywordId("if");
+    private static final int FOR = JavaLexer.keywordId("for");
+    private static final int WHILE = JavaLexer.keywordId("while");
+    private static final int CASE = JavaLexer.keywordId("case");
+    private static final int CATCH = JavaLexer.keywordId("catch");
+    private static final int OPEN_BRACE = JavaLexer.symbolId("{");
+    private static final int CLOSE_BRACE = JavaLexer.symbolId("}");
+    private static final int OPEN_PAREN = JavaLexer.symbolId("(");
+    private static final int CLOSE_PAREN = JavaLexer.symbolId(")");
+    private static final int SEMICOLON = JavaLexer.symbolId(";");
+    private static final int ASSIGN = JavaLexer.symbolId("=");
+    private static final int DOT = JavaLexer.symbolId(".");
+    private static final int COMMA = JavaLexer.symbolId(",");
+    private static final int LESS = JavaLexer.symbolId("<");
+    private static final int QUESTION = JavaLexer.symbolId("?");
+    private static final int AND = JavaLexer.symbolId("&&");
+    private static final int OR = JavaLexer.symbolId("||");
+
+    // Tip bildirimi: anahtar kelimeden sonra ad, addan sonra gövde bekleniyor
+    private static final int NO_TYPE = 0;
+    private static final int TYPE_NAME = 1;
+    private static final int TYPE_BODY = 2;
+
+    private final JavaLexer lexer;
+    private final SymbolTable symbols;
+    private final Consumer<MemberMetrics> typeRows;
+    private final Consumer<MemberMetrics> methodRows;
+
+    private int[] frames = new int[32];
+    private Member[] frameTypes = new Member[32];
+    private int depth;
+    // En içteki tip ve açık metod
+    private Member type;
+    private Member method;
+
+    // Tip gövdesindeki mevcut üye bildirimi
+    private final Header header = new Header();
+    private int parens;
+    private boolean initializer;
+    private String candidate;
+    private boolean candidateClosed;
+    private int pendingType;
+    private boolean pendingEnum;
+    private String pendingName;
+
+    private int previousKind = JavaLexer.END;
+    private int previousCode;
+    private int previousStart;
+    private int previousEnd;
+    private int previousLine;
+
+    private MemberMetricsScanner(String source, Consumer<MemberMetrics> typeRows, Consumer<MemberMetrics> methodRows) {
+        this.lexer = new JavaLexer(source);
+        this.symbols = new SymbolTable(source);
+        this.typeRows = typeRows;
+        this.methodRows = methodRows;
+    }
+
+    public static void scan(String source, Consumer<MemberMetrics> typeRows, Consumer<MemberMetrics> methodRows) {
+        new MemberMetricsScanner(source, typeRows, methodRows).run();
+    }
+
+    private void run() {
+        for (int kind = lexer.next(); kind != JavaLexer.END; kind = lexer.next()) {
+            token(kind);
+            previousKind = kind;
+            previousCode = lexer.code();
+            previousStart = lexer.start();
+            previousEnd = lexer.end();
+            previousLine = lexer.line();
+        }
+        // Kapanmamış girdi: açık kalan üyeler son satırda kapatılır
+        while (depth > 0) {
+            close(previousLine);
+        }
+    }
+
+    private void token(int kind) {
+        int code = lexer.code();
+        int line = lexer.line();
+        boolean operator = kind == JavaLexer.SYMBOL || kind == JavaLexer.KEYWORD;
+        int id = switch (kind) {
+            case JavaLexer.SYMBOL -> code;
+            case JavaLexer.KEYWORD -> JavaLexer.SYMBOL_COUNT + code;
+            default -> symbols.intern(lexer.start(), lexer.end());
+        };
+        boolean decision = isDecision(kind, code);
+        boolean symbol = kind == JavaLexer.SYMBOL;
+
+        int frame = depth == 0 ? 0 : frames[depth - 1];
+        if (frame == METHOD || frame == BLOCK) {
+            if (symbol && code == OPEN_BRACE) {
+                attribute(id, operator, line, decision);
+                push(BLOCK, null);
+            } else if (symbol && code == CLOSE_BRACE) {
+                attribute(id, operator, line, decision);
+                close(line);
+            } else {
+                attribute(id, operator, line, decision);
+            }
+            return;
+        }
+
+        // Tip gövdesi ya da dosya düzeyi
+        if (symbol && code == OPEN_BRACE && parens == 0) {
+            if (pendingType == TYPE_BODY) {
+                Member declared = new Member(qualified(pendingName), header.firstLine(line));
+                header.flushTo(declared, null);
+                declared.token(id, operator, line, decision);
+                declared.enumConstants = pendingEnum;
+                push(TYPE, declared);
+                endMember();
+            } else if (candidateClosed && type != null) {
+                method = new Member(type.name + "." + candidate, header.firstLine(line));
+                header.flushTo(type, method);
+                attribute(id, operator, line, decision);
+                push(METHOD, null);
+            } else {
+                // Başlatıcı bloğu, dizi başlatıcısı, anonim sınıf, enum sabiti gövdesi
+                header.flushTo(type, null);
+                attribute(id, operator, line, decision);
+                push(BLOCK, null);
+            }
+            return;
+        }
+        if (symbol && code == CLOSE_BRACE && parens == 0) {
+            header.flushTo(type, null);
+            attribute(id, operator, line, decision);
+            if (depth > 0) {
+                close(line);
+            }
+            return;
+        }
+
+        header.add(id, operator, line, decision);
+        if (symbol && code == SEMICOLON && parens == 0) {
+            header.flushTo(type, null);
+            if (type != null) {
+                type.enumConstants = false;
+            }
+            endMember();
+            return;
+        }
+        declaration(kind, code);
+    }
+
+    // Tip gövdesinde üye bildiriminin ne olduğunu izler
+    private void declaration(int kind, int code) {
+        boolean symbol = kind == JavaLexer.SYMBOL;
+        if (symbol && code == OPEN_PAREN) {
+            if (parens == 0 && previousKind == JavaLexer.IDENTIFIER && pendingType == NO_TYPE && !initializer
+                && type != null && !type.enumConstants) {
+                candidate = lexer.source().substring(previousStart, previousEnd);
+                candidateClosed = false;
+            } else if (parens == 0) {
+                candidate = null;
+            }
+            parens++;
+            return;
+        }
+        if (symbol && code == CLOSE_PAREN) {
+            parens = Math.max(0, parens - 1);
+            candidateClosed = parens == 0 && candidate != null;
+            return;
+        }
+        if (parens > 0) {
+            return;
+        }
+        if (candidateClosed && !(kind == JavaLexer.KEYWORD && code == THROWS) && kind != JavaLexer.IDENTIFIER
+            && !(symbol && (code == DOT || code == COMMA))) {
+            candidate = null;
+            candidateClosed = false;
+        }
+        if (symbol && code == ASSIGN) {
+            initializer = true;
+        } else if (kind == JavaLexer.KEYWORD && (code == CLASS || code == INTERFACE || code == ENUM)
+            && !(previousKind == JavaLexer.SYMBOL && previousCode == DOT) && !initializer) {
+            pendingType = TYPE_NAME;
+            pendingEnum = code == ENUM;
+        } else if (kind == JavaLexer.IDENTIFIER) {
+            String source = lexer.source();
+            if (pendingType == TYPE_NAME) {
+                pendingType = TYPE_BODY;
+                pendingName = source.substring(lexer.start(), lexer.end());
+            } else if (pendingType == NO_TYPE && !initializer && previousKind == JavaLexer.IDENTIFIER
+                && previousEnd - previousStart == 6 && source.startsWith("record", previousStart)) {
+                pendingType = TYPE_BODY;
+                pendingEnum = false;
+                pendingName = source.substring(lexer.start(), lexer.end());
+            }
+        }
+    }
+
+    private boolean isDecision(int kind, int code) {
+        if (kind == JavaLexer.KEYWORD) {
+            return code == IF || code == FOR || code == WHILE || code == CASE || code == CATCH;
+        }
+        if (kind != JavaLexer.SYMBOL) {
+            return false;
+        }
+        if (code == QUESTION) {
+            // List<?>, Map<K, ?> joker tipleri karar noktası değildir
+            return !(previousKind == JavaLexer.SYMBOL && (previousCode == LESS || previousCode == COMMA));
+        }
+        return code == AND || code == OR;
+    }
+
+    private void attribute(int id, boolean operator, int line, boolean decision) {
+        if (type != null) {
+            type.token(id, operator, line, decision);
+        }
+        if (method != null) {
+            method.token(id, operator, line, decision);
+        }
+    }
+
+    private String qualified(String name) {
+        return type == null ? name : type.name + "." + name;
+    }
+
+    private void push(int frame, Member member) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+            frameTypes = Arrays.copyOf(frameTypes, depth * 2);
+        }
+        frames[depth] = frame;
+        frameTypes[depth++] = member;
+        if (frame == TYPE) {
+            type = member;
+        }
+    }
+
+    private void close(int line) {
+        int frame = frames[--depth];
+        Member closed = frameTypes[depth];
+        frameTypes[depth] = null;
+        if (frame == METHOD) {
+            methodRows.accept(method.row(line));
+            method = null;
+        } else if (frame == TYPE) {
+            typeRows.accept(closed.row(line));
+            type = null;
+            for (int i = depth - 1; i >= 0 && type == null; i--) {
+                type = frameTypes[i];
+            }
+        }
+        if (frame != BLOCK || depth == 0 || frames[depth - 1] == TYPE) {
+            endMember();
+        }
+    }
+
+    private void endMember() {
+        header.clear();
+        parens = 0;
+        initializer = false;
+        candidate = null;
+        candidateClosed = false;
+        pendingType = NO_TYPE;
+        pendingName = null;
+    }
+
+    private static final class Member {
+
+        final String name;
+        final int line;
+        final HalsteadCounter halstead = new HalsteadCounter();
+        boolean enumConstants;
+        int decisions;
+        int loc;
+        int lastLine;
+
+        Member(String name, int line) {
+            this.name = name;
+            this.line = line;
+        }
+
+        void token(int id, boolean operator, int tokenLine, boolean decision) {
+            if (operator) {
+                halstead.operator(id);
+            } else {
+                halstead.operand(id);
+            }
+            if (decision) {
+                decisions++;
+            }
+            // Token satırları artan sırada gelir
+            if (tokenLine != lastLine) {
+                loc++;
+                lastLine = tokenLine;
+            }
+        }
+
+        MemberMetrics row(int endLine) {
+            HalsteadMetrics metrics = halstead.result();
+            int complexity = decisions + 1;
+            return new MemberMetrics(
+                name,
+                line,
+                endLine,
+                loc,
+                complexity,
+                metrics.programLength(),
+                metrics.vocabulary(),
+                metrics.volume(),
+                metrics.difficulty(),
+                metrics.effort(),
+                metrics.bugs(),
+                metrics.maintainabilityIndex(complexity, loc)
+            );
+        }
+    }
+
+    // Türü henüz belli olmayan üye bildiriminin token'ları
+    private static final class Header {
+
+        int[] ids = new int[64];
+        int[] lines = new int[64];
+        // bit 0: operatör, bit 1: karar noktası
+        byte[] flags = new byte[64];
+        int size;
+
+        void add(int id, boolean operator, int line, boolean decision) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                lines = Arrays.copyOf(lines, size * 2);
+                flags = Arrays.copyOf(flags, size * 2);
+            }
+            ids[size] = id;
+            lines[size] = line;
+            flags[size++] = (byte) ((operator ? 1 : 0) | (decision ? 2 : 0));
+        }
+
+        void flushTo(Member type, Member method) {
+            for (int i = 0; i < size; i++) {
+                boolean operator = (flags[i] & 1) != 0;
+                boolean decision = (flags[i] & 2) != 0;
+                if (type != null) {
+                    type.token(ids[i], operator, lines[i], decision);
+                }
+                if (method != null) {
+                    method.token(ids[i], operator, lines[i], decision);
+                }
+            }
+            size = 0;
+        }
+
+        // Bildirimin ilk satırı (annotation ve niteleyiciler dahil)
+        int firstLine(int fallback) {
+            return size > 0 ? lines[0] : fallback;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.codeinspector.backend.utils.metrics;
+
+import com.codeinspector.backend.dto.MemberMetrics;
+import com.codeinspector.backend.dto.PackageMetrics;
+
+/**
+ * Dosya ve metod metriklerini değer saklamadan QuantileSketch'lerde toplar. Bir dosya önce kendi aggregator'ında
+ * hesaplanıp paket aggregator'ına merge edilir; sketch'ler sıra bağımsız birleştiği için sonuç deterministiktir.
+ */
+public final class MetricsAggregator {
+
+    private final QuantileSketch fileLoc = new QuantileSketch();
+    private final QuantileSketch methodLoc = new QuantileSketch();
+    private final QuantileSketch methodComplexity = new QuantileSketch();
+    private int fileCount;
+
+    public void addFile(int codeLines) {
+        fileCount++;
+        fileLoc.add(codeLines);
+    }
+
+    public void addMethod(MemberMetrics method) {
+        methodLoc.add(method.loc());
+        methodComplexity.add(method.complexity());
+    }
+
+    public void merge(MetricsAggregator other) {
+        fileCount += other.fileCount;
+        fileLoc.merge(other.fileLoc);
+        methodLoc.merge(other.methodLoc);
+        methodComplexity.merge(other.methodComplexity);
+    }
+
+    public PackageMetrics result() {
+        return new PackageMetrics(fileCount, fileLoc.distribution(), methodLoc.distribution(), methodComplexity.distribution());
+    }
+}
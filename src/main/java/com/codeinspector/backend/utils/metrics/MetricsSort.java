@@ -0,0 +1,26 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Comparator;
+
+import com.codeinspector.backend.dto.MemberMetrics;
+
+// Metrik tablosu sıralama ölçütleri; karşılaştırıcılar en kötü satırı öne alır
+public enum MetricsSort {
+
+    LOC(Comparator.comparingInt(MemberMetrics::loc).reversed()),
+    COMPLEXITY(Comparator.comparingInt(MemberMetrics::complexity).reversed()),
+    VOLUME(Comparator.comparingDouble(MemberMetrics::halsteadVolume).reversed()),
+    EFFORT(Comparator.comparingDouble(MemberMetrics::halsteadEffort).reversed()),
+    // Düşük bakım indeksi daha kötüdür
+    MAINTAINABILITY(Comparator.comparingDouble(MemberMetrics::maintainabilityIndex));
+
+    private final Comparator<MemberMetrics> worstFirst;
+
+    MetricsSort(Comparator<MemberMetrics> order) {
+        this.worstFirst = order.thenComparingInt(MemberMetrics::line).thenComparing(MemberMetrics::name);
+    }
+
+    public Comparator<MemberMetrics> worstFirst() {
+        return worstFirst;
+    }
+}
@@ -0,0 +1,230 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+
+/**
+ * CodeMetricsAnalyzer sayaçlarını tek geçişte hesaplar. Her satır bir kez taranır; kelimeler (ASCII [A-Za-z0-9_]
+ * dizileri) anahtar kelime gruplarına ayrılır ve bütün sayaçlar aynı taramada güncellenir. Sonuçlar önceki satır
+ * başına regex kurallarıyla birebir aynıdır: kelime kuralları \b sınırlarını izler ve '.' karakterinin satır sonu
+ * karakterleriyle eşleşmemesi de korunur. Halstead sayımı token tabanlıdır (HalsteadCounter).
+ */
+public final class MetricsSweep {
+
+    public record Totals(
+        int lines,
+        int methods,
+        int classes,
+        int loops,
+        int comments,
+        int decisionLines,
+        int variables,
+        int functionCalls,
+        int maxLineLength,
+        int emptyLines,
+        int codeLines
+    ) {}
+
+    private static final int ACCESS = 1;
+    private static final int CLASS = 1 << 1;
+    private static final int LOOP = 1 << 2;
+    private static final int DECISION = 1 << 3;
+    private static final int TYPE = 1 << 4;
+
+    private record Keyword(String text, int groups) {}
+
+    private static final Keyword[][] KEYWORDS_BY_LENGTH = new Keyword[10][];
+
+    static {
+        Keyword[] keywords = {
+            new Keyword("public", ACCESS),
+            new Keyword("private", ACCESS),
+            new Keyword("protected", ACCESS),
+            new Keyword("class", CLASS),
+            new Keyword("do", LOOP),
+            new Keyword("for", LOOP | DECISION),
+            new Keyword("while", LOOP | DECISION),
+            new Keyword("if", DECISION),
+            new Keyword("else", DECISION),
+            new Keyword("case", DECISION),
+            new Keyword("catch", DECISION),
+            new Keyword("int", TYPE),
+            new Keyword("double", TYPE),
+            new Keyword("String", TYPE),
+            new Keyword("boolean", TYPE),
+            new Keyword("char", TYPE),
+            new Keyword("float", TYPE),
+            new Keyword("long", TYPE),
+            new Keyword("short", TYPE),
+            new Keyword("byte", TYPE)
+        };
+        for (int length = 0; length < KEYWORDS_BY_LENGTH.length; length++) {
+            int size = length;
+            KEYWORDS_BY_LENGTH[length] = Arrays.stream(keywords)
+                .filter(keyword -> keyword.text().length() == size)
+                .toArray(Keyword[]::new);
+        }
+    }
+
+    private final String source;
+    private int lines;
+    private int methods;
+    private int classes;
+    private int loops;
+    private int comments;
+    private int decisionLines;
+    private int variables;
+    private int functionCalls;
+    private int maxLineLength;
+    private int emptyLines;
+    private int codeLines;
+
+    private MetricsSweep(String source) {
+        this.source = source;
+    }
+
+    public static Totals sweep(String code) {
+        MetricsSweep sweep = new MetricsSweep(code.strip());
+        sweep.run();
+        return new Totals(sweep.lines, sweep.methods, sweep.classes, sweep.loops, sweep.comments, sweep.decisionLines,
+            sweep.variables, sweep.functionCalls, sweep.maxLineLength, sweep.emptyLines, sweep.codeLines);
+    }
+
+    // split("\n") ile aynı satırlar: boş girdi tek satırdır, strip sonrası sonda boş satır kalmaz
+    private void run() {
+        int length = source.length();
+        int start = 0;
+        while (true) {
+            int end = source.indexOf('\n', start);
+            if (end < 0) {
+                end = length;
+            }
+            line(start, end);
+            if (end == length) {
+                return;
+            }
+            start = end + 1;
+        }
+    }
+
+    private void line(int from, int to) {
+        lines++;
+        maxLineLength = Math.max(maxLineLength, to - from);
+        if (isBlank(from, to)) {
+            emptyLines++;
+        }
+
+        // String.trim() sınırları
+        int begin = from;
+        int end = to;
+        while (begin < end && source.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        boolean comment = source.startsWith("//", begin) && begin + 2 <= end
+            || source.startsWith("/*", begin) && begin + 2 <= end;
+        if (comment || begin < end && source.charAt(begin) == '*') {
+            comments++;
+        }
+        if (!comment && begin < end) {
+            codeLines++;
+        }
+
+        int groups = 0;
+        boolean singleLine = true;
+        // 0: erişim belirleyici, 1: '(' ve 2: ')' bekleniyor, 3: metod imzası
+        int methodState = 0;
+        int firstCallParen = -1;
+        int i = begin;
+        while (i < end) {
+            char c = source.charAt(i);
+            if (isWordChar(c)) {
+                int start = i;
+                while (i < end && isWordChar(source.charAt(i))) {
+                    i++;
+                }
+                Keyword keyword = keyword(start, i);
+                if (keyword != null) {
+                    groups |= keyword.groups();
+                    if ((keyword.groups() & ACCESS) != 0 && methodState == 0) {
+                        methodState = 1;
+                    }
+                }
+                continue;
+            }
+            if (c == '(') {
+                if (methodState == 1) {
+                    methodState = 2;
+                }
+                if (firstCallParen < 0 && i > begin && isWordChar(source.charAt(i - 1))) {
+                    firstCallParen = i;
+                }
+            } else if (c == ')') {
+                if (methodState == 2) {
+                    methodState = 3;
+                }
+            } else if (c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                singleLine = false;
+            }
+            i++;
+        }
+
+        // Satır kuralları ".*" ile başlar; '.' satır sonu karakterlerini geçemez
+        if (!singleLine) {
+            return;
+        }
+        if (methodState == 3) {
+            methods++;
+        }
+        if ((groups & CLASS) != 0) {
+            classes++;
+        }
+        if ((groups & LOOP) != 0) {
+            loops++;
+        }
+        if ((groups & DECISION) != 0) {
+            decisionLines++;
+        }
+        boolean statement = end > begin && source.charAt(end - 1) == ';';
+        if ((groups & TYPE) != 0 && statement) {
+            variables++;
+        }
+        // \w+\(.*\); : çağrı parantezi sondaki ");" ile çakışmamalı
+        if (statement && end - begin >= 2 && source.charAt(end - 2) == ')'
+            && firstCallParen >= 0 && firstCallParen <= end - 3) {
+            functionCalls++;
+        }
+    }
+
+    private Keyword keyword(int from, int to) {
+        int length = to - from;
+        if (length >= KEYWORDS_BY_LENGTH.length) {
+            return null;
+        }
+        for (Keyword keyword : KEYWORDS_BY_LENGTH[length]) {
+            if (source.startsWith(keyword.text(), from)) {
+                return keyword;
+            }
+        }
+        return null;
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Java 19+ \b ve \w varsayılan olarak yalnızca ASCII'dir
+    private static boolean isWordChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+
+import com.codeinspector.backend.dto.MetricDistribution;
+
+/**
+ * Negatif olmayan int değerler için akış halinde çalışan, birleştirilebilir quantile sketch'i (log-lineer histogram).
+ * 64'ten küçük değerler kendi kovasında tam sayılır; daha büyük değerler her ikinin kuvveti aralığında 32 eşit kovaya
+ * düşer, kova ortası döndürüldüğü için göreli hata en fazla 1/64'tür. Bellek değer sayısından bağımsızdır (en fazla
+ * 864 kova) ve kovalar toplama ile birleştiği için sonuç ekleme/birleştirme sırasına bağlı değildir.
+ */
+public final class QuantileSketch {
+
+    private static final int EXACT = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int SUB_BITS = 5;
+    private static final int MAX_BUCKETS = index(Integer.MAX_VALUE) + 1;
+
+    private int[] counts = new int[0];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max;
+
+    public void add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative");
+        }
+        int index = index(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.min(MAX_BUCKETS, Math.max(index + 1, counts.length * 2)));
+        }
+        counts[index]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    // En yakın sıra (nearest-rank) quantile'ı; q 0 ile 1 arasında. Boş sketch'te 0
+    public int quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, midpoint(i)));
+            }
+        }
+        return max;
+    }
+
+    public MetricDistribution distribution() {
+        return new MetricDistribution(
+            count,
+            count == 0 ? 0.0 : (double) sum / count,
+            count == 0 ? 0 : min,
+            quantile(0.5),
+            quantile(0.9),
+            quantile(0.99),
+            max
+        );
+    }
+
+    // EXACT altı: değerin kendisi; üstü: (üs, üs altındaki 5 bit) çifti
+    private static int index(int value) {
+        if (value < EXACT) {
+            return value;
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        return EXACT + (exponent - 6) * SUB_BUCKETS + ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static int midpoint(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int exponent = (index - EXACT) / SUB_BUCKETS + 6;
+        int shift = exponent - SUB_BITS;
+        long low = (long) ((index - EXACT) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        long high = low + (1L << shift) - 1;
+        return (int) ((low + high) / 2);
+    }
+}
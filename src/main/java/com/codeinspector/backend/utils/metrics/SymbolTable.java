@@ -0,0 +1,67 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Tek bir kaynak metindeki token aralıklarını yoğun int kimliklere çevirir (0, 1, 2, ...). Aynı metne sahip
+ * aralıklar aynı kimliği alır. Metin kopyalanmaz; girişler kaynak içindeki başlangıç/bitiş ofsetleri olarak tutulur
+ * ve açık adresleme ile aranır.
+ */
+public final class SymbolTable {
+
+    private final String source;
+    // kimlik + 1, 0 boş slot
+    private int[] slots = new int[1024];
+    private int[] starts = new int[512];
+    private int[] ends = new int[512];
+    private int[] hashes = new int[512];
+    private int size;
+
+    public SymbolTable(String source) {
+        this.source = source;
+    }
+
+    public int intern(int start, int end) {
+        int hash = JavaLexer.hash(source, start, end);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash && ends[id] - starts[id] == end - start
+                && source.regionMatches(starts[id], source, start, end - start)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        starts[id] = start;
+        ends[id] = end;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+}
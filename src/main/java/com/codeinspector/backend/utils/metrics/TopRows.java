@@ -0,0 +1,44 @@
+package com.codeinspector.backend.utils.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.codeinspector.backend.dto.MemberMetrics;
+
+/**
+ * Satırları en kötüden iyiye sıralı toplar. limit > 0 ise yalnızca en kötü limit satır, başında en iyi tutulanın
+ * durduğu sınırlı bir yığında saklanır; büyük dosyalarda bellek ve sıralama maliyeti limit ile sınırlı kalır.
+ * limit 0 tüm satırlar demektir.
+ */
+public final class TopRows {
+
+    private final Comparator<MemberMetrics> worstFirst;
+    private final int limit;
+    private final List<MemberMetrics> all = new ArrayList<>();
+    private final PriorityQueue<MemberMetrics> worst;
+
+    public TopRows(MetricsSort sort, int limit) {
+        this.worstFirst = sort.worstFirst();
+        this.limit = limit;
+        this.worst = limit > 0 ? new PriorityQueue<>(limit + 1, worstFirst.reversed()) : null;
+    }
+
+    public void add(MemberMetrics row) {
+        if (worst == null) {
+            all.add(row);
+            return;
+        }
+        worst.add(row);
+        if (worst.size() > limit) {
+            worst.poll();
+        }
+    }
+
+    public List<MemberMetrics> rows() {
+        List<MemberMetrics> rows = new ArrayList<>(worst == null ? all : worst);
+        rows.sort(worstFirst);
+        return rows;
+    }
+}
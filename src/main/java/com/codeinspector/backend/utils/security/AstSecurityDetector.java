@@ -0,0 +1,23 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+
+/**
+ * Ayrıştırılmış CompilationUnit üzerinde çalışan dedektör.
+ * AST modunda supersededPatterns() içindeki regex pattern'leri çalıştırılmaz.
+ */
+public interface AstSecurityDetector {
+
+    String type();
+
+    Set<String> supersededPatterns();
+
+    // Bulgu olabilmesi için kaynakta geçmesi gereken literal'ler; hiçbiri yoksa ayrıştırma atlanır
+    Set<String> triggers();
+
+    void detect(CompilationUnit unit, Consumer<Node> findings);
+}
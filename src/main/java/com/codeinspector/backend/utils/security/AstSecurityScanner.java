@@ -0,0 +1,68 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+
+/**
+ * Kaynağı bir kez JavaParser ile ayrıştırır ve tüm AST dedektörlerini aynı ağaç üzerinde çalıştırır.
+ * Yorumlar ve string literal'ler ağaçta ayrı düğümler olduğu için regex'teki yanlış pozitifler oluşmaz.
+ */
+public final class AstSecurityScanner {
+
+    @FunctionalInterface
+    public interface FindingHandler {
+        void onFinding(String type, Node node);
+    }
+
+    private final List<AstSecurityDetector> detectors;
+    private final Set<String> supersededPatterns;
+    private final Set<String> triggers;
+    private final ParserConfiguration configuration;
+
+    public AstSecurityScanner(List<AstSecurityDetector> detectors) {
+        this.detectors = List.copyOf(detectors);
+        Set<String> superseded = new HashSet<>();
+        detectors.forEach(detector -> superseded.addAll(detector.supersededPatterns()));
+        this.supersededPatterns = Set.copyOf(superseded);
+        Set<String> allTriggers = new HashSet<>();
+        detectors.forEach(detector -> allTriggers.addAll(detector.triggers()));
+        this.triggers = Set.copyOf(allTriggers);
+        // RAW: tüm dil sürümlerinin söz dizimi kabul edilir, doğrulayıcılar çalışmaz (ayrıştırma ~2x hızlı)
+        this.configuration = new ParserConfiguration()
+            .setLanguageLevel(ParserConfiguration.LanguageLevel.RAW)
+            .setAttributeComments(false);
+    }
+
+    public Set<String> supersededPatterns() {
+        return supersededPatterns;
+    }
+
+    public boolean isApplicable(String sourceCode) {
+        for (String trigger : triggers) {
+            if (sourceCode.contains(trigger)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // JavaParser örnekleri thread-safe değil; her ayrıştırma kendi parser'ını kullanır
+    public Optional<CompilationUnit> parse(String sourceCode) {
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(sourceCode);
+        return result.isSuccessful() ? result.getResult() : Optional.empty();
+    }
+
+    public void scan(CompilationUnit unit, FindingHandler handler) {
+        for (AstSecurityDetector detector : detectors) {
+            detector.detect(unit, node -> handler.onFinding(detector.type(), node));
+        }
+    }
+}
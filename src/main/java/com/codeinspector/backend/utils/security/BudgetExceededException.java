@@ -0,0 +1,23 @@
+package com.codeinspector.backend.utils.security;
+
+public class BudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        STEP_BUDGET,
+        DEADLINE
+    }
+
+    private final Reason reason;
+
+    public BudgetExceededException(Reason reason) {
+        // Regex motorunun derinliklerinden fırlatılır; stack trace gereksiz maliyet
+        super(reason.name(), null, false, false);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
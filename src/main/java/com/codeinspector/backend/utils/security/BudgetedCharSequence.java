@@ -0,0 +1,65 @@
+package com.codeinspector.backend.utils.security;
+
+/**
+ * Regex motoruna verilen ve her charAt çağrısını sayan CharSequence.
+ * Adım bütçesi ya da deadline aşılırsa BudgetExceededException fırlatır; böylece
+ * geri izleme (backtracking) patlaması yaşayan bir pattern istek thread'ini kilitleyemez.
+ * Okunan en uzak konumu da tutar; artımlı tarama bir denemenin hangi metne bağlı olduğunu buradan bilir.
+ */
+public final class BudgetedCharSequence implements CharSequence {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 4096;
+
+    private final String text;
+    private final long deadlineNanos;
+    private long remainingSteps;
+    private int untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+    private int horizon;
+
+    public BudgetedCharSequence(String text, long steps, long deadlineNanos) {
+        this.text = text;
+        this.remainingSteps = steps;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (--remainingSteps < 0) {
+            throw new BudgetExceededException(BudgetExceededException.Reason.STEP_BUDGET);
+        }
+        if (--untilDeadlineCheck == 0) {
+            untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+            if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+                throw new BudgetExceededException(BudgetExceededException.Reason.DEADLINE);
+            }
+        }
+        if (index >= horizon) {
+            horizon = index + 1;
+        }
+        return text.charAt(index);
+    }
+
+    // Son resetHorizon çağrısından beri okunan en uzak konumun bir fazlası
+    public int horizon() {
+        return horizon;
+    }
+
+    public void resetHorizon() {
+        horizon = 0;
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.model.security.SecurityRule;
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+
+/**
+ * Doğrulanmış ve derlenmiş kural paketleri. fingerprint dosya adları ve içeriklerinden hesaplanır.
+ */
+public record CompiledRulePacks(
+    List<String> packNames,
+    Map<String, VulnerabilityPattern> patterns,
+    List<SecurityRule> rules,
+    Map<String, Long> compileNanos,
+    String fingerprint,
+    long loadNanos
+) {}
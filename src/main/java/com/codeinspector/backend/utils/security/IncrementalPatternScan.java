@@ -0,0 +1,225 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+import com.codeinspector.backend.utils.security.SecurityAnalysisSnapshot.Span;
+
+/**
+ * Önceki pattern eşleşmelerini düzenlemeye göre kaydırır ve yalnızca düzenlenen pencereyi
+ * yeniden tarar. Pencere sonrasında her pattern'in find() zinciri, eski zincirin bir arama
+ * konumuyla hizalanana kadar sürdürülür; oradan sonraki eski eşleşmeler aynen geçerlidir.
+ * Pencereden önce başlayıp düzenlemeye kadar okuyan denemeler (ör. satır aşan [^?]*) satır aşan
+ * okumalar listesinden bulunur ve o pattern'in taraması o denemeden yeniden başlatılır.
+ */
+public final class IncrementalPatternScan {
+
+    // Düzenlenen aralık: eski metinde [start, oldEnd), yeni metinde [start, newEnd)
+    public record EditRegion(int start, int oldEnd, int newEnd) {
+        public int delta() {
+            return newEnd - oldEnd;
+        }
+    }
+
+    // reads: pattern başına satır aşan denemeler, Span(start, horizon) olarak
+    public record Result(Map<String, List<Span>> matches, Map<String, List<Span>> reads) {}
+
+    private IncrementalPatternScan() {}
+
+    public static Result rescan(
+        MultiPatternScanner scanner,
+        Map<String, VulnerabilityPattern> patterns,
+        String sourceCode,
+        Result previous,
+        EditRegion edit,
+        int windowStart,
+        int windowEnd,
+        ScanBudget budget,
+        MultiPatternScanner.MatchHandler truncations
+    ) {
+        // 1. Eski eşleşmeleri yeni koordinatlara taşı; düzenlemeyle kesişenleri at.
+        // Pencere başını kesen bir eşleşme varsa tarama onun başından başlar.
+        int from = windowStart;
+        Map<String, List<Span>> shifted = new HashMap<>();
+        Map<String, Integer> droppedEnd = new HashMap<>();
+        for (Map.Entry<String, List<Span>> entry : previous.matches().entrySet()) {
+            List<Span> spans = new ArrayList<>(entry.getValue().size());
+            for (Span span : entry.getValue()) {
+                Span moved = shift(span, span.end(), edit);
+                if (moved == null) {
+                    // Eski eşleşmenin tükettiği, pencere dışına taşabilen konumlar yeni zincirde denenmeli
+                    from = Math.min(from, span.start());
+                    int end = span.end() >= edit.oldEnd() ? span.end() + edit.delta() : edit.newEnd();
+                    droppedEnd.merge(entry.getKey(), end, Math::max);
+                    continue;
+                }
+                if (moved.start() < windowStart && moved.end() > windowStart) {
+                    from = Math.min(from, moved.start());
+                }
+                spans.add(moved);
+            }
+            shifted.put(entry.getKey(), spans);
+        }
+
+        // Düzenlemeye kadar okumuş denemeler yalnızca kendi pattern'lerinin başlangıcını geri çeker
+        Map<String, Integer> readFrom = new HashMap<>();
+        Map<String, List<Span>> shiftedReads = new HashMap<>();
+        for (Map.Entry<String, List<Span>> entry : previous.reads().entrySet()) {
+            List<Span> reads = new ArrayList<>(entry.getValue().size());
+            for (Span read : entry.getValue()) {
+                Span moved = shift(read, read.end(), edit);
+                if (moved == null) {
+                    if (read.start() < edit.start()) {
+                        readFrom.merge(entry.getKey(), read.start(), Math::min);
+                    }
+                    continue;
+                }
+                reads.add(moved);
+            }
+            shiftedReads.put(entry.getKey(), reads);
+        }
+
+        // 2. Pencereyi tüm pattern'lerle tek geçişte tara
+        Result scanned = collect(scanner, sourceCode, from, windowEnd, budget, truncations);
+
+        // 3. Pattern başına: önek + yeni eşleşmeler + zincir hizalandıktan sonraki eski eşleşmeler
+        Map<String, List<Span>> merged = new HashMap<>();
+        Map<String, List<Span>> mergedReads = new HashMap<>();
+        for (Map.Entry<String, VulnerabilityPattern> entry : patterns.entrySet()) {
+            String type = entry.getKey();
+            MultiPatternScanner single = null;
+            int patternFrom = from;
+            List<Span> fresh = scanned.matches().getOrDefault(type, List.of());
+            List<Span> freshReads = scanned.reads().getOrDefault(type, List.of());
+            Integer earliestRead = readFrom.get(type);
+            if (earliestRead != null && earliestRead < from) {
+                single = new MultiPatternScanner(Map.of(type, entry.getValue()));
+                Result rescanned = collect(single, sourceCode, earliestRead, windowEnd, budget, truncations);
+                patternFrom = earliestRead;
+                fresh = rescanned.matches().getOrDefault(type, List.of());
+                freshReads = rescanned.reads().getOrDefault(type, List.of());
+            }
+
+            List<Span> old = shifted.getOrDefault(type, List.of());
+            List<Span> oldReads = shiftedReads.getOrDefault(type, List.of());
+            List<Span> spans = new ArrayList<>(old.size() + fresh.size());
+            List<Span> reads = new ArrayList<>(oldReads.size() + freshReads.size());
+
+            int i = 0;
+            while (i < old.size() && old.get(i).start() < patternFrom) {
+                spans.add(old.get(i++));
+            }
+            // Ortak pencere başka bir pattern yüzünden bu pattern'in korunan bir eşleşmesinin içinden başlamış
+            // olabilir; find() zinciri o eşleşmenin sonundan sürer
+            if (!spans.isEmpty() && nextSearch(spans.get(spans.size() - 1)) > patternFrom) {
+                if (single == null) {
+                    single = new MultiPatternScanner(Map.of(type, entry.getValue()));
+                }
+                patternFrom = nextSearch(spans.get(spans.size() - 1));
+                Result rescanned = collect(single, sourceCode, patternFrom, windowEnd, budget, truncations);
+                fresh = rescanned.matches().getOrDefault(type, List.of());
+                freshReads = rescanned.reads().getOrDefault(type, List.of());
+            }
+            spans.addAll(fresh);
+            for (Span read : oldReads) {
+                if (read.start() < patternFrom) {
+                    reads.add(read);
+                }
+            }
+            reads.addAll(freshReads);
+
+            int position = fresh.isEmpty() ? windowEnd : Math.max(windowEnd, nextSearch(fresh.get(fresh.size() - 1)));
+            int consumed = droppedEnd.getOrDefault(type, position);
+            while (true) {
+                int staleEnd;
+                if (consumed > position) {
+                    staleEnd = consumed;
+                    consumed = position;
+                } else if (i < old.size() && old.get(i).start() < position) {
+                    staleEnd = old.get(i++).end();
+                    if (staleEnd <= position) {
+                        continue;
+                    }
+                } else {
+                    break;
+                }
+                // Eski zincirin atladığı [position, staleEnd) aralığı yeni zincirde denenmeli
+                if (single == null) {
+                    single = new MultiPatternScanner(Map.of(type, entry.getValue()));
+                }
+                Result extra = collect(single, sourceCode, position, staleEnd, budget, truncations);
+                List<Span> extraSpans = extra.matches().getOrDefault(type, List.of());
+                spans.addAll(extraSpans);
+                reads.addAll(extra.reads().getOrDefault(type, List.of()));
+                position = extraSpans.isEmpty()
+                    ? staleEnd
+                    : Math.max(staleEnd, nextSearch(extraSpans.get(extraSpans.size() - 1)));
+            }
+            spans.addAll(old.subList(i, old.size()));
+            for (Span read : oldReads) {
+                if (read.start() >= position) {
+                    reads.add(read);
+                }
+            }
+            if (!spans.isEmpty()) {
+                merged.put(type, spans);
+            }
+            if (!reads.isEmpty()) {
+                mergedReads.put(type, reads);
+            }
+        }
+        return new Result(merged, mergedReads);
+    }
+
+    // Düzenlemeden önce biten aralık aynen kalır, sonrasındaki kaydırılır, kesişen için null
+    private static Span shift(Span span, int end, EditRegion edit) {
+        if (span.start() < edit.start() && end <= edit.start()) {
+            return span;
+        }
+        if (span.start() >= edit.oldEnd()) {
+            return new Span(span.start() + edit.delta(), end + edit.delta());
+        }
+        return null;
+    }
+
+    private static int nextSearch(Span span) {
+        return span.end() == span.start() ? span.end() + 1 : span.end();
+    }
+
+    private static Result collect(
+        MultiPatternScanner scanner,
+        String sourceCode,
+        int from,
+        int to,
+        ScanBudget budget,
+        MultiPatternScanner.MatchHandler truncations
+    ) {
+        Map<String, List<Span>> spans = new HashMap<>();
+        Map<String, List<Span>> reads = new HashMap<>();
+        scanner.scanRange(sourceCode, from, to, budget, new MultiPatternScanner.MatchHandler() {
+            @Override
+            public void onMatch(String type, VulnerabilityPattern pattern, int start, int end) {
+                spans.computeIfAbsent(type, k -> new ArrayList<>()).add(new Span(start, end));
+            }
+
+            @Override
+            public void onTruncated(String type, VulnerabilityPattern pattern, int offset, BudgetExceededException.Reason reason) {
+                truncations.onTruncated(type, pattern, offset, reason);
+            }
+
+            @Override
+            public boolean tracksReads() {
+                return true;
+            }
+
+            @Override
+            public void onLineCrossingRead(String type, int start, int horizon) {
+                reads.computeIfAbsent(type, k -> new ArrayList<>()).add(new Span(start, horizon));
+            }
+        });
+        return new Result(spans, reads);
+    }
+}
@@ -0,0 +1,389 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.RecordDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+
+/**
+ * Bir derleme birimindeki her metodu MethodSummary'ye indirger. Metod içi akış duyarsızdır: yerel
+ * değişkenlerin etiketleri atamalar üzerinden sabit noktaya kadar büyütülür. Bilinmeyen (kütüphane)
+ * çağrılarının sonucu alıcıya ve argümanlara bağlı kabul edilir; bu karar TaintAnalyzer'da verilir.
+ */
+public final class MethodSummarizer {
+
+    public record UnitSummary(List<MethodSummary> methods, Map<String, List<String>> supertypes) {}
+
+    private record SinkSpec(String type, boolean allArguments) {}
+
+    private static final SinkSpec SQL = new SinkSpec("SQL_INJECTION", false);
+    private static final SinkSpec COMMAND = new SinkSpec("COMMAND_INJECTION", true);
+    private static final SinkSpec PATH = new SinkSpec("PATH_TRAVERSAL", true);
+
+    private static final Set<String> SOURCE_ANNOTATIONS = Set.of(
+        "RequestParam", "PathVariable", "RequestBody", "RequestHeader", "CookieValue", "ModelAttribute", "MatrixVariable"
+    );
+    private static final Set<String> SOURCE_METHODS = Set.of(
+        "getParameter", "getParameterValues", "getParameterMap", "getHeader", "getHeaders",
+        "getQueryString", "getCookies", "getPathInfo", "getRequestURI"
+    );
+    // Sonucu girdiden bağımsız kabul edilen çağrılar (sayıya çevirme, karşılaştırma)
+    private static final Set<String> SANITIZERS = Set.of(
+        "parseInt", "parseLong", "parseDouble", "parseBoolean", "fromString",
+        "equals", "equalsIgnoreCase", "matches", "isEmpty", "isBlank", "length", "size", "hashCode"
+    );
+    private static final Map<String, SinkSpec> SINK_METHODS = Map.of(
+        "executeQuery", SQL, "executeUpdate", SQL, "executeLargeUpdate", SQL, "execute", SQL,
+        "addBatch", SQL, "prepareStatement", SQL, "prepareCall", SQL, "createQuery", SQL, "createNativeQuery", SQL,
+        "exec", COMMAND
+    );
+    private static final Map<String, SinkSpec> SINK_STATIC_METHODS = Map.of("Paths.get", PATH, "Path.of", PATH);
+    private static final Map<String, SinkSpec> SINK_CONSTRUCTORS = Map.of(
+        "File", PATH, "FileInputStream", PATH, "FileOutputStream", PATH, "FileReader", PATH,
+        "FileWriter", PATH, "RandomAccessFile", PATH, "ProcessBuilder", COMMAND
+    );
+    // Alıcıyı argümanlarla değiştiren çağrılar: sb.append(x) sonrası sb, x'e bağlıdır
+    private static final Set<String> MUTATORS = Set.of("append", "insert", "add", "addAll", "put", "putAll", "push", "offer");
+    private static final int MAX_CODE_LENGTH = 120;
+
+    private final ParserConfiguration configuration = new ParserConfiguration()
+        .setLanguageLevel(ParserConfiguration.LanguageLevel.RAW)
+        .setAttributeComments(false);
+
+    // Ayrıştırılamayan dosyalar için boş döner
+    public Optional<UnitSummary> summarize(String file, String sourceCode) {
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(sourceCode);
+        if (!result.isSuccessful() || result.getResult().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(summarize(file, result.getResult().get()));
+    }
+
+    public UnitSummary summarize(String file, CompilationUnit unit) {
+        Map<String, List<String>> supertypes = new HashMap<>();
+        for (TypeDeclaration<?> type : unit.findAll(TypeDeclaration.class)) {
+            List<String> parents = new ArrayList<>();
+            if (type instanceof ClassOrInterfaceDeclaration declaration) {
+                declaration.getExtendedTypes().forEach(parent -> parents.add(parent.getNameAsString()));
+                declaration.getImplementedTypes().forEach(parent -> parents.add(parent.getNameAsString()));
+            } else if (type instanceof EnumDeclaration declaration) {
+                declaration.getImplementedTypes().forEach(parent -> parents.add(parent.getNameAsString()));
+            } else if (type instanceof RecordDeclaration declaration) {
+                declaration.getImplementedTypes().forEach(parent -> parents.add(parent.getNameAsString()));
+            }
+            supertypes.merge(type.getNameAsString(), parents, (left, right) -> {
+                List<String> merged = new ArrayList<>(left);
+                merged.addAll(right);
+                return merged;
+            });
+        }
+
+        Map<TypeDeclaration<?>, Map<String, String>> fieldTypes = new IdentityHashMap<>();
+        List<MethodSummary> methods = new ArrayList<>();
+        for (CallableDeclaration<?> callable : unit.findAll(CallableDeclaration.class)) {
+            TypeDeclaration<?> owner = enclosingType(callable);
+            if (owner == null) {
+                continue;
+            }
+            Map<String, String> fields = fieldTypes.computeIfAbsent(owner, MethodSummarizer::fieldTypes);
+            methods.add(new MethodScope(file, owner.getNameAsString(), callable, fields).summarize());
+        }
+        return new UnitSummary(methods, supertypes);
+    }
+
+    // findAncestor(TypeDeclaration.class) ham tip döndürür; ebeveyn zinciri elle yürünür
+    private static TypeDeclaration<?> enclosingType(Node node) {
+        Node current = node.getParentNode().orElse(null);
+        while (current != null && !(current instanceof TypeDeclaration<?>)) {
+            current = current.getParentNode().orElse(null);
+        }
+        return (TypeDeclaration<?>) current;
+    }
+
+    private static Map<String, String> fieldTypes(TypeDeclaration<?> type) {
+        Map<String, String> types = new HashMap<>();
+        for (FieldDeclaration field : type.getFields()) {
+            field.getVariables().forEach(variable -> types.put(variable.getNameAsString(), simpleName(variable.getType())));
+        }
+        return types;
+    }
+
+    private static String simpleName(Type type) {
+        return type instanceof ClassOrInterfaceType classType ? classType.getNameAsString() : type.asString();
+    }
+
+    private static int line(Node node) {
+        return node.getBegin().map(position -> position.line).orElse(0);
+    }
+
+    private static String code(Node node) {
+        String code = node.toString().replaceAll("\\s+", " ");
+        return code.length() > MAX_CODE_LENGTH ? code.substring(0, MAX_CODE_LENGTH) + "..." : code;
+    }
+
+    // Tek bir metodun özetlenmesi sırasındaki durum
+    private static final class MethodScope {
+
+        private final String file;
+        private final String className;
+        private final CallableDeclaration<?> callable;
+        private final Map<String, String> types = new HashMap<>();
+        private final Map<String, TaintLabel> variables = new HashMap<>();
+        private final List<MethodCallExpr> calls = new ArrayList<>();
+        private final Map<MethodCallExpr, Integer> callIndex = new IdentityHashMap<>();
+        private final List<MethodSummary.SourceSite> sources = new ArrayList<>();
+        private final Map<Node, Integer> sourceIndex = new IdentityHashMap<>();
+
+        MethodScope(String file, String className, CallableDeclaration<?> callable, Map<String, String> fieldTypes) {
+            this.file = file;
+            this.className = className;
+            this.callable = callable;
+            this.types.putAll(fieldTypes);
+        }
+
+        MethodSummary summarize() {
+            NodeList<Parameter> parameters = callable.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                Parameter parameter = parameters.get(i);
+                types.put(parameter.getNameAsString(), simpleName(parameter.getType()));
+                TaintLabel label = TaintLabel.param(i);
+                Optional<String> annotation = parameter.getAnnotations().stream()
+                    .map(a -> a.getNameAsString())
+                    .filter(SOURCE_ANNOTATIONS::contains)
+                    .findFirst();
+                if (annotation.isPresent()) {
+                    label = label.union(TaintLabel.source(source(parameter, "@" + annotation.get() + " " + parameter.getNameAsString())));
+                }
+                variables.put(parameter.getNameAsString(), label);
+            }
+            List<VariableDeclarator> declarators = callable.findAll(VariableDeclarator.class);
+            for (VariableDeclarator declarator : declarators) {
+                if (!declarator.getType().isVarType()) {
+                    types.put(declarator.getNameAsString(), simpleName(declarator.getType()));
+                } else if (declarator.getInitializer().filter(Expression::isObjectCreationExpr).isPresent()) {
+                    types.put(declarator.getNameAsString(),
+                        declarator.getInitializer().get().asObjectCreationExpr().getType().getNameAsString());
+                }
+            }
+            for (MethodCallExpr call : callable.findAll(MethodCallExpr.class)) {
+                callIndex.put(call, calls.size());
+                calls.add(call);
+            }
+
+            propagateLocals(declarators);
+
+            TaintLabel returns = TaintLabel.EMPTY;
+            for (ReturnStmt statement : callable.findAll(ReturnStmt.class)) {
+                if (statement.getExpression().isPresent()) {
+                    returns = returns.union(label(statement.getExpression().get()));
+                }
+            }
+            List<MethodSummary.SinkSite> sinks = findSinks();
+            List<MethodSummary.CallSite> callSites = new ArrayList<>(calls.size());
+            for (MethodCallExpr call : calls) {
+                List<TaintLabel> arguments = new ArrayList<>(call.getArguments().size());
+                call.getArguments().forEach(argument -> arguments.add(label(argument)));
+                callSites.add(new MethodSummary.CallSite(
+                    receiverType(call),
+                    call.getNameAsString(),
+                    call.getScope().map(this::label).orElse(TaintLabel.EMPTY),
+                    List.copyOf(arguments),
+                    line(call)
+                ));
+            }
+            String name = callable.isConstructorDeclaration() ? "<init>" : callable.getNameAsString();
+            return new MethodSummary(className, name, parameters.size(), file, line(callable),
+                List.copyOf(sources), callSites, sinks, returns);
+        }
+
+        // Etiketler yalnızca büyür; değişiklik kalmayana kadar atamalar yeniden değerlendirilir
+        private void propagateLocals(List<VariableDeclarator> declarators) {
+            List<AssignExpr> assignments = callable.findAll(AssignExpr.class);
+            List<ForEachStmt> loops = callable.findAll(ForEachStmt.class);
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (VariableDeclarator declarator : declarators) {
+                    if (declarator.getInitializer().isPresent()) {
+                        changed |= taint(declarator.getNameAsString(), label(declarator.getInitializer().get()));
+                    }
+                }
+                for (AssignExpr assignment : assignments) {
+                    Expression target = assignment.getTarget();
+                    if (target.isArrayAccessExpr()) {
+                        target = target.asArrayAccessExpr().getName();
+                    }
+                    if (target.isNameExpr()) {
+                        changed |= taint(target.asNameExpr().getNameAsString(), label(assignment.getValue()));
+                    }
+                }
+                for (ForEachStmt loop : loops) {
+                    for (VariableDeclarator variable : loop.getVariable().getVariables()) {
+                        changed |= taint(variable.getNameAsString(), label(loop.getIterable()));
+                    }
+                }
+                for (MethodCallExpr call : calls) {
+                    if (MUTATORS.contains(call.getNameAsString()) && call.getScope().filter(Expression::isNameExpr).isPresent()) {
+                        TaintLabel arguments = TaintLabel.EMPTY;
+                        for (Expression argument : call.getArguments()) {
+                            arguments = arguments.union(label(argument));
+                        }
+                        changed |= taint(call.getScope().get().asNameExpr().getNameAsString(), arguments);
+                    }
+                }
+            }
+        }
+
+        private boolean taint(String variable, TaintLabel label) {
+            if (label.isEmpty()) {
+                return false;
+            }
+            TaintLabel current = variables.getOrDefault(variable, TaintLabel.EMPTY);
+            TaintLabel updated = current.union(label);
+            if (updated.equals(current)) {
+                return false;
+            }
+            variables.put(variable, updated);
+            return true;
+        }
+
+        private TaintLabel label(Expression expression) {
+            if (expression.isNameExpr()) {
+                return variables.getOrDefault(expression.asNameExpr().getNameAsString(), TaintLabel.EMPTY);
+            }
+            if (expression.isEnclosedExpr()) {
+                return label(expression.asEnclosedExpr().getInner());
+            }
+            if (expression.isCastExpr()) {
+                return label(expression.asCastExpr().getExpression());
+            }
+            if (expression.isBinaryExpr()) {
+                BinaryExpr binary = expression.asBinaryExpr();
+                return binary.getOperator() == BinaryExpr.Operator.PLUS
+                    ? label(binary.getLeft()).union(label(binary.getRight()))
+                    : TaintLabel.EMPTY;
+            }
+            if (expression.isConditionalExpr()) {
+                return label(expression.asConditionalExpr().getThenExpr()).union(label(expression.asConditionalExpr().getElseExpr()));
+            }
+            if (expression.isAssignExpr()) {
+                return label(expression.asAssignExpr().getValue());
+            }
+            if (expression.isArrayAccessExpr()) {
+                return label(expression.asArrayAccessExpr().getName());
+            }
+            if (expression.isArrayInitializerExpr()) {
+                TaintLabel values = TaintLabel.EMPTY;
+                for (Expression value : expression.asArrayInitializerExpr().getValues()) {
+                    values = values.union(label(value));
+                }
+                return values;
+            }
+            if (expression.isArrayCreationExpr()) {
+                return expression.asArrayCreationExpr().getInitializer().map(this::label).orElse(TaintLabel.EMPTY);
+            }
+            if (expression.isObjectCreationExpr()) {
+                TaintLabel arguments = TaintLabel.EMPTY;
+                for (Expression argument : expression.asObjectCreationExpr().getArguments()) {
+                    arguments = arguments.union(label(argument));
+                }
+                return arguments;
+            }
+            if (expression.isMethodCallExpr()) {
+                MethodCallExpr call = expression.asMethodCallExpr();
+                if (SOURCE_METHODS.contains(call.getNameAsString()) && call.getScope().isPresent()) {
+                    return TaintLabel.source(source(call, code(call)));
+                }
+                if (SANITIZERS.contains(call.getNameAsString())) {
+                    return TaintLabel.EMPTY;
+                }
+                Integer index = callIndex.get(call);
+                return index == null ? TaintLabel.EMPTY : TaintLabel.call(index);
+            }
+            return TaintLabel.EMPTY;
+        }
+
+        private int source(Node node, String description) {
+            return sourceIndex.computeIfAbsent(node, n -> {
+                sources.add(new MethodSummary.SourceSite(description, line(n)));
+                return sources.size() - 1;
+            });
+        }
+
+        private List<MethodSummary.SinkSite> findSinks() {
+            List<MethodSummary.SinkSite> sinks = new ArrayList<>();
+            for (MethodCallExpr call : calls) {
+                SinkSpec spec = SINK_METHODS.get(call.getNameAsString());
+                if (spec == null && call.getScope().filter(Expression::isNameExpr).isPresent()) {
+                    spec = SINK_STATIC_METHODS.get(call.getScope().get().asNameExpr().getNameAsString() + "." + call.getNameAsString());
+                }
+                if (spec != null && call.getArguments().isNonEmpty()) {
+                    sinks.add(sink(spec, call, call.getArguments()));
+                }
+            }
+            for (ObjectCreationExpr creation : callable.findAll(ObjectCreationExpr.class)) {
+                SinkSpec spec = SINK_CONSTRUCTORS.get(creation.getType().getNameAsString());
+                if (spec != null && creation.getArguments().isNonEmpty()) {
+                    sinks.add(sink(spec, creation, creation.getArguments()));
+                }
+            }
+            return List.copyOf(sinks);
+        }
+
+        private MethodSummary.SinkSite sink(SinkSpec spec, Node node, NodeList<Expression> arguments) {
+            TaintLabel taint = label(arguments.get(0));
+            if (spec.allArguments()) {
+                for (Expression argument : arguments) {
+                    taint = taint.union(label(argument));
+                }
+            }
+            return new MethodSummary.SinkSite(spec.type(), code(node), line(node), taint);
+        }
+
+        // Alıcının basit tip adı: this/alansız çağrıda bu sınıf, değişkende bildirilen tip, büyük harfle başlıyorsa statik çağrı
+        private String receiverType(MethodCallExpr call) {
+            if (call.getScope().isEmpty() || call.getScope().get().isThisExpr()) {
+                return className;
+            }
+            Expression scope = call.getScope().get();
+            if (scope.isNameExpr()) {
+                String name = scope.asNameExpr().getNameAsString();
+                if (types.containsKey(name)) {
+                    return types.get(name);
+                }
+                return Character.isUpperCase(name.charAt(0)) ? name : null;
+            }
+            if (scope.isFieldAccessExpr() && scope.asFieldAccessExpr().getScope().isThisExpr()) {
+                return types.get(scope.asFieldAccessExpr().getNameAsString());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.List;
+
+/**
+ * Proje taramasında bir metoddan geriye kalan tek şey: kaynak noktaları, çağrılar, sink'ler ve dönüş değerinin
+ * etiketi. AST dosya işlendikten sonra bırakılır; bellek metod sayısıyla orantılıdır.
+ */
+public record MethodSummary(
+    String className,
+    String name,
+    int arity,
+    String file,
+    int line,
+    List<SourceSite> sources,
+    List<CallSite> calls,
+    List<SinkSite> sinks,
+    TaintLabel returns
+) {
+    public record SourceSite(String description, int line) {}
+
+    // receiverType: alıcının basit tip adı; çözülemiyorsa null
+    public record CallSite(String receiverType, String name, TaintLabel receiver, List<TaintLabel> arguments, int line) {}
+
+    public record SinkSite(String type, String code, int line, TaintLabel taint) {}
+
+    public String signature() {
+        return className + "." + name + "/" + arity;
+    }
+}
@@ -0,0 +1,231 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+import com.codeinspector.backend.utils.AhoCorasick;
+
+/**
+ * Tüm VulnerabilityPattern'leri tek geçişte tarayan motor.
+ * Anchor literal'leri tek bir Aho-Corasick otomatında birleştirilir; regex yalnızca
+ * literal bulunan konumlarda lookingAt ile doğrulanır. Sonuçlar her pattern'in
+ * kendi Matcher.find() döngüsüyle aynıdır.
+ * Regex'ler ScanBudget ile sınırlandırılmış bir BudgetedCharSequence üzerinde çalışır; bütçeyi aşan
+ * pattern'in taraması o noktada kesilir ve onTruncated ile bildirilir.
+ * İsteyen handler'lara, başladığı satırın ötesini okuyan denemeler de bildirilir (artımlı tarama için).
+ */
+public final class MultiPatternScanner {
+
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(String type, VulnerabilityPattern pattern, int start, int end);
+
+        default void onTruncated(String type, VulnerabilityPattern pattern, int offset, BudgetExceededException.Reason reason) {}
+
+        default boolean tracksReads() {
+            return false;
+        }
+
+        // start'ta başlayan deneme [start, horizon) aralığına bağlıdır; horizon metin sonunu da kapsayabilir (length + 1)
+        default void onLineCrossingRead(String type, int start, int horizon) {}
+    }
+
+    private final String[] types;
+    private final VulnerabilityPattern[] patterns;
+    private final int[] keywordOwners;
+    private final AhoCorasick automaton;
+    private final boolean[] prefiltered;
+    // Aralık taramasında aralık sonunu aşan anchor'ları yakalamak için
+    private final int maxAnchorReach;
+
+    public MultiPatternScanner(Map<String, VulnerabilityPattern> securityPatterns) {
+        int size = securityPatterns.size();
+        this.types = new String[size];
+        this.patterns = new VulnerabilityPattern[size];
+        this.prefiltered = new boolean[size];
+
+        List<String> keywords = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        int reach = 0;
+        int index = 0;
+        for (Map.Entry<String, VulnerabilityPattern> entry : securityPatterns.entrySet()) {
+            types[index] = entry.getKey();
+            patterns[index] = entry.getValue();
+            prefiltered[index] = !entry.getValue().anchors().isEmpty();
+            for (String anchor : entry.getValue().anchors()) {
+                keywords.add(anchor);
+                owners.add(index);
+                reach = Math.max(reach, entry.getValue().anchorLead() + anchor.length());
+            }
+            index++;
+        }
+
+        this.maxAnchorReach = reach;
+        this.keywordOwners = owners.stream().mapToInt(Integer::intValue).toArray();
+        this.automaton = new AhoCorasick(keywords, false);
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public void scan(String sourceCode, MatchHandler handler) {
+        scan(sourceCode, ScanBudget.UNLIMITED, handler);
+    }
+
+    public void scan(String sourceCode, ScanBudget budget, MatchHandler handler) {
+        scanRange(sourceCode, 0, sourceCode.length(), budget, handler);
+    }
+
+    /**
+     * Her pattern'in find() zincirini from konumundan başlatır ve başlangıcı to'dan önce olan
+     * eşleşmeleri bildirir; eşleşmeler to'yu aşabilir. Artımlı yeniden tarama için.
+     */
+    public void scanRange(String sourceCode, int from, int to, ScanBudget budget, MatchHandler handler) {
+        // 1. Geçiş: aralıktaki tüm anchor literal'lerini tek seferde topla
+        int[][] candidates = new int[patterns.length][];
+        int[] candidateCounts = new int[patterns.length];
+        int scanEnd = (int) Math.min(sourceCode.length(), (long) to + maxAnchorReach);
+        automaton.scan(sourceCode, from, scanEnd, (keyword, start, end) -> {
+            int owner = keywordOwners[keyword];
+            if (start - patterns[owner].anchorLead() >= to) {
+                return;
+            }
+            int[] starts = candidates[owner];
+            if (starts == null) {
+                starts = new int[8];
+                candidates[owner] = starts;
+            } else if (candidateCounts[owner] == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                candidates[owner] = starts;
+            }
+            starts[candidateCounts[owner]++] = start;
+        });
+
+        // 2. Aday konumlarda regex doğrulaması
+        for (int i = 0; i < patterns.length; i++) {
+            if (!prefiltered[i]) {
+                scanFully(sourceCode, i, from, to, budget, handler);
+            } else if (candidateCounts[i] > 0) {
+                int[] starts = candidates[i];
+                Arrays.sort(starts, 0, candidateCounts[i]);
+                verifyCandidates(sourceCode, i, starts, candidateCounts[i], from, to, budget, handler);
+            }
+        }
+    }
+
+    private void verifyCandidates(
+        String sourceCode,
+        int index,
+        int[] starts,
+        int count,
+        int from,
+        int to,
+        ScanBudget budget,
+        MatchHandler handler
+    ) {
+        VulnerabilityPattern vulnPattern = patterns[index];
+        CharSequence input = budgeted(sourceCode, budget, handler.tracksReads());
+        BudgetedCharSequence tracker = handler.tracksReads() ? (BudgetedCharSequence) input : null;
+        Matcher matcher = vulnPattern.pattern().matcher(input);
+        matcher.useAnchoringBounds(false);
+        matcher.useTransparentBounds(true);
+
+        int length = sourceCode.length();
+        // cursor'dan önceki konumlar ya denenmiş ya da bir eşleşme tarafından tüketilmiştir (find() semantiği)
+        int cursor = from;
+        int c = 0;
+        while (c < count) {
+            int anchorStart = starts[c];
+            boolean matched = false;
+            int lastPosition = Math.min(anchorStart, to - 1);
+            for (int position = Math.max(cursor, anchorStart - vulnPattern.anchorLead()); position <= lastPosition; position++) {
+                matcher.region(position, length);
+                boolean found;
+                try {
+                    if (tracker != null) {
+                        tracker.resetHorizon();
+                    }
+                    found = matcher.lookingAt();
+                } catch (BudgetExceededException e) {
+                    handler.onTruncated(types[index], vulnPattern, position, e.reason());
+                    return;
+                }
+                if (tracker != null) {
+                    reportRead(sourceCode, index, position, matcher, tracker, handler);
+                }
+                if (found) {
+                    handler.onMatch(types[index], vulnPattern, matcher.start(), matcher.end());
+                    cursor = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                cursor = Math.max(cursor, anchorStart + 1);
+            }
+            if (cursor > anchorStart) {
+                c++;
+            }
+        }
+    }
+
+    // Anchor'sız pattern: find() aralık sonundan sonra da arayabilir, eşleşme yoksa metin sonuna kadar.
+    // find() içindeki denemeler ayrı izlenemez; okuma her find() çağrısının başlangıcına yazılır.
+    private void scanFully(String sourceCode, int index, int from, int to, ScanBudget budget, MatchHandler handler) {
+        CharSequence input = budgeted(sourceCode, budget, handler.tracksReads());
+        BudgetedCharSequence tracker = handler.tracksReads() ? (BudgetedCharSequence) input : null;
+        Matcher matcher = patterns[index].pattern().matcher(input);
+        matcher.useAnchoringBounds(false);
+        matcher.useTransparentBounds(true);
+        matcher.region(from, sourceCode.length());
+        int searchFrom = from;
+        try {
+            while (true) {
+                if (tracker != null) {
+                    tracker.resetHorizon();
+                }
+                boolean found = matcher.find();
+                if (tracker != null) {
+                    reportRead(sourceCode, index, searchFrom, matcher, tracker, handler);
+                }
+                if (!found || matcher.start() >= to) {
+                    break;
+                }
+                handler.onMatch(types[index], patterns[index], matcher.start(), matcher.end());
+                searchFrom = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+            }
+        } catch (BudgetExceededException e) {
+            handler.onTruncated(types[index], patterns[index], searchFrom, e.reason());
+        }
+    }
+
+    private void reportRead(
+        String sourceCode,
+        int index,
+        int start,
+        Matcher matcher,
+        BudgetedCharSequence tracker,
+        MatchHandler handler
+    ) {
+        int horizon = matcher.hitEnd() ? sourceCode.length() + 1 : tracker.horizon();
+        int limit = Math.min(horizon, sourceCode.length());
+        for (int i = start; i < limit; i++) {
+            if (sourceCode.charAt(i) == '\n') {
+                handler.onLineCrossingRead(types[index], start, horizon);
+                return;
+            }
+        }
+    }
+
+    private CharSequence budgeted(String sourceCode, ScanBudget budget, boolean tracking) {
+        if (!tracking && budget.stepsPerPattern() == Long.MAX_VALUE && budget.deadlineNanos() == 0) {
+            return sourceCode;
+        }
+        return new BudgetedCharSequence(sourceCode, budget.stepsPerPattern(), budget.deadlineNanos());
+    }
+}
@@ -0,0 +1,69 @@
+package com.codeinspector.backend.utils.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import com.codeinspector.backend.model.security.SecurityIssue;
+
+/**
+ * Dedektörleri ayrı (sanal) thread'lerde çalıştırır. Her dedektör kendi yerel map'ine yazar;
+ * sonuçlar çağıran thread'de, dedektör sırasıyla birleştirilir, bu yüzden paylaşılan durum ve kilit yoktur.
+ * Süre sınırını aşan dedektörler iptal edilir ve adları döndürülür.
+ */
+public final class ParallelDetectorRunner {
+
+    public record Detector(String name, Consumer<Map<String, List<SecurityIssue>>> body) {}
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public ParallelDetectorRunner(ExecutorService executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    public List<String> runAll(List<Detector> detectors, Map<String, List<SecurityIssue>> vulnerabilities) {
+        List<Future<Map<String, List<SecurityIssue>>>> futures = new ArrayList<>(detectors.size());
+        for (Detector detector : detectors) {
+            futures.add(executor.submit(() -> {
+                Map<String, List<SecurityIssue>> local = new LinkedHashMap<>();
+                detector.body().accept(local);
+                return local;
+            }));
+        }
+
+        // Tüm dedektörler aynı anda başladığı için süre sınırı ortak bir deadline olarak uygulanır
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<String> incomplete = new ArrayList<>();
+        for (int i = 0; i < detectors.size(); i++) {
+            Future<Map<String, List<SecurityIssue>>> future = futures.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                merge(future.get(remaining, TimeUnit.NANOSECONDS), vulnerabilities);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                incomplete.add(detectors.get(i).name());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Security detector failed: " + detectors.get(i).name(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Security analysis interrupted", e);
+            }
+        }
+        return incomplete;
+    }
+
+    private void merge(Map<String, List<SecurityIssue>> local, Map<String, List<SecurityIssue>> vulnerabilities) {
+        local.forEach((type, issues) -> vulnerabilities.computeIfAbsent(type, k -> new ArrayList<>()).addAll(issues));
+    }
+}
@@ -0,0 +1,153 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.SecurityIssue;
+
+/**
+ * Risk metrikleri için bulguların tek geçişte toplanması. Bulgu tipleri kural seti derlenirken int id'lere,
+ * kategorileri dizi indekslerine indirgenir ve ağırlıklar tip ve risk seviyesi başına önceden hesaplanır;
+ * tarama başına bulgu başına yalnızca bir seviye sayacı artırılır.
+ */
+public final class RiskAggregator {
+
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+
+    /**
+     * Bir bulgu tipinin kategorisi ve risk seviyesi (ordinal) başına, bulgu başına katkıları.
+     */
+    public record IssueTypeWeights(String category, double[] securityImpact, double[] categoryImpact, double[] qualityPenalty) {}
+
+    /** relatedTypes: kategorideki tipler, bulgu haritasındaki sırayla */
+    public record CategoryTotals(String category, int issueCount, double impact, RiskLevel highestLevel, List<String> relatedTypes) {}
+
+    public record Totals(int[] levelCounts, int issueCount, double securityImpact, double qualityPenalty, List<CategoryTotals> categories) {
+        public int count(RiskLevel level) {
+            return levelCounts[level.ordinal()];
+        }
+    }
+
+    private final Function<String, IssueTypeWeights> classifier;
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final IssueTypeWeights[] weights;
+    private final int[] categoryIds;
+    private final String[] categories;
+
+    public RiskAggregator(Collection<String> issueTypes, Function<String, IssueTypeWeights> classifier) {
+        this.classifier = classifier;
+        List<String> types = new ArrayList<>(new TreeSet<>(issueTypes));
+        this.weights = new IssueTypeWeights[types.size()];
+        TreeSet<String> categoryNames = new TreeSet<>();
+        for (int id = 0; id < weights.length; id++) {
+            typeIds.put(types.get(id), id);
+            weights[id] = classifier.apply(types.get(id));
+            categoryNames.add(weights[id].category());
+        }
+        this.categories = categoryNames.toArray(String[]::new);
+        this.categoryIds = new int[weights.length];
+        for (int id = 0; id < weights.length; id++) {
+            categoryIds[id] = Arrays.binarySearch(categories, weights[id].category());
+        }
+    }
+
+    public String categoryOf(String issueType) {
+        Integer id = typeIds.get(issueType);
+        return id != null ? weights[id].category() : classifier.apply(issueType).category();
+    }
+
+    public Totals aggregate(Map<String, List<SecurityIssue>> vulnerabilities) {
+        // Kural setinde olmayan tipler (ör. eski sürümden kalan) yavaş yoldan sınıflandırılır ve
+        // bilinen kategorilerin ardına eklenir
+        List<String> extraCategories = new ArrayList<>(0);
+        int capacity = categories.length + vulnerabilities.size();
+        int[] categoryIssues = new int[capacity];
+        double[] categoryImpact = new double[capacity];
+        int[] categoryHighest = new int[capacity];
+        List<List<String>> categoryTypes = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            categoryTypes.add(null);
+        }
+
+        int[] levelCounts = new int[LEVELS.length];
+        int[] typeLevels = new int[LEVELS.length];
+        int issueCount = 0;
+        double securityImpact = 0.0;
+        double qualityPenalty = 0.0;
+
+        for (Map.Entry<String, List<SecurityIssue>> entry : vulnerabilities.entrySet()) {
+            List<SecurityIssue> issues = entry.getValue();
+            if (issues.isEmpty()) {
+                continue;
+            }
+            Arrays.fill(typeLevels, 0);
+            for (int i = 0, n = issues.size(); i < n; i++) {
+                typeLevels[issues.get(i).riskLevel().ordinal()]++;
+            }
+
+            Integer id = typeIds.get(entry.getKey());
+            IssueTypeWeights typeWeights;
+            int category;
+            if (id != null) {
+                typeWeights = weights[id];
+                category = categoryIds[id];
+            } else {
+                typeWeights = classifier.apply(entry.getKey());
+                category = extraCategory(typeWeights.category(), extraCategories);
+            }
+
+            double typeCategoryImpact = 0.0;
+            for (int level = 0; level < LEVELS.length; level++) {
+                int count = typeLevels[level];
+                if (count == 0) {
+                    continue;
+                }
+                levelCounts[level] += count;
+                securityImpact += count * typeWeights.securityImpact()[level];
+                qualityPenalty += count * typeWeights.qualityPenalty()[level];
+                typeCategoryImpact += count * typeWeights.categoryImpact()[level];
+                categoryHighest[category] = Math.max(categoryHighest[category], level);
+            }
+            issueCount += issues.size();
+            categoryIssues[category] += issues.size();
+            categoryImpact[category] += typeCategoryImpact;
+            if (categoryTypes.get(category) == null) {
+                categoryTypes.set(category, new ArrayList<>());
+            }
+            categoryTypes.get(category).add(entry.getKey());
+        }
+
+        List<CategoryTotals> totals = new ArrayList<>();
+        for (int category = 0; category < categories.length + extraCategories.size(); category++) {
+            if (categoryIssues[category] == 0) {
+                continue;
+            }
+            String name = category < categories.length
+                ? categories[category]
+                : extraCategories.get(category - categories.length);
+            totals.add(new CategoryTotals(name, categoryIssues[category], categoryImpact[category],
+                LEVELS[categoryHighest[category]], List.copyOf(categoryTypes.get(category))));
+        }
+        return new Totals(levelCounts, issueCount, securityImpact, qualityPenalty, totals);
+    }
+
+    private int extraCategory(String name, List<String> extraCategories) {
+        int known = Arrays.binarySearch(categories, name);
+        if (known >= 0) {
+            return known;
+        }
+        int extra = extraCategories.indexOf(name);
+        if (extra < 0) {
+            extraCategories.add(name);
+            extra = extraCategories.size() - 1;
+        }
+        return categories.length + extra;
+    }
+}
@@ -0,0 +1,17 @@
+package com.codeinspector.backend.utils.security;
+
+/**
+ * Kural paketi okunamadığında veya doğrulanamadığında fırlatılır; etkin kural seti değişmez.
+ */
+public class RulePackException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RulePackException(String message) {
+        super(message);
+    }
+
+    public RulePackException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,373 @@
+package com.codeinspector.backend.utils.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.RulePack;
+import com.codeinspector.backend.model.security.SecurityRule;
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Bir dizindeki *.yml, *.yaml ve *.json kural paketlerini dosya adı sırasıyla okur,
+ * doğrular ve regex'lerini derler. Herhangi bir hata tüm yüklemeyi geçersiz kılar.
+ */
+public final class RulePackLoader {
+
+    private static final Pattern RULE_ID = Pattern.compile("[A-Z][A-Z0-9_]*");
+    private static final Pattern INLINE_IGNORE_CASE = Pattern.compile("\\(\\?[a-zA-Z]*i[a-zA-Z]*[:)]");
+    // Anchor'dan önce her konumda regex denenir; büyük değerler ön filtreyi anlamsız kılar
+    private static final int MAX_ANCHOR_LEAD = 1024;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+
+    public CompiledRulePacks load(Path directory) {
+        long started = System.nanoTime();
+        if (!Files.isDirectory(directory)) {
+            throw new RulePackException(directory + ": rule pack directory not found");
+        }
+
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(RulePackLoader::isRulePackFile).sorted().toList();
+        } catch (IOException e) {
+            throw new RulePackException(directory + ": " + e.getMessage(), e);
+        }
+
+        MessageDigest digest = sha256();
+        List<String> packNames = new ArrayList<>();
+        Map<String, VulnerabilityPattern> patterns = new LinkedHashMap<>();
+        List<SecurityRule> rules = new ArrayList<>();
+        Map<String, Long> compileNanos = new LinkedHashMap<>();
+        Set<String> ids = new HashSet<>();
+
+        for (Path file : files) {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(file);
+            } catch (IOException e) {
+                throw new RulePackException(file + ": " + e.getMessage(), e);
+            }
+            digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(content);
+
+            RulePack pack = parse(file, content);
+            String source = file.getFileName().toString();
+            packNames.add(pack.name() == null || pack.name().isBlank() ? source : pack.name());
+
+            if (pack.patterns() != null) {
+                for (RulePack.PatternSpec spec : pack.patterns()) {
+                    long compileStarted = System.nanoTime();
+                    VulnerabilityPattern pattern = compilePattern(source, spec, ids);
+                    compileNanos.put(spec.id(), System.nanoTime() - compileStarted);
+                    patterns.put(spec.id(), pattern);
+                }
+            }
+            if (pack.rules() != null) {
+                for (RulePack.LineRuleSpec spec : pack.rules()) {
+                    long compileStarted = System.nanoTime();
+                    SecurityRule rule = compileRule(source, spec, ids);
+                    compileNanos.put(spec.id(), System.nanoTime() - compileStarted);
+                    rules.add(rule);
+                }
+            }
+        }
+
+        String fingerprint = files.isEmpty() ? "" : HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+        return new CompiledRulePacks(packNames, patterns, rules, compileNanos, fingerprint, System.nanoTime() - started);
+    }
+
+    private RulePack parse(Path file, byte[] content) {
+        ObjectMapper mapper = file.getFileName().toString().endsWith(".json") ? jsonMapper : yamlMapper;
+        try {
+            RulePack pack = mapper.readValue(content, RulePack.class);
+            if (pack == null) {
+                throw new RulePackException(file.getFileName() + ": empty rule pack");
+            }
+            return pack;
+        } catch (JsonProcessingException e) {
+            throw new RulePackException(file.getFileName() + ": " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new RulePackException(file.getFileName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private VulnerabilityPattern compilePattern(String source, RulePack.PatternSpec spec, Set<String> ids) {
+        String location = validateCommon(source, spec.id(), spec.risk(), spec.description(), spec.recommendation(), ids);
+        Pattern pattern = compileRegex(location, "regex", spec.regex());
+
+        List<String> anchors = spec.anchors() == null ? List.of() : spec.anchors();
+        validateAnchors(location, spec.regex(), anchors);
+        int anchorLead = spec.anchorLead() == null ? 0 : spec.anchorLead();
+        if (anchorLead < 0 || anchorLead > MAX_ANCHOR_LEAD) {
+            throw new RulePackException(location + ": anchorLead must be between 0 and " + MAX_ANCHOR_LEAD);
+        }
+
+        return new VulnerabilityPattern(pattern, spec.risk(), spec.description(), spec.recommendation(), List.copyOf(anchors), anchorLead);
+    }
+
+    // Anchor'lar büyük/küçük harf duyarlı bir Aho-Corasick otomatına girer ve eşleşmeyen dosyalarda regex hiç
+    // çalışmaz; regex'in üretemeyeceği bir anchor kuralı sessizce kapatır. Bu yüzden her anchor regex'in literal
+    // metninde geçmeli ve regex'in her alternatifi ('|' dalları, gruplar içindekiler dahil) bir anchor içermelidir
+    private static void validateAnchors(String location, String regex, List<String> anchors) {
+        if (anchors.isEmpty()) {
+            return;
+        }
+        if (INLINE_IGNORE_CASE.matcher(regex).find()) {
+            throw new RulePackException(location + ": anchors cannot be used with a case-insensitive regex");
+        }
+        String literals = literalText(regex);
+        Set<String> seen = new HashSet<>();
+        for (String anchor : anchors) {
+            if (anchor == null || anchor.isEmpty() || !anchor.chars().allMatch(c -> c < 128)) {
+                throw new RulePackException(location + ": anchors must be non-empty ASCII literals");
+            }
+            if (!seen.add(anchor)) {
+                throw new RulePackException(location + ": duplicate anchor '" + anchor + "'");
+            }
+            if (!literals.contains(anchor)) {
+                throw new RulePackException(location + ": anchor '" + anchor + "' does not occur in regex");
+            }
+        }
+        if (!coversEveryBranch(regex, 0, regex.length(), anchors)) {
+            throw new RulePackException(location + ": anchors must cover every alternative of the regex");
+        }
+    }
+
+    // regex[start, end) aralığındaki üst düzey '|' dallarının her biri anchor taşımalıdır
+    private static boolean coversEveryBranch(String regex, int start, int end, List<String> anchors) {
+        int branchStart = start;
+        int depth = 0;
+        for (int i = start; i < end; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = escapeEnd(regex, i);
+            } else if (c == '[') {
+                i = classEnd(regex, i);
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                if (!branchAnchored(regex, branchStart, i, anchors)) {
+                    return false;
+                }
+                branchStart = i + 1;
+            }
+        }
+        return branchAnchored(regex, branchStart, end, anchors);
+    }
+
+    // Dal, grup dışındaki literal metninde ya da isteğe bağlı olmayan bir grubunun tüm dallarında anchor taşıyorsa
+    // her eşleşmesi bir anchor içerir. Sınıflar, meta karakterler ve isteğe bağlı karakterler literal metni böler;
+    // lookaround grupları eşleşmeye girmediğinden sayılmaz
+    private static boolean branchAnchored(String regex, int start, int end, List<String> anchors) {
+        StringBuilder literals = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && regex.startsWith("\\Q", i)) {
+                int quoteEnd = escapeEnd(regex, i);
+                literals.append(regex, i + 2, Math.max(i + 2, quoteEnd - 1));
+                i = quoteEnd;
+            } else if (c == '\\' && i + 1 < end) {
+                char escaped = regex.charAt(++i);
+                literals.append(Character.isLetterOrDigit(escaped) ? '\0' : escaped);
+            } else if (c == '[') {
+                i = classEnd(regex, i);
+                literals.append('\0');
+            } else if (c == '(') {
+                int close = groupEnd(regex, i);
+                int bodyStart = groupBodyStart(regex, i);
+                if (bodyStart >= 0 && !isOptional(regex, close + 1) && coversEveryBranch(regex, bodyStart, close, anchors)) {
+                    return true;
+                }
+                literals.append('\0');
+                i = close;
+            } else if (c == '?' || c == '*' || (c == '{' && regex.startsWith("{0", i))) {
+                if (!literals.isEmpty()) {
+                    literals.setCharAt(literals.length() - 1, '\0');
+                }
+                literals.append('\0');
+                i = c == '{' ? regex.indexOf('}', i) : i;
+            } else if (c == '{') {
+                literals.append('\0');
+                i = regex.indexOf('}', i);
+            } else if (c == '+' || c == '.' || c == '^' || c == '$') {
+                literals.append('\0');
+            } else {
+                literals.append(c);
+            }
+        }
+        String text = literals.toString();
+        return anchors.stream().anyMatch(text::contains);
+    }
+
+    // Kaçışın son karakterinin indeksi; \Q...\E bloğu tek kaçış sayılır
+    private static int escapeEnd(String regex, int backslash) {
+        if (regex.startsWith("\\Q", backslash)) {
+            int quoteEnd = regex.indexOf("\\E", backslash + 2);
+            return quoteEnd < 0 ? regex.length() - 1 : quoteEnd + 1;
+        }
+        return backslash + 1;
+    }
+
+    private static int classEnd(String regex, int open) {
+        int i = open + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        for (; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = escapeEnd(regex, i);
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return regex.length() - 1;
+    }
+
+    private static int groupEnd(String regex, int open) {
+        int depth = 0;
+        for (int i = open; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = escapeEnd(regex, i);
+            } else if (c == '[') {
+                i = classEnd(regex, i);
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return regex.length() - 1;
+    }
+
+    // Grup gövdesinin başladığı indeks; lookaround ve (?s) gibi yalnız bayrak içeren gruplar için -1
+    private static int groupBodyStart(String regex, int open) {
+        if (open + 2 >= regex.length() || regex.charAt(open + 1) != '?') {
+            return open + 1;
+        }
+        char kind = regex.charAt(open + 2);
+        if (kind == ':' || kind == '>') {
+            return open + 3;
+        }
+        if (kind == '<' && open + 3 < regex.length() && Character.isLetter(regex.charAt(open + 3))) {
+            return regex.indexOf('>', open) + 1;
+        }
+        if (kind == '=' || kind == '!' || kind == '<') {
+            return -1;
+        }
+        int i = open + 2;
+        while (i < regex.length() && (Character.isLetter(regex.charAt(i)) || regex.charAt(i) == '-')) {
+            i++;
+        }
+        return i < regex.length() && regex.charAt(i) == ':' ? i + 1 : -1;
+    }
+
+    private static boolean isOptional(String regex, int index) {
+        return index < regex.length()
+            && (regex.charAt(index) == '?' || regex.charAt(index) == '*' || regex.startsWith("{0", index));
+    }
+
+    // Kaçışlı noktalama işaretleri literal'e çevrilir; \s, \d gibi sınıflar literal metni böler
+    private static String literalText(String regex) {
+        StringBuilder literals = new StringBuilder(regex.length());
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(++i);
+                literals.append(Character.isLetterOrDigit(escaped) ? '\0' : escaped);
+            } else {
+                literals.append(c);
+            }
+        }
+        return literals.toString();
+    }
+
+    private SecurityRule compileRule(String source, RulePack.LineRuleSpec spec, Set<String> ids) {
+        String location = validateCommon(source, spec.id(), spec.risk(), spec.description(), spec.recommendation(), ids);
+        Pattern linePattern = compileRegex(location, "lineRegex", spec.lineRegex());
+        return SecurityRule.perLine(
+            spec.id(),
+            line -> linePattern.matcher(line).find(),
+            spec.risk(),
+            spec.description(),
+            spec.recommendation()
+        );
+    }
+
+    private String validateCommon(
+        String source,
+        String id,
+        RiskLevel risk,
+        String description,
+        String recommendation,
+        Set<String> ids
+    ) {
+        if (id == null || !RULE_ID.matcher(id).matches()) {
+            throw new RulePackException(source + ": invalid rule id '" + id + "' (expected UPPER_SNAKE_CASE)");
+        }
+        String location = source + ": " + id;
+        if (!ids.add(id)) {
+            throw new RulePackException(location + ": duplicate rule id");
+        }
+        if (risk == null) {
+            throw new RulePackException(location + ": risk is required");
+        }
+        if (description == null || description.isBlank() || recommendation == null || recommendation.isBlank()) {
+            throw new RulePackException(location + ": description and recommendation are required");
+        }
+        return location;
+    }
+
+    private static Pattern compileRegex(String location, String field, String regex) {
+        if (regex == null || regex.isEmpty()) {
+            throw new RulePackException(location + ": " + field + " is required");
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new RulePackException(location + ": invalid " + field + ": " + e.getDescription(), e);
+        }
+    }
+
+    private static boolean isRulePackFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return Files.isRegularFile(file) && (name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".json"));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
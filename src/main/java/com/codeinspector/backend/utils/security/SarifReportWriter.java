@@ -0,0 +1,169 @@
+package com.codeinspector.backend.utils.security;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.SecurityIssue;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+/**
+ * Analiz sonucunu SARIF 2.1.0 olarak akışa yazar. Bulgular JsonGenerator ile tek tek yazılır;
+ * ara JSON ağacı veya ikinci bir sonuç kopyası oluşturulmaz.
+ */
+public final class SarifReportWriter {
+
+    public static final String MEDIA_TYPE = "application/sarif+json";
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String TOOL_NAME = "CodeInspector";
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private SarifReportWriter() {}
+
+    public static void write(SecurityAnalysisResult result, String artifactUri, OutputStream out) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("$schema", SCHEMA);
+            json.writeStringField("version", "2.1.0");
+            json.writeArrayFieldStart("runs");
+            json.writeStartObject();
+
+            writeTool(json, result);
+            writeInvocation(json, result.incompleteDetectors());
+
+            // ruleIndex, tool.driver.rules içindeki sırayla aynıdır
+            json.writeArrayFieldStart("results");
+            int ruleIndex = 0;
+            for (Map.Entry<String, List<SecurityIssue>> entry : result.vulnerabilities().entrySet()) {
+                for (SecurityIssue issue : entry.getValue()) {
+                    writeResult(json, entry.getKey(), ruleIndex, issue, artifactUri);
+                }
+                ruleIndex++;
+            }
+            json.writeEndArray();
+
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeTool(JsonGenerator json, SecurityAnalysisResult result) throws IOException {
+        json.writeObjectFieldStart("tool");
+        json.writeObjectFieldStart("driver");
+        json.writeStringField("name", TOOL_NAME);
+        if (result.ruleSetVersion() != null) {
+            json.writeStringField("version", result.ruleSetVersion());
+        }
+        json.writeArrayFieldStart("rules");
+        for (Map.Entry<String, List<SecurityIssue>> entry : result.vulnerabilities().entrySet()) {
+            // Bir tip farklı seviyelerde bulgu üretebilir (ör. NULL_CHECK); kural açıklaması ve seviyesi en ağır bulgudan
+            // alınır, her sonuç kendi seviyesini ayrıca taşır
+            SecurityIssue severest = entry.getValue().stream()
+                .min(Comparator.comparing(SecurityIssue::riskLevel))
+                .orElse(null);
+            json.writeStartObject();
+            json.writeStringField("id", entry.getKey());
+            if (severest != null) {
+                writeText(json, "shortDescription", severest.description());
+                writeText(json, "help", severest.recommendation());
+                json.writeObjectFieldStart("defaultConfiguration");
+                json.writeStringField("level", level(severest.riskLevel()));
+                json.writeEndObject();
+                json.writeObjectFieldStart("properties");
+                json.writeStringField("security-severity", securitySeverity(severest.riskLevel()));
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static void writeInvocation(JsonGenerator json, List<String> incompleteDetectors) throws IOException {
+        json.writeArrayFieldStart("invocations");
+        json.writeStartObject();
+        json.writeBooleanField("executionSuccessful", incompleteDetectors.isEmpty());
+        if (!incompleteDetectors.isEmpty()) {
+            json.writeArrayFieldStart("toolExecutionNotifications");
+            for (String detector : incompleteDetectors) {
+                json.writeStartObject();
+                json.writeStringField("level", "warning");
+                writeText(json, "message", detector);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+        json.writeEndArray();
+    }
+
+    private static void writeResult(JsonGenerator json, String ruleId, int ruleIndex, SecurityIssue issue, String artifactUri)
+            throws IOException {
+        json.writeStartObject();
+        json.writeStringField("ruleId", ruleId);
+        json.writeNumberField("ruleIndex", ruleIndex);
+        json.writeStringField("level", level(issue.riskLevel()));
+        writeText(json, "message", issue.description());
+
+        json.writeArrayFieldStart("locations");
+        json.writeStartObject();
+        json.writeObjectFieldStart("physicalLocation");
+        json.writeObjectFieldStart("artifactLocation");
+        json.writeStringField("uri", artifactUri);
+        json.writeEndObject();
+        json.writeObjectFieldStart("region");
+        json.writeNumberField("startLine", Math.max(1, issue.lineNumber()));
+        if (issue.vulnerableCode() != null) {
+            writeText(json, "snippet", issue.vulnerableCode());
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+        json.writeEndObject();
+        json.writeEndArray();
+
+        json.writeObjectFieldStart("properties");
+        json.writeStringField("riskLevel", issue.riskLevel().name());
+        json.writeNumberField("severityScore", issue.issueSeverityScore());
+        if (issue.impact() != null) {
+            json.writeStringField("impact", issue.impact());
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static void writeText(JsonGenerator json, String field, String text) throws IOException {
+        json.writeObjectFieldStart(field);
+        json.writeStringField("text", text != null ? text : "");
+        json.writeEndObject();
+    }
+
+    private static String level(RiskLevel riskLevel) {
+        return switch (riskLevel) {
+            case CRITICAL, HIGH -> "error";
+            case MEDIUM -> "warning";
+            case LOW -> "note";
+        };
+    }
+
+    // GitHub code scanning'in kullandığı 0-10 ölçeği
+    private static String securitySeverity(RiskLevel riskLevel) {
+        return switch (riskLevel) {
+            case CRITICAL -> "9.5";
+            case HIGH -> "7.5";
+            case MEDIUM -> "5.0";
+            case LOW -> "2.0";
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeinspector.backend.utils.security;
+
+/**
+ * Regex doğrulaması için sınırlar: pattern başına en fazla stepsPerPattern karakter erişimi
+ * ve tüm tarama için System.nanoTime() tabanlı bir deadline (0 = deadline yok).
+ */
+public record ScanBudget(long stepsPerPattern, long deadlineNanos) {
+
+    public static final ScanBudget UNLIMITED = new ScanBudget(Long.MAX_VALUE, 0);
+}
@@ -0,0 +1,226 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.SecurityRule;
+import com.codeinspector.backend.utils.AhoCorasick;
+
+/**
+ * Koda gömülü sırları (parola, API anahtarı, token) bulan satır kuralı. Satırdaki anahtar kelimeler ve bilinen
+ * token önekleri tek bir Aho-Corasick otomatıyla bulunur, ardından string literal'lerin Shannon entropisine
+ * bakılır: anahtar kelimeden sonra gelen literal için düşük, bağlamsız literal için yüksek eşik uygulanır.
+ * Her satır sabit sayıda geçişle işlenir; tırnak içermeyen satırlar otomata hiç girmez.
+ */
+public final class SecretDetector implements SecurityRule.LineEvaluator, AhoCorasick.MatchListener {
+
+    public static final String RULE_ID = "HARDCODED_SECRET";
+
+    // Değişken veya anahtar adında geçtiğinde ardından gelen literal sır adayıdır
+    private static final List<String> KEYWORDS = List.of(
+        "password", "passwd", "pwd", "secret", "token", "apikey", "api_key", "api-key",
+        "accesskey", "access_key", "privatekey", "private_key", "credential", "authorization", "bearer"
+    );
+    // Biçimi bilinen sağlayıcı anahtarları; büyük/küçük harf birebir eşleşmelidir
+    private static final List<String> TOKEN_PREFIXES = List.of(
+        "AKIA", "ASIA", "AIza", "ghp_", "gho_", "ghs_", "github_pat_", "glpat-", "xoxb-", "xoxp-",
+        "sk_live_", "rk_live_", "-----BEGIN"
+    );
+    private static final AhoCorasick AUTOMATON = new AhoCorasick(concat(KEYWORDS, TOKEN_PREFIXES), true);
+
+    private static final int MIN_CONTEXT_LENGTH = 8;
+    private static final double MIN_CONTEXT_ENTROPY = 3.0;
+    private static final int MIN_TOKEN_LENGTH = 20;
+    private static final double MIN_TOKEN_ENTROPY = 4.0;
+    private static final int MIN_HEX_LENGTH = 32;
+    private static final double MIN_HEX_ENTROPY = 3.0;
+    private static final int MIN_PREFIXED_LENGTH = 16;
+
+    // Tarama başına bir örnek: satır içi eşleşmeler ve karakter sayaçları yeniden kullanılır
+    private final int[] counts = new int[128];
+    private int[] keywordStarts = new int[8];
+    private int[] keywordEnds = new int[8];
+    private int keywordCount;
+    private int[] prefixStarts = new int[8];
+    private int prefixCount;
+    private String line;
+
+    public static SecurityRule rule() {
+        return new SecurityRule(
+            RULE_ID,
+            SecretDetector::new,
+            RiskLevel.HIGH,
+            "Hardcoded secret or high-entropy credential",
+            "Move secrets to a secret manager or environment configuration and rotate the exposed value",
+            true
+        );
+    }
+
+    @Override
+    public void onLine(int lineNumber, String line, SecurityRule.Violations violations) {
+        if (line.indexOf('"') < 0) {
+            return;
+        }
+        this.line = line;
+        keywordCount = 0;
+        prefixCount = 0;
+        AUTOMATON.scan(line, this);
+        if (containsSecret(line)) {
+            violations.report(lineNumber, line);
+        }
+        this.line = null;
+    }
+
+    @Override
+    public void onMatch(int keywordIndex, int start, int end) {
+        if (keywordIndex < KEYWORDS.size()) {
+            if (keywordCount == keywordStarts.length) {
+                keywordStarts = Arrays.copyOf(keywordStarts, keywordCount * 2);
+                keywordEnds = Arrays.copyOf(keywordEnds, keywordCount * 2);
+            }
+            keywordStarts[keywordCount] = start;
+            keywordEnds[keywordCount++] = end;
+        } else if (line.startsWith(TOKEN_PREFIXES.get(keywordIndex - KEYWORDS.size()), start)) {
+            if (prefixCount == prefixStarts.length) {
+                prefixStarts = Arrays.copyOf(prefixStarts, prefixCount * 2);
+            }
+            prefixStarts[prefixCount++] = start;
+        }
+    }
+
+    // Literal'ler soldan sağa dolaşılır; otomat eşleşmeleri konum sırasıyla verdiği için imleçle ilerlenir
+    private boolean containsSecret(String line) {
+        int keywordCursor = 0;
+        int prefixCursor = 0;
+        boolean keywordBefore = false;
+        int i = 0;
+        int length = line.length();
+        while (i < length) {
+            char c = line.charAt(i);
+            if (c == '/' && i + 1 < length && line.charAt(i + 1) == '/') {
+                return false;
+            }
+            if (c == '\'') {
+                i = skipCharLiteral(line, i);
+                continue;
+            }
+            if (c != '"') {
+                i++;
+                continue;
+            }
+            if (line.startsWith("\"\"\"", i)) {
+                return false;
+            }
+            int start = i + 1;
+            int end = literalEnd(line, start);
+            if (end < 0) {
+                return false;
+            }
+
+            while (keywordCursor < keywordCount && keywordEnds[keywordCursor] <= i) {
+                keywordBefore = true;
+                keywordCursor++;
+            }
+            boolean keywordInside = keywordCursor < keywordCount && keywordStarts[keywordCursor] < end;
+            while (prefixCursor < prefixCount && prefixStarts[prefixCursor] < start) {
+                prefixCursor++;
+            }
+            boolean prefixed = prefixCursor < prefixCount && prefixStarts[prefixCursor] == start;
+
+            if (prefixed && end - start >= MIN_PREFIXED_LENGTH) {
+                return true;
+            }
+            // İçinde anahtar kelime geçen literal bir ad veya etikettir ("password_field")
+            if (!keywordInside && looksLikeSecret(line, start, end, keywordBefore)) {
+                return true;
+            }
+            // Anahtar kelime yalnızca kendisinden sonraki ilk literal'in bağlamıdır
+            keywordBefore = false;
+            i = end + 1;
+        }
+        return false;
+    }
+
+    private boolean looksLikeSecret(String line, int start, int end, boolean keywordBefore) {
+        int length = end - start;
+        if (length < (keywordBefore ? MIN_CONTEXT_LENGTH : MIN_TOKEN_LENGTH)) {
+            return false;
+        }
+        // Yer tutucular, URL'ler ve şablon ifadeleri sır değildir
+        if (line.startsWith("${", start) || line.startsWith("{{", start)) {
+            return false;
+        }
+        Arrays.fill(counts, 0);
+        boolean hasDigit = false;
+        boolean hasLetter = false;
+        boolean hasSymbol = false;
+        boolean hexOnly = true;
+        boolean tokenChars = true;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c <= ' ' || c >= 127 || (c == ':' && line.startsWith("//", i + 1) && i + 2 < end)) {
+                return false;
+            }
+            counts[c]++;
+            boolean digit = c >= '0' && c <= '9';
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            hasDigit |= digit;
+            hasLetter |= letter;
+            hasSymbol |= !digit && !letter && c != '.';
+            hexOnly &= digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            tokenChars &= digit || letter || c == '+' || c == '/' || c == '=' || c == '_' || c == '-';
+        }
+        double entropy = entropy(length);
+        // Bağlamlı literal'de rakam veya sembol aranır; "crypto.createHash" gibi adlar elenir
+        if (keywordBefore) {
+            return (hasDigit || hasSymbol) && entropy >= MIN_CONTEXT_ENTROPY;
+        }
+        if (!tokenChars || !hasDigit || !hasLetter) {
+            return false;
+        }
+        return hexOnly
+            ? length >= MIN_HEX_LENGTH && entropy >= MIN_HEX_ENTROPY
+            : entropy >= MIN_TOKEN_ENTROPY;
+    }
+
+    // Karakter başına Shannon entropisi (bit)
+    private double entropy(int length) {
+        double entropy = 0.0;
+        for (int count : counts) {
+            if (count > 0) {
+                double p = (double) count / length;
+                entropy -= p * Math.log(p);
+            }
+        }
+        return entropy / Math.log(2);
+    }
+
+    private static int literalEnd(String line, int from) {
+        for (int i = from; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipCharLiteral(String line, int quote) {
+        int i = quote + 1;
+        if (i < line.length() && line.charAt(i) == '\\') {
+            i++;
+        }
+        int close = line.indexOf('\'', i + 1);
+        return close < 0 || close > i + 6 ? quote + 1 : close + 1;
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+}
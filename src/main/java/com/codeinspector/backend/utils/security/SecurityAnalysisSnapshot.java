@@ -0,0 +1,90 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.utils.LineIndex;
+
+/**
+ * Artımlı yeniden tarama için bir analizin değişmez görüntüsü: kaynak, ham pattern eşleşmeleri
+ * (offset aralıkları), satır aşan regex okumaları ve kural ihlallerinin satırları. AST modunda ham veri tutulmaz.
+ */
+public final class SecurityAnalysisSnapshot {
+
+    public record Span(int start, int end) {}
+
+    private final String sourceCode;
+    private final LineIndex lineIndex;
+    private final AnalysisOptions options;
+    private final Map<String, List<Span>> patternMatches;
+    private final Map<String, List<Span>> lineCrossingReads;
+    private final Map<String, List<Integer>> ruleHits;
+    private final SecurityAnalysisResult result;
+    private final boolean fullScan;
+    private final int rescannedLines;
+
+    public SecurityAnalysisSnapshot(
+        String sourceCode,
+        LineIndex lineIndex,
+        AnalysisOptions options,
+        Map<String, List<Span>> patternMatches,
+        Map<String, List<Span>> lineCrossingReads,
+        Map<String, List<Integer>> ruleHits,
+        SecurityAnalysisResult result,
+        boolean fullScan,
+        int rescannedLines
+    ) {
+        this.sourceCode = sourceCode;
+        this.lineIndex = lineIndex;
+        this.options = options;
+        this.patternMatches = patternMatches;
+        this.lineCrossingReads = lineCrossingReads;
+        this.ruleHits = ruleHits;
+        this.result = result;
+        this.fullScan = fullScan;
+        this.rescannedLines = rescannedLines;
+    }
+
+    public String sourceCode() {
+        return sourceCode;
+    }
+
+    public LineIndex lineIndex() {
+        return lineIndex;
+    }
+
+    public AnalysisOptions options() {
+        return options;
+    }
+
+    public Map<String, List<Span>> patternMatches() {
+        return patternMatches;
+    }
+
+    public Map<String, List<Span>> lineCrossingReads() {
+        return lineCrossingReads;
+    }
+
+    public Map<String, List<Integer>> ruleHits() {
+        return ruleHits;
+    }
+
+    public SecurityAnalysisResult result() {
+        return result;
+    }
+
+    public boolean fullScan() {
+        return fullScan;
+    }
+
+    public int rescannedLines() {
+        return rescannedLines;
+    }
+
+    // Eksik tamamlanan analizler veya ham verisi olmayanlar üzerine artımlı tarama yapılmaz
+    public boolean isReusable() {
+        return patternMatches != null && result.incompleteDetectors().isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.codeinspector.backend.utils.security;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.security.RiskMetrics;
+import com.codeinspector.backend.model.security.SecurityIssue;
+import com.codeinspector.backend.model.security.SecurityRecommendation;
+
+/**
+ * Metin güvenlik raporunu doğrudan hedefe (StringBuilder veya yanıt akışı) yazar.
+ * Çıktı String.format tabanlı eski rapor ile aynıdır, ancak sayılar yerelden bağımsız olarak
+ * nokta ile yazılır. Bulgu başına ara String üretilmez.
+ */
+public final class SecurityReportWriter {
+
+    private SecurityReportWriter() {}
+
+    public static void write(SecurityAnalysisResult result, Appendable out) throws IOException {
+        write(result.vulnerabilities(), result.recommendations(), result.riskMetrics(), out);
+    }
+
+    public static void write(
+        Map<String, List<SecurityIssue>> vulnerabilities,
+        List<SecurityRecommendation> recommendations,
+        RiskMetrics riskMetrics,
+        Appendable out
+    ) throws IOException {
+        // Report Header
+        out.append("Security Analysis Report\n");
+        out.append("======================\n\n");
+
+        // Overall Metrics
+        out.append("Risk Metrics:\n");
+        out.append("--------------\n");
+        appendFixed2(out.append("Overall Risk Score: "), riskMetrics.overallRiskScore()).append('\n');
+        appendFixed2(out.append("Security Score: "), riskMetrics.securityScore()).append('\n');
+        appendFixed2(out.append("Code Quality Score: "), riskMetrics.codeQualityScore()).append("\n\n");
+
+        // Issue Summary
+        out.append("Issue Summary:\n");
+        out.append("--------------\n");
+        out.append("Critical Issues: ").append(Integer.toString(riskMetrics.criticalIssues())).append('\n');
+        out.append("High Issues: ").append(Integer.toString(riskMetrics.highIssues())).append('\n');
+        out.append("Medium Issues: ").append(Integer.toString(riskMetrics.mediumIssues())).append('\n');
+        out.append("Low Issues: ").append(Integer.toString(riskMetrics.lowIssues())).append("\n\n");
+
+        // Detailed Vulnerabilities
+        out.append("Detailed Vulnerabilities:\n");
+        out.append("----------------------\n");
+        for (Map.Entry<String, List<SecurityIssue>> entry : vulnerabilities.entrySet()) {
+            out.append('\n').append(entry.getKey()).append(":\n");
+            for (SecurityIssue issue : entry.getValue()) {
+                out.append("- Line ").append(Integer.toString(issue.lineNumber())).append(": ")
+                    .append(String.valueOf(issue.description())).append('\n');
+                out.append("  Risk Level: ").append(String.valueOf(issue.riskLevel())).append('\n');
+                out.append("  Code: ").append(String.valueOf(issue.vulnerableCode())).append('\n');
+                out.append("  Recommendation: ").append(String.valueOf(issue.recommendation())).append('\n');
+            }
+        }
+
+        // Recommendations
+        out.append("\nRecommendations:\n");
+        out.append("---------------\n");
+        for (SecurityRecommendation rec : recommendations) {
+            out.append("\nCategory: ").append(String.valueOf(rec.category())).append('\n');
+            out.append("Priority: ").append(String.valueOf(rec.priority())).append('\n');
+            out.append("Description: ").append(String.valueOf(rec.description())).append('\n');
+            out.append("Recommendation: ").append(String.valueOf(rec.recommendation())).append('\n');
+        }
+
+        // Category Scores
+        out.append("\nCategory Scores:\n");
+        out.append("---------------\n");
+        for (Map.Entry<String, Double> entry : riskMetrics.categoryScores().entrySet()) {
+            appendFixed2(out.append(entry.getKey()).append(": "), entry.getValue()).append('\n');
+        }
+    }
+
+    // String.format(Locale.ROOT, "%.2f") ile aynı sonuç; yalnızca yarıma çok yakın değerlerde ona düşer
+    static Appendable appendFixed2(Appendable out, double value) throws IOException {
+        double scaled = value * 100;
+        if (!Double.isFinite(value) || Math.abs(scaled) >= 1e15
+                || Math.abs(Math.abs(scaled - Math.floor(scaled)) - 0.5) < 1e-6) {
+            return out.append(String.format(Locale.ROOT, "%.2f", value));
+        }
+        long rounded = Math.round(scaled);
+        if (Math.copySign(1.0, value) < 0) {
+            out.append('-');
+            rounded = -rounded;
+        }
+        out.append(Long.toString(rounded / 100)).append('.');
+        long cents = rounded % 100;
+        if (cents < 10) {
+            out.append('0');
+        }
+        return out.append(Long.toString(cents));
+    }
+}
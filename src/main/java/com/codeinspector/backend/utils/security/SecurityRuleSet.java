@@ -0,0 +1,147 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.codeinspector.backend.model.security.RulePackReport.RuleCost;
+import com.codeinspector.backend.model.security.SecurityRule;
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+import com.codeinspector.backend.utils.LineIndex;
+
+/**
+ * Etkin pattern ve kuralların derlenmiş, değişmez görüntüsü. Tüm tarayıcılar kurulumda
+ * hazırlanır; analiz istek başına bir görüntü okur, böylece değişim süren istekleri etkilemez.
+ */
+public final class SecurityRuleSet {
+
+    private static final int PROFILE_RUNS = 3;
+
+    private final String version;
+    private final Map<String, VulnerabilityPattern> patterns;
+    private final List<SecurityRule> rules;
+    private final MultiPatternScanner patternScanner;
+    private final MultiPatternScanner astModePatternScanner;
+    private final MultiPatternScanner supersededPatternScanner;
+    // Paralel mod: kategori başına ayrı tarayıcı
+    private final Map<String, MultiPatternScanner> categoryScanners;
+    private final Map<String, MultiPatternScanner> astModeCategoryScanners;
+    private final RiskAggregator riskAggregator;
+
+    public SecurityRuleSet(
+        String version,
+        Map<String, VulnerabilityPattern> patterns,
+        List<SecurityRule> rules,
+        Set<String> astSupersededPatterns,
+        Function<String, RiskAggregator.IssueTypeWeights> classifier
+    ) {
+        this.version = version;
+        this.patterns = Map.copyOf(patterns);
+        this.rules = List.copyOf(rules);
+        // Pattern'ler tek bir tarama motorunda derlenir; her istek kaynağı bir kez dolaşır
+        this.patternScanner = new MultiPatternScanner(patterns);
+
+        // AST modu: AST dedektörlerinin kapsadığı regex pattern'leri çalıştırılmaz
+        Map<String, VulnerabilityPattern> remainingPatterns = new HashMap<>(patterns);
+        remainingPatterns.keySet().removeAll(astSupersededPatterns);
+        this.astModePatternScanner = new MultiPatternScanner(remainingPatterns);
+        Map<String, VulnerabilityPattern> supersededPatterns = new HashMap<>(patterns);
+        supersededPatterns.keySet().retainAll(astSupersededPatterns);
+        this.supersededPatternScanner = new MultiPatternScanner(supersededPatterns);
+
+        // Bulgu tipleri burada bir kez sınıflandırılır; puanlama istek başına yalnızca sayaç artırır
+        Set<String> issueTypes = new HashSet<>(patterns.keySet());
+        rules.forEach(rule -> issueTypes.add(rule.ruleId()));
+        this.riskAggregator = new RiskAggregator(issueTypes, classifier);
+
+        this.categoryScanners = buildCategoryScanners(patterns, riskAggregator::categoryOf);
+        this.astModeCategoryScanners = buildCategoryScanners(remainingPatterns, riskAggregator::categoryOf);
+    }
+
+    private static Map<String, MultiPatternScanner> buildCategoryScanners(
+        Map<String, VulnerabilityPattern> patterns,
+        Function<String, String> categoryOf
+    ) {
+        Map<String, Map<String, VulnerabilityPattern>> byCategory = new TreeMap<>();
+        patterns.forEach((type, pattern) ->
+            byCategory.computeIfAbsent(categoryOf.apply(type), k -> new HashMap<>()).put(type, pattern));
+
+        Map<String, MultiPatternScanner> scanners = new LinkedHashMap<>();
+        byCategory.forEach((category, categoryPatterns) -> scanners.put(category, new MultiPatternScanner(categoryPatterns)));
+        return scanners;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public Map<String, VulnerabilityPattern> patterns() {
+        return patterns;
+    }
+
+    public List<SecurityRule> rules() {
+        return rules;
+    }
+
+    public Map<String, MultiPatternScanner> patternScanners(boolean astMode, boolean perCategory) {
+        if (perCategory) {
+            return astMode ? astModeCategoryScanners : categoryScanners;
+        }
+        return Map.of("all", astMode ? astModePatternScanner : patternScanner);
+    }
+
+    public RiskAggregator riskAggregator() {
+        return riskAggregator;
+    }
+
+    public MultiPatternScanner supersededPatternScanner() {
+        return supersededPatternScanner;
+    }
+
+    // Her pattern ve kural örnek kaynak üzerinde ayrı ayrı ölçülür (en iyi PROFILE_RUNS koşusu)
+    public List<RuleCost> profile(String sample, Map<String, Long> compileNanos) {
+        List<RuleCost> costs = new ArrayList<>();
+        patterns.forEach((type, pattern) -> {
+            MultiPatternScanner scanner = new MultiPatternScanner(Map.of(type, pattern));
+            long best = bestOf(() -> scanner.scan(sample, (t, p, start, end) -> {}));
+            costs.add(new RuleCost(type, "pattern", micros(compileNanos.getOrDefault(type, 0L)), micros(best)));
+        });
+
+        LineIndex lineIndex = LineIndex.of(sample);
+        SecurityRule.Violations ignored = (lineNumber, line) -> {};
+        for (SecurityRule rule : rules) {
+            long best = bestOf(() -> {
+                SecurityRule.LineEvaluator evaluator = rule.evaluator().get();
+                for (int line = 1; line <= lineIndex.lineCount(); line++) {
+                    evaluator.onLine(line, lineIndex.line(line), ignored);
+                }
+                evaluator.finish(ignored);
+            });
+            costs.add(new RuleCost(rule.ruleId(), "rule", micros(compileNanos.getOrDefault(rule.ruleId(), 0L)), micros(best)));
+        }
+
+        costs.sort(Comparator.comparingDouble(RuleCost::scanMicros).reversed());
+        return costs;
+    }
+
+    private static long bestOf(Runnable run) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROFILE_RUNS; i++) {
+            long started = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        return best;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
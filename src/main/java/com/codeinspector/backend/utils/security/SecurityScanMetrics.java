@@ -0,0 +1,43 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Güvenlik taramalarının sayaçları. Thread-safe; snapshot() anlık bir kopya döndürür.
+ */
+public final class SecurityScanMetrics {
+
+    private final LongAdder scans = new LongAdder();
+    private final LongAdder truncatedScans = new LongAdder();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void recordScan(boolean truncated) {
+        scans.increment();
+        if (truncated) {
+            truncatedScans.increment();
+        }
+    }
+
+    public void recordBudgetExceeded(String patternType, BudgetExceededException.Reason reason) {
+        increment("pattern." + reason.name().toLowerCase() + "_exceeded." + patternType);
+    }
+
+    public void recordDetectorTimeout(String detector) {
+        increment("detector.timeout." + detector);
+    }
+
+    public void increment(String counter) {
+        counters.computeIfAbsent(counter, k -> new LongAdder()).increment();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        snapshot.put("scans", scans.sum());
+        snapshot.put("scans.truncated", truncatedScans.sum());
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+}
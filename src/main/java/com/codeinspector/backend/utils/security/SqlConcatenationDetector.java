@@ -0,0 +1,135 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * String birleştirme ile oluşturulmuş SQL'in JDBC çalıştırma metodlarına verilmesini bulur.
+ * Argüman doğrudan bir birleştirme ya da aynı metod içinde birleştirme ile atanmış bir yerel değişken olabilir.
+ * Birleştirme ile kurulan "jdbc:" bağlantı adresleri de raporlanır; böylece regex INJECTION pattern'inin yerini alır.
+ */
+public final class SqlConcatenationDetector extends VoidVisitorAdapter<Consumer<Node>> implements AstSecurityDetector {
+
+    private static final Set<String> SINK_METHODS = Set.of(
+        "executeQuery", "executeUpdate", "executeLargeUpdate", "execute", "addBatch", "prepareStatement"
+    );
+
+    @Override
+    public String type() {
+        return "SQL_INJECTION";
+    }
+
+    @Override
+    public Set<String> supersededPatterns() {
+        return Set.of("SQL_INJECTION", "INJECTION");
+    }
+
+    @Override
+    public Set<String> triggers() {
+        return Set.of("execute", "addBatch", "prepareStatement", "jdbc:");
+    }
+
+    @Override
+    public void detect(CompilationUnit unit, Consumer<Node> findings) {
+        unit.accept(this, findings);
+    }
+
+    @Override
+    public void visit(MethodCallExpr call, Consumer<Node> findings) {
+        super.visit(call, findings);
+        if (!SINK_METHODS.contains(call.getNameAsString()) || call.getArguments().isEmpty()) {
+            return;
+        }
+        Expression query = call.getArgument(0);
+        if (isDynamicConcatenation(query)
+                || (query.isNameExpr() && isAssignedFromConcatenation(call, query.asNameExpr()))) {
+            findings.accept(call);
+        }
+    }
+
+    // "jdbc:..." + değişken: zincirin en dıştaki '+' ifadesi bir kez raporlanır
+    @Override
+    public void visit(BinaryExpr binary, Consumer<Node> findings) {
+        super.visit(binary, findings);
+        boolean outermost = binary.getParentNode()
+            .map(parent -> !(parent instanceof BinaryExpr outer && outer.getOperator() == BinaryExpr.Operator.PLUS))
+            .orElse(true);
+        if (outermost && isDynamicConcatenation(binary) && leftmostOperand(binary).isStringLiteralExpr()
+                && leftmostOperand(binary).asStringLiteralExpr().getValue().startsWith("jdbc:")) {
+            findings.accept(binary);
+        }
+    }
+
+    private Expression leftmostOperand(Expression expression) {
+        Expression current = unwrap(expression);
+        while (current.isBinaryExpr() && current.asBinaryExpr().getOperator() == BinaryExpr.Operator.PLUS) {
+            current = unwrap(current.asBinaryExpr().getLeft());
+        }
+        return current;
+    }
+
+    private boolean isAssignedFromConcatenation(MethodCallExpr call, NameExpr variable) {
+        String name = variable.getNameAsString();
+        return Optional.ofNullable(enclosingCallable(call))
+            .map(callable -> callable.findFirst(VariableDeclarator.class, declarator ->
+                    declarator.getNameAsString().equals(name)
+                        && declarator.getInitializer().map(this::isDynamicConcatenation).orElse(false)).isPresent()
+                || callable.findFirst(AssignExpr.class, assign ->
+                    assign.getTarget().isNameExpr()
+                        && assign.getTarget().asNameExpr().getNameAsString().equals(name)
+                        && (isDynamicConcatenation(assign.getValue())
+                            || (assign.getOperator() == AssignExpr.Operator.PLUS && !isConstant(assign.getValue())))).isPresent())
+            .orElse(false);
+    }
+
+    // En az bir operandı sabit olmayan '+' zinciri
+    private boolean isDynamicConcatenation(Expression expression) {
+        Expression unwrapped = unwrap(expression);
+        if (!unwrapped.isBinaryExpr() || unwrapped.asBinaryExpr().getOperator() != BinaryExpr.Operator.PLUS) {
+            return false;
+        }
+        return !isConstant(unwrapped);
+    }
+
+    private boolean isConstant(Expression expression) {
+        Expression unwrapped = unwrap(expression);
+        if (unwrapped instanceof LiteralExpr) {
+            return true;
+        }
+        if (unwrapped.isBinaryExpr() && unwrapped.asBinaryExpr().getOperator() == BinaryExpr.Operator.PLUS) {
+            return isConstant(unwrapped.asBinaryExpr().getLeft()) && isConstant(unwrapped.asBinaryExpr().getRight());
+        }
+        return false;
+    }
+
+    // findAncestor(CallableDeclaration.class) ham tip döndürür; ebeveyn zinciri elle yürünür
+    private static CallableDeclaration<?> enclosingCallable(Node node) {
+        Node current = node.getParentNode().orElse(null);
+        while (current != null && !(current instanceof CallableDeclaration<?>)) {
+            current = current.getParentNode().orElse(null);
+        }
+        return (CallableDeclaration<?>) current;
+    }
+
+    private Expression unwrap(Expression expression) {
+        Expression current = expression;
+        while (current instanceof EnclosedExpr enclosed) {
+            current = enclosed.getInner();
+        }
+        return current;
+    }
+}
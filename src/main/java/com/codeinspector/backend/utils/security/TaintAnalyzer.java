@@ -0,0 +1,310 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.TaintFinding;
+
+/**
+ * Metod özetleri üzerinde dosyalar arası kaynak-sink analizi. Sembol indeksi bir kez kurulur ve her çağrı
+ * noktası aday metodlara çözülür (alıcı tipi, alt ve üst tipleri; tip bilinmiyorsa ad ve argüman sayısı).
+ * İki monoton sabit nokta hesaplanır, her turda metodlar paralel değerlendirilir:
+ * dönüş değerinin bağlı olduğu parametre/kaynaklar ve hangi parametrenin hangi sink'e ulaştığı.
+ */
+public final class TaintAnalyzer {
+
+    private record Origin(int method, int source) {}
+
+    private record SinkRef(int method, int sink) {}
+
+    // Bir etiketin çözümü: metodun bağlı olduğu parametreler ve ulaşan kaynaklar
+    private record Flow(Set<Integer> params, Set<Origin> origins) {
+        static final Flow EMPTY = new Flow(Set.of(), Set.of());
+    }
+
+    private record FindingKey(Origin origin, SinkRef sink) {}
+
+    private static final Map<String, RiskLevel> RISK_LEVELS = Map.of(
+        "SQL_INJECTION", RiskLevel.CRITICAL,
+        "COMMAND_INJECTION", RiskLevel.CRITICAL,
+        "PATH_TRAVERSAL", RiskLevel.HIGH
+    );
+
+    private final List<MethodSummary> methods;
+    // targets[m][c]: m metodundaki c çağrısının proje içindeki adayları; boşsa kütüphane çağrısıdır
+    private final int[][][] targets;
+    private Flow[] returns;
+    // sinkFacts[m]: parametre -> ulaştığı sink -> m'den sink'e çağrı zinciri
+    private List<Map<Integer, Map<SinkRef, List<String>>>> sinkFacts;
+    private int rounds;
+
+    public TaintAnalyzer(List<MethodSummary> methods, Map<String, List<String>> supertypes) {
+        this.methods = List.copyOf(methods);
+        this.targets = new SymbolIndex(this.methods, supertypes).resolveAll();
+    }
+
+    public int rounds() {
+        return rounds;
+    }
+
+    public List<TaintFinding> analyze() {
+        int count = methods.size();
+        returns = new Flow[count];
+        Arrays.fill(returns, Flow.EMPTY);
+        boolean changed = true;
+        while (changed) {
+            Flow[] current = returns;
+            Flow[] next = IntStream.range(0, count).parallel()
+                .mapToObj(m -> resolve(m, methods.get(m).returns(), current))
+                .toArray(Flow[]::new);
+            changed = !Arrays.equals(current, next);
+            returns = next;
+            rounds++;
+        }
+
+        sinkFacts = new ArrayList<>(count);
+        for (int m = 0; m < count; m++) {
+            sinkFacts.add(Map.of());
+        }
+        changed = true;
+        while (changed) {
+            List<Map<Integer, Map<SinkRef, List<String>>>> current = sinkFacts;
+            List<Map<Integer, Map<SinkRef, List<String>>>> next = IntStream.range(0, count).parallel()
+                .mapToObj(m -> propagateSinks(m, current))
+                .toList();
+            changed = factCount(next) != factCount(current);
+            sinkFacts = next;
+            rounds++;
+        }
+        return findings();
+    }
+
+    // Önceki turun olguları korunur, yalnızca yeni (parametre, sink) çiftleri eklenir
+    private Map<Integer, Map<SinkRef, List<String>>> propagateSinks(int m, List<Map<Integer, Map<SinkRef, List<String>>>> facts) {
+        MethodSummary method = methods.get(m);
+        Map<Integer, Map<SinkRef, List<String>>> result = new HashMap<>();
+        facts.get(m).forEach((param, sinks) -> result.put(param, new LinkedHashMap<>(sinks)));
+
+        for (int s = 0; s < method.sinks().size(); s++) {
+            MethodSummary.SinkSite sink = method.sinks().get(s);
+            for (int param : resolve(m, sink.taint(), returns).params()) {
+                result.computeIfAbsent(param, k -> new LinkedHashMap<>())
+                    .putIfAbsent(new SinkRef(m, s), List.of(frame(method, sink.line())));
+            }
+        }
+        forEachSinkCall(m, facts, (call, calleeParam, sink, trace) -> {
+            for (int param : resolve(m, call.arguments().get(calleeParam), returns).params()) {
+                result.computeIfAbsent(param, k -> new LinkedHashMap<>())
+                    .putIfAbsent(sink, prepend(frame(method, call.line()), trace));
+            }
+        });
+        return result;
+    }
+
+    private List<TaintFinding> findings() {
+        Map<FindingKey, TaintFinding> findings = new HashMap<>();
+        for (int m = 0; m < methods.size(); m++) {
+            MethodSummary method = methods.get(m);
+            for (int s = 0; s < method.sinks().size(); s++) {
+                MethodSummary.SinkSite sink = method.sinks().get(s);
+                for (Origin origin : resolve(m, sink.taint(), returns).origins()) {
+                    addFinding(findings, origin, new SinkRef(m, s), List.of(frame(method, sink.line())));
+                }
+            }
+            int caller = m;
+            forEachSinkCall(m, sinkFacts, (call, calleeParam, sink, trace) -> {
+                for (Origin origin : resolve(caller, call.arguments().get(calleeParam), returns).origins()) {
+                    addFinding(findings, origin, sink, prepend(frame(method, call.line()), trace));
+                }
+            });
+        }
+        List<TaintFinding> sorted = new ArrayList<>(findings.values());
+        sorted.sort(Comparator.comparing(TaintFinding::sinkFile)
+            .thenComparingInt(TaintFinding::sinkLine)
+            .thenComparing(TaintFinding::sourceFile)
+            .thenComparingInt(TaintFinding::sourceLine));
+        return sorted;
+    }
+
+    private void addFinding(Map<FindingKey, TaintFinding> findings, Origin origin, SinkRef sinkRef, List<String> trace) {
+        FindingKey key = new FindingKey(origin, sinkRef);
+        TaintFinding existing = findings.get(key);
+        if (existing != null && existing.trace().size() <= trace.size()) {
+            return;
+        }
+        MethodSummary sourceMethod = methods.get(origin.method());
+        MethodSummary.SourceSite source = sourceMethod.sources().get(origin.source());
+        MethodSummary sinkMethod = methods.get(sinkRef.method());
+        MethodSummary.SinkSite sink = sinkMethod.sinks().get(sinkRef.sink());
+        findings.put(key, new TaintFinding(
+            sink.type(),
+            RISK_LEVELS.getOrDefault(sink.type(), RiskLevel.HIGH),
+            source.description(),
+            sourceMethod.file(),
+            source.line(),
+            sinkMethod.file(),
+            sink.line(),
+            sink.code(),
+            trace
+        ));
+    }
+
+    @FunctionalInterface
+    private interface SinkCallVisitor {
+        void visit(MethodSummary.CallSite call, int calleeParam, SinkRef sink, List<String> trace);
+    }
+
+    // m'deki her çağrı için, çağrılan metodun sink'e ulaşan parametrelerini gezer
+    private void forEachSinkCall(int m, List<Map<Integer, Map<SinkRef, List<String>>>> facts, SinkCallVisitor visitor) {
+        MethodSummary method = methods.get(m);
+        for (int c = 0; c < method.calls().size(); c++) {
+            MethodSummary.CallSite call = method.calls().get(c);
+            for (int callee : targets[m][c]) {
+                facts.get(callee).forEach((param, sinks) -> {
+                    if (param < call.arguments().size()) {
+                        sinks.forEach((sink, trace) -> visitor.visit(call, param, sink, trace));
+                    }
+                });
+            }
+        }
+    }
+
+    private Flow resolve(int m, TaintLabel label, Flow[] returnFlows) {
+        if (label.isEmpty()) {
+            return Flow.EMPTY;
+        }
+        Set<Integer> params = new HashSet<>();
+        Set<Origin> origins = new HashSet<>();
+        Set<Integer> visited = new HashSet<>();
+        Deque<TaintLabel> pending = new ArrayDeque<>();
+        pending.push(label);
+        while (!pending.isEmpty()) {
+            TaintLabel current = pending.pop();
+            params.addAll(current.params());
+            current.sources().forEach(source -> origins.add(new Origin(m, source)));
+            for (int c : current.calls()) {
+                // Akış duyarsız etiketlerde x = f(x) gibi döngüler olabilir
+                if (!visited.add(c)) {
+                    continue;
+                }
+                MethodSummary.CallSite call = methods.get(m).calls().get(c);
+                int[] callees = targets[m][c];
+                if (callees.length == 0) {
+                    pending.push(call.receiver());
+                    call.arguments().forEach(pending::push);
+                    continue;
+                }
+                for (int callee : callees) {
+                    Flow flow = returnFlows[callee];
+                    origins.addAll(flow.origins());
+                    for (int param : flow.params()) {
+                        if (param < call.arguments().size()) {
+                            pending.push(call.arguments().get(param));
+                        }
+                    }
+                }
+            }
+        }
+        return params.isEmpty() && origins.isEmpty() ? Flow.EMPTY : new Flow(Set.copyOf(params), Set.copyOf(origins));
+    }
+
+    private static long factCount(List<Map<Integer, Map<SinkRef, List<String>>>> facts) {
+        long count = 0;
+        for (Map<Integer, Map<SinkRef, List<String>>> method : facts) {
+            for (Map<SinkRef, List<String>> sinks : method.values()) {
+                count += sinks.size();
+            }
+        }
+        return count;
+    }
+
+    private static String frame(MethodSummary method, int line) {
+        return method.className() + "." + method.name() + " (" + method.file() + ":" + line + ")";
+    }
+
+    private static List<String> prepend(String frame, List<String> trace) {
+        List<String> frames = new ArrayList<>(trace.size() + 1);
+        frames.add(frame);
+        frames.addAll(trace);
+        return List.copyOf(frames);
+    }
+
+    // Sınıf adı ve "ad/argüman sayısı" ile metod indeksleri; tip hiyerarşisi alt ve üst tiplere genişletilir
+    private static final class SymbolIndex {
+
+        private final List<MethodSummary> methods;
+        private final Map<String, List<Integer>> bySignature = new HashMap<>();
+        private final Map<String, List<Integer>> byName = new HashMap<>();
+        private final Map<String, Set<String>> related = new HashMap<>();
+
+        SymbolIndex(List<MethodSummary> methods, Map<String, List<String>> supertypes) {
+            this.methods = methods;
+            for (int m = 0; m < methods.size(); m++) {
+                MethodSummary method = methods.get(m);
+                bySignature.computeIfAbsent(method.signature(), k -> new ArrayList<>()).add(m);
+                byName.computeIfAbsent(method.name() + "/" + method.arity(), k -> new ArrayList<>()).add(m);
+            }
+            Map<String, Set<String>> subtypes = new HashMap<>();
+            supertypes.forEach((type, parents) -> parents.forEach(parent ->
+                subtypes.computeIfAbsent(parent, k -> new HashSet<>()).add(type)));
+            for (String type : supertypes.keySet()) {
+                Set<String> types = new HashSet<>();
+                types.add(type);
+                closure(type, supertypes, types);
+                closure(type, subtypes, types);
+                related.put(type, types);
+            }
+        }
+
+        private static void closure(String type, Map<String, ? extends Collection<String>> edges, Set<String> into) {
+            Deque<String> pending = new ArrayDeque<>(List.of(type));
+            Set<String> seen = new HashSet<>();
+            while (!pending.isEmpty()) {
+                Collection<String> neighbours = edges.get(pending.pop());
+                if (neighbours == null) {
+                    continue;
+                }
+                for (String next : neighbours) {
+                    if (seen.add(next)) {
+                        into.add(next);
+                        pending.push(next);
+                    }
+                }
+            }
+        }
+
+        int[][][] resolveAll() {
+            return methods.parallelStream()
+                .map(method -> method.calls().stream().map(this::resolve).toArray(int[][]::new))
+                .toArray(int[][][]::new);
+        }
+
+        private int[] resolve(MethodSummary.CallSite call) {
+            String name = call.name() + "/" + call.arguments().size();
+            if (call.receiverType() == null) {
+                return byName.getOrDefault(name, List.of()).stream().mapToInt(Integer::intValue).toArray();
+            }
+            Set<String> types = related.get(call.receiverType());
+            if (types == null) {
+                return new int[0];
+            }
+            List<Integer> candidates = new ArrayList<>();
+            for (String type : types) {
+                candidates.addAll(bySignature.getOrDefault(type + "." + name, List.of()));
+            }
+            return candidates.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+    }
+}
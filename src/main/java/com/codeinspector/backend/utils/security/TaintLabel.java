@@ -0,0 +1,51 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Bir ifadenin değerinin nelere bağlı olduğu: metod parametreleri, metod içindeki kaynak noktaları
+ * ve sonucu çağrılan metodun özetine göre sonradan çözülen çağrılar (indeksler metod özetindeki listelere göredir).
+ */
+public record TaintLabel(Set<Integer> params, Set<Integer> sources, Set<Integer> calls) {
+
+    public static final TaintLabel EMPTY = new TaintLabel(Set.of(), Set.of(), Set.of());
+
+    public static TaintLabel param(int index) {
+        return new TaintLabel(Set.of(index), Set.of(), Set.of());
+    }
+
+    public static TaintLabel source(int index) {
+        return new TaintLabel(Set.of(), Set.of(index), Set.of());
+    }
+
+    public static TaintLabel call(int index) {
+        return new TaintLabel(Set.of(), Set.of(), Set.of(index));
+    }
+
+    public boolean isEmpty() {
+        return params.isEmpty() && sources.isEmpty() && calls.isEmpty();
+    }
+
+    public TaintLabel union(TaintLabel other) {
+        if (other.isEmpty() || other.equals(this)) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return new TaintLabel(merge(params, other.params), merge(sources, other.sources), merge(calls, other.calls));
+    }
+
+    private static Set<Integer> merge(Set<Integer> left, Set<Integer> right) {
+        if (left.containsAll(right)) {
+            return left;
+        }
+        if (right.containsAll(left)) {
+            return right;
+        }
+        Set<Integer> merged = new HashSet<>(left);
+        merged.addAll(right);
+        return Set.copyOf(merged);
+    }
+}
@@ -0,0 +1,78 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * MessageDigest.getInstance ile zayıf özet algoritmaları ve Cipher/KeyGenerator/SecretKeyFactory
+ * ile zayıf şifreleme algoritmaları ya da ECB modu kullanımını bulur.
+ */
+public final class WeakCryptoDetector extends VoidVisitorAdapter<Consumer<Node>> implements AstSecurityDetector {
+
+    private static final Set<String> WEAK_DIGESTS = Set.of("MD2", "MD4", "MD5", "SHA", "SHA1", "SHA-1");
+    private static final Set<String> WEAK_CIPHERS = Set.of("DES", "DESEDE", "TRIPLEDES", "RC2", "RC4", "ARCFOUR", "BLOWFISH");
+    private static final Set<String> CIPHER_FACTORIES = Set.of("Cipher", "KeyGenerator", "SecretKeyFactory");
+
+    @Override
+    public String type() {
+        return "WEAK_CRYPTO";
+    }
+
+    @Override
+    public Set<String> supersededPatterns() {
+        return Set.of("WEAK_CRYPTO");
+    }
+
+    @Override
+    public Set<String> triggers() {
+        return Set.of("getInstance");
+    }
+
+    @Override
+    public void detect(CompilationUnit unit, Consumer<Node> findings) {
+        unit.accept(this, findings);
+    }
+
+    @Override
+    public void visit(MethodCallExpr call, Consumer<Node> findings) {
+        super.visit(call, findings);
+        if (!call.getNameAsString().equals("getInstance")
+                || call.getScope().isEmpty()
+                || call.getArguments().isEmpty()
+                || !call.getArgument(0).isStringLiteralExpr()) {
+            return;
+        }
+
+        String owner = simpleName(call.getScope().get().toString());
+        String algorithm = call.getArgument(0).asStringLiteralExpr().getValue().toUpperCase(Locale.ROOT);
+        if (owner.equals("MessageDigest") && WEAK_DIGESTS.contains(algorithm)) {
+            findings.accept(call);
+        } else if (CIPHER_FACTORIES.contains(owner) && isWeakTransformation(owner, algorithm)) {
+            findings.accept(call);
+        }
+    }
+
+    // "AES" tek başına yalnızca Cipher için AES/ECB/PKCS5Padding anlamına gelir; KeyGenerator ve
+    // SecretKeyFactory'de mod yoktur
+    private boolean isWeakTransformation(String owner, String transformation) {
+        String[] parts = transformation.split("/");
+        if (WEAK_CIPHERS.contains(parts[0])) {
+            return true;
+        }
+        if (parts.length > 1) {
+            return parts[1].equals("ECB");
+        }
+        return owner.equals("Cipher") && parts[0].equals("AES");
+    }
+
+    private String simpleName(String qualifiedName) {
+        int dot = qualifiedName.lastIndexOf('.');
+        return dot >= 0 ? qualifiedName.substring(dot + 1) : qualifiedName;
+    }
+}
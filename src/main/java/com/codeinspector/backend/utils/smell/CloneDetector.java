@@ -0,0 +1,287 @@
+package com.codeinspector.backend.utils.smell;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.codeinspector.backend.utils.metrics.JavaLexer;
+import com.codeinspector.backend.utils.metrics.SymbolTable;
+
+/**
+ * Dosya içi kopya kod tespiti. Kaynak {@link JavaLexer} ile token'lara ayrılır; parametre ve yerel değişken adları ile
+ * literal'ler tek bir koda indirgenir, böylece değişken adı değiştirilmiş kopyalar da eşleşir. Alan, metod ve tip
+ * adları kimliğini korur. Sabit uzunluklu token pencereleri
+ * Rabin-Karp kayan hash'iyle dolaşılır; eşleşen pencere ileri doğru genişletilip tek bir kopya çifti olarak
+ * raporlanır ve tarama kopyanın sonundan devam eder. Toplam iş token sayısıyla doğrusaldır.
+ * package ve import bildirimleri ile yorumlar karşılaştırmaya girmez.
+ */
+public final class CloneDetector {
+
+    /** Satırlar 1'den başlar ve aralık uçları dahildir */
+    public record ClonePair(int firstStartLine, int firstEndLine, int secondStartLine, int secondEndLine, int tokens) {}
+
+    private static final int LOCAL = 1;
+    private static final int LITERAL = 2;
+    private static final int KEYWORD_BASE = 16;
+    private static final int SYMBOL_BASE = KEYWORD_BASE + JavaLexer.KEYWORD_COUNT;
+    private static final int NAME_BASE = SYMBOL_BASE + JavaLexer.SYMBOL_COUNT;
+    private static final long BASE = 1_000_003L;
+
+    private static final int PACKAGE = JavaLexer.keywordId("package");
+    private static final int IMPORT = JavaLexer.keywordId("import");
+    private static final int EXTENDS = JavaLexer.keywordId("extends");
+    private static final int SUPER = JavaLexer.keywordId("super");
+    private static final Set<Integer> TYPE_KEYWORDS = Set.of(
+        JavaLexer.keywordId("class"), JavaLexer.keywordId("interface"), JavaLexer.keywordId("enum"), JavaLexer.keywordId("record"));
+    private static final Set<Integer> VARIABLE_TYPE_KEYWORDS = Set.of(
+        JavaLexer.keywordId("boolean"), JavaLexer.keywordId("byte"), JavaLexer.keywordId("char"), JavaLexer.keywordId("double"),
+        JavaLexer.keywordId("float"), JavaLexer.keywordId("int"), JavaLexer.keywordId("long"), JavaLexer.keywordId("short"),
+        JavaLexer.keywordId("var"));
+    private static final int SEMICOLON = JavaLexer.symbolId(";");
+    private static final int COMMA = JavaLexer.symbolId(",");
+    private static final int COLON = JavaLexer.symbolId(":");
+    private static final int DOT = JavaLexer.symbolId(".");
+    private static final int ASSIGN = JavaLexer.symbolId("=");
+    private static final int ARROW = JavaLexer.symbolId("->");
+    private static final int QUESTION = JavaLexer.symbolId("?");
+    private static final int LESS = JavaLexer.symbolId("<");
+    private static final int GREATER = JavaLexer.symbolId(">");
+    private static final int SHIFT_RIGHT = JavaLexer.symbolId(">>");
+    private static final int UNSIGNED_SHIFT_RIGHT = JavaLexer.symbolId(">>>");
+    private static final int OPEN_BRACE = JavaLexer.symbolId("{");
+    private static final int CLOSE_BRACE = JavaLexer.symbolId("}");
+    private static final int OPEN_PAREN = JavaLexer.symbolId("(");
+    private static final int CLOSE_PAREN = JavaLexer.symbolId(")");
+    private static final int OPEN_BRACKET = JavaLexer.symbolId("[");
+    private static final int CLOSE_BRACKET = JavaLexer.symbolId("]");
+
+    private CloneDetector() {}
+
+    public static List<ClonePair> detect(String sourceCode, int minTokens) {
+        Tokens tokens = tokenize(sourceCode);
+        int n = tokens.size;
+        int[] codes = tokens.codes;
+        List<ClonePair> clones = new ArrayList<>();
+        if (minTokens <= 0 || n < 2 * minTokens) {
+            return clones;
+        }
+
+        long highPower = 1;
+        for (int k = 1; k < minTokens; k++) {
+            highPower *= BASE;
+        }
+        // Her hash için ilk görülen pencere; sonraki eşleşmeler ona göre raporlanır
+        Map<Long, Integer> firstSeen = new HashMap<>();
+        int i = 0;
+        long hash = hash(codes, 0, minTokens);
+        while (true) {
+            Integer j = firstSeen.get(hash);
+            if (j != null && j + minTokens <= i && Arrays.equals(codes, j, j + minTokens, codes, i, i + minTokens)) {
+                int length = extend(codes, n, j, i, minTokens);
+                // Önceki bildirimin kapanışı (";", "}") kopyanın başına dahil edilmez
+                while (length > minTokens && isClosing(codes[i])) {
+                    j++;
+                    i++;
+                    length = extend(codes, n, j, i, length - 1);
+                }
+                clones.add(new ClonePair(tokens.lines[j], tokens.lines[j + length - 1],
+                    tokens.lines[i], tokens.lines[i + length - 1], length));
+                // Genişletilen kopya en az bir pencere boyudur; hash'i yeniden hesaplamak doğrusallığı bozmaz
+                i += length;
+                if (i + minTokens > n) {
+                    break;
+                }
+                hash = hash(codes, i, minTokens);
+                continue;
+            }
+            firstSeen.putIfAbsent(hash, i);
+            if (i + minTokens >= n) {
+                break;
+            }
+            hash = (hash - codes[i] * highPower) * BASE + codes[i + minTokens];
+            i++;
+        }
+        return clones;
+    }
+
+    // Kopyalar örtüşmez: ilk kopya ikincinin başlangıcına kadar uzayabilir
+    private static int extend(int[] codes, int n, int first, int second, int length) {
+        while (second + length < n && first + length < second && codes[first + length] == codes[second + length]) {
+            length++;
+        }
+        return length;
+    }
+
+    private static boolean isClosing(int code) {
+        return code == SYMBOL_BASE + SEMICOLON || code == SYMBOL_BASE + CLOSE_BRACE;
+    }
+
+    // long taşması mod 2^64 aritmetiğidir
+    private static long hash(int[] codes, int from, int length) {
+        long hash = 0;
+        for (int k = from; k < from + length; k++) {
+            hash = hash * BASE + codes[k];
+        }
+        return hash;
+    }
+
+    // kinds/raw: JavaLexer türü ve kimliği; codes: karşılaştırılan kod
+    private static final class Tokens {
+        int[] kinds = new int[256];
+        int[] raw = new int[256];
+        int[] codes = new int[256];
+        int[] starts = new int[256];
+        int[] ends = new int[256];
+        int[] lines = new int[256];
+        int size;
+
+        void add(int kind, int code, JavaLexer lexer) {
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                raw = Arrays.copyOf(raw, size * 2);
+                codes = Arrays.copyOf(codes, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                lines = Arrays.copyOf(lines, size * 2);
+            }
+            kinds[size] = kind;
+            raw[size] = code;
+            starts[size] = lexer.start();
+            ends[size] = lexer.end();
+            lines[size++] = lexer.line();
+        }
+
+        boolean isSymbol(int i, int symbol) {
+            return i >= 0 && i < size && kinds[i] == JavaLexer.SYMBOL && raw[i] == symbol;
+        }
+
+        boolean isKeyword(int i, int keyword) {
+            return i >= 0 && i < size && kinds[i] == JavaLexer.KEYWORD && raw[i] == keyword;
+        }
+    }
+
+    private static Tokens tokenize(String source) {
+        Tokens tokens = new Tokens();
+        JavaLexer lexer = new JavaLexer(source);
+        // package/import bildirimleri ';' token'ına kadar atlanır
+        boolean skipping = false;
+        for (int kind = lexer.next(); kind != JavaLexer.END; kind = lexer.next()) {
+            int code = lexer.code();
+            if (skipping) {
+                skipping = kind != JavaLexer.SYMBOL || code != SEMICOLON;
+                continue;
+            }
+            // Bildirimler dosya başında, ilk karşılaştırılan token'dan önce gelir
+            if (kind == JavaLexer.KEYWORD && tokens.size == 0 && (code == PACKAGE || code == IMPORT)) {
+                skipping = true;
+                continue;
+            }
+            tokens.add(kind, code, lexer);
+        }
+        assignCodes(tokens, source);
+        return tokens;
+    }
+
+    // Yalnızca metod/yapıcı parametreleri ve gövdedeki yerel değişkenler LOCAL koduna indirgenir; alan, metod ve tip
+    // adları kimliğini korur. Böylece yalnızca farklı alanları döndüren getter/setter dizileri kopya sayılmaz.
+    private static void assignCodes(Tokens tokens, String source) {
+        SymbolTable names = new SymbolTable(source);
+        BitSet locals = new BitSet();
+        // Açık süslü parantezler: true tip gövdesi, false blok
+        Deque<Boolean> braces = new ArrayDeque<>();
+        int blocks = 0;
+        int parameterDepth = 0;
+        boolean typeHeader = false;
+        for (int i = 0; i < tokens.size; i++) {
+            int code = tokens.raw[i];
+            switch (tokens.kinds[i]) {
+                case JavaLexer.LITERAL -> tokens.codes[i] = LITERAL;
+                case JavaLexer.KEYWORD -> {
+                    // Foo.class bir tip bildirimi değildir
+                    if (TYPE_KEYWORDS.contains(code) && !tokens.isSymbol(i - 1, DOT)) {
+                        typeHeader = true;
+                    }
+                    tokens.codes[i] = KEYWORD_BASE + code;
+                }
+                case JavaLexer.SYMBOL -> {
+                    if (code == OPEN_BRACE) {
+                        braces.push(typeHeader);
+                        blocks += typeHeader ? 0 : 1;
+                        typeHeader = false;
+                    } else if (code == CLOSE_BRACE && !braces.isEmpty() && !braces.pop() && --blocks == 0) {
+                        locals.clear();
+                    } else if (code == OPEN_PAREN && parameterDepth > 0) {
+                        parameterDepth++;
+                    } else if (code == OPEN_PAREN && blocks == 0 && i > 0 && tokens.kinds[i - 1] == JavaLexer.IDENTIFIER) {
+                        // Tip gövdesinde ad + "(": metod, yapıcı veya record bileşen listesi
+                        parameterDepth = 1;
+                        locals.clear();
+                    } else if (code == CLOSE_PAREN && parameterDepth > 0) {
+                        parameterDepth--;
+                    }
+                    tokens.codes[i] = SYMBOL_BASE + code;
+                }
+                default -> {
+                    int name = names.intern(tokens.starts[i], tokens.ends[i]);
+                    boolean member = tokens.isSymbol(i - 1, DOT);
+                    if (!member && (blocks > 0 || parameterDepth > 0) && declares(tokens, i)) {
+                        locals.set(name);
+                    }
+                    tokens.codes[i] = !member && locals.get(name) ? LOCAL : NAME_BASE + name;
+                }
+            }
+        }
+    }
+
+    // "Tip ad" ardından = ; , : ) gelen bildirim ya da "ad ->" lambda parametresi
+    private static boolean declares(Tokens tokens, int i) {
+        if (tokens.isSymbol(i + 1, ARROW)) {
+            return true;
+        }
+        boolean declarator = tokens.isSymbol(i + 1, ASSIGN) || tokens.isSymbol(i + 1, SEMICOLON)
+            || tokens.isSymbol(i + 1, COMMA) || tokens.isSymbol(i + 1, COLON) || tokens.isSymbol(i + 1, CLOSE_PAREN);
+        if (!declarator || i == 0) {
+            return false;
+        }
+        int previous = i - 1;
+        return switch (tokens.kinds[previous]) {
+            case JavaLexer.IDENTIFIER -> true;
+            case JavaLexer.KEYWORD -> VARIABLE_TYPE_KEYWORDS.contains(tokens.raw[previous]);
+            case JavaLexer.SYMBOL -> tokens.isSymbol(previous, CLOSE_BRACKET) || closesTypeArguments(tokens, previous);
+            default -> false;
+        };
+    }
+
+    // List<Double> prices: ">" bir tip argüman listesini kapatıyor mu; "a > b" karşılaştırmasını ayırır
+    private static boolean closesTypeArguments(Tokens tokens, int close) {
+        int depth = 0;
+        for (int i = close; i >= 0 && close - i < 64; i--) {
+            if (tokens.kinds[i] == JavaLexer.IDENTIFIER || tokens.isSymbol(i, DOT) || tokens.isSymbol(i, COMMA)
+                    || tokens.isSymbol(i, QUESTION) || tokens.isSymbol(i, OPEN_BRACKET) || tokens.isSymbol(i, CLOSE_BRACKET)
+                    || tokens.isKeyword(i, EXTENDS) || tokens.isKeyword(i, SUPER)
+                    || tokens.kinds[i] == JavaLexer.KEYWORD && VARIABLE_TYPE_KEYWORDS.contains(tokens.raw[i])) {
+                continue;
+            }
+            if (tokens.kinds[i] != JavaLexer.SYMBOL) {
+                return false;
+            }
+            int code = tokens.raw[i];
+            if (code == GREATER || code == SHIFT_RIGHT || code == UNSIGNED_SHIFT_RIGHT) {
+                depth += code == GREATER ? 1 : code == SHIFT_RIGHT ? 2 : 3;
+            } else if (code == LESS) {
+                if (--depth == 0) {
+                    return true;
+                }
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+}
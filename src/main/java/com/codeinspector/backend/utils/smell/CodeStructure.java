@@ -0,0 +1,316 @@
+package com.codeinspector.backend.utils.smell;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.RecordDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.SwitchExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * Kod kokusu kontrollerinin ihtiyaç duyduğu yapısal bilgiler: tipler, metodlar, değişken adları, switch
+ * ve karar noktası sayıları. Kaynak bir kez ayrıştırılır ve ağaç tek bir ziyaretçi geçişiyle dolaşılır;
+ * ağaç tutulmaz, kontroller yalnızca bu özet üzerinde çalışır.
+ */
+public record CodeStructure(
+    List<TypeInfo> types,
+    List<MethodInfo> methods,
+    List<VariableInfo> variables,
+    int switchCount,
+    int decisionPoints
+) {
+
+    /**
+     * methodCount yalnızca metodları sayar (kurucular hariç); fieldCount alan değişkenlerini.
+     * methods: tipin doğrudan kendi metod ve kurucuları, iç tiplerinkiler hariç.
+     */
+    public record TypeInfo(String name, int line, int methodCount, int fieldCount, List<MethodInfo> methods) {
+
+        /** Tipin kendi metodlarındaki karar noktaları üzerinden McCabe karmaşıklığı */
+        public int complexity() {
+            int complexity = 1;
+            for (MethodInfo method : methods) {
+                complexity += method.complexity() - 1;
+            }
+            return complexity;
+        }
+
+        public int switchCount() {
+            int switchCount = 0;
+            for (MethodInfo method : methods) {
+                switchCount += method.switchCount();
+            }
+            return switchCount;
+        }
+    }
+
+    /** bodyLines: gövdede süslü parantezler arasında kalan satırlar; complexity: 1 + karar noktaları */
+    public record MethodInfo(
+        String className,
+        String name,
+        int line,
+        int bodyLines,
+        int parameterCount,
+        int complexity,
+        int switchCount
+    ) {}
+
+    public record VariableInfo(String name, int line) {}
+
+    // RAW: tüm dil sürümlerinin söz dizimi kabul edilir, doğrulayıcılar çalışmaz
+    private static final ParserConfiguration CONFIGURATION = new ParserConfiguration()
+        .setLanguageLevel(ParserConfiguration.LanguageLevel.RAW)
+        .setAttributeComments(false);
+
+    // JavaParser örnekleri thread-safe değil; her ayrıştırma kendi parser'ını kullanır
+    public static Optional<CodeStructure> parse(String sourceCode) {
+        ParseResult<CompilationUnit> result = new JavaParser(CONFIGURATION).parse(sourceCode);
+        return result.isSuccessful() ? result.getResult().map(CodeStructure::of) : Optional.empty();
+    }
+
+    public static CodeStructure of(CompilationUnit unit) {
+        Collector collector = new Collector();
+        unit.accept(collector, null);
+        // Metodlar ziyaret bitince eklenir; iç içe tanımlar yüzünden kaynak sırasına göre sıralanır
+        collector.methods.sort(METHOD_ORDER);
+        return new CodeStructure(
+            List.copyOf(collector.types),
+            List.copyOf(collector.methods),
+            List.copyOf(collector.variables),
+            collector.switchCount,
+            collector.decisionPoints
+        );
+    }
+
+    private static final Comparator<MethodInfo> METHOD_ORDER = Comparator.comparingInt(MethodInfo::line);
+
+    private static final class Collector extends VoidVisitorAdapter<Void> {
+
+        private final List<TypeInfo> types = new ArrayList<>();
+        private final List<MethodInfo> methods = new ArrayList<>();
+        private final List<VariableInfo> variables = new ArrayList<>();
+        private final Deque<List<MethodInfo>> typeMethods = new ArrayDeque<>();
+        private final Deque<String> typeNames = new ArrayDeque<>();
+        // İç içe metodlar (yerel/anonim sınıflar) kendi karar noktalarını ve switch'lerini sayar: {karar, switch}
+        private final Deque<int[]> methodCounters = new ArrayDeque<>();
+        private int switchCount;
+        private int decisionPoints;
+
+        @Override
+        public void visit(ClassOrInterfaceDeclaration declaration, Void arg) {
+            visitType(declaration, () -> super.visit(declaration, arg));
+        }
+
+        @Override
+        public void visit(EnumDeclaration declaration, Void arg) {
+            visitType(declaration, () -> super.visit(declaration, arg));
+        }
+
+        @Override
+        public void visit(RecordDeclaration declaration, Void arg) {
+            visitType(declaration, () -> super.visit(declaration, arg));
+        }
+
+        // Tipler kaynak sırasında listelenir; metod listesi tamamlanınca yer tutucunun yerine yazılır
+        private void visitType(TypeDeclaration<?> declaration, Runnable children) {
+            int methodCount = declaration.getMethods().size();
+            int fieldCount = 0;
+            for (FieldDeclaration field : declaration.getFields()) {
+                fieldCount += field.getVariables().size();
+            }
+            int index = types.size();
+            types.add(null);
+            List<MethodInfo> ownMethods = new ArrayList<>();
+            typeNames.push(declaration.getNameAsString());
+            typeMethods.push(ownMethods);
+            children.run();
+            typeMethods.pop();
+            typeNames.pop();
+            ownMethods.sort(METHOD_ORDER);
+            types.set(index, new TypeInfo(declaration.getNameAsString(), line(declaration), methodCount, fieldCount,
+                List.copyOf(ownMethods)));
+        }
+
+        @Override
+        public void visit(MethodDeclaration declaration, Void arg) {
+            visitCallable(declaration, declaration.getBody().orElse(null), () -> super.visit(declaration, arg));
+        }
+
+        @Override
+        public void visit(ConstructorDeclaration declaration, Void arg) {
+            visitCallable(declaration, declaration.getBody(), () -> super.visit(declaration, arg));
+        }
+
+        private void visitCallable(CallableDeclaration<?> declaration, BlockStmt body, Runnable children) {
+            methodCounters.push(new int[2]);
+            children.run();
+            int[] counters = methodCounters.pop();
+            int bodyLines = body == null ? 0 : body.getRange()
+                .map(range -> Math.max(0, range.end.line - range.begin.line - 1))
+                .orElse(0);
+            MethodInfo method = new MethodInfo(
+                typeNames.isEmpty() ? "" : typeNames.peek(),
+                declaration.getNameAsString(),
+                line(declaration),
+                bodyLines,
+                declaration.getParameters().size(),
+                1 + counters[0],
+                counters[1]
+            );
+            methods.add(method);
+            if (!typeMethods.isEmpty()) {
+                typeMethods.peek().add(method);
+            }
+        }
+
+        @Override
+        public void visit(FieldDeclaration declaration, Void arg) {
+            // static final alanlar sabittir, adlandırma kuralı farklıdır
+            if (!(declaration.isStatic() && declaration.isFinal())) {
+                addVariables(declaration.getVariables());
+            }
+            super.visit(declaration, arg);
+        }
+
+        @Override
+        public void visit(VariableDeclarationExpr declaration, Void arg) {
+            addVariables(declaration.getVariables());
+            super.visit(declaration, arg);
+        }
+
+        @Override
+        public void visit(Parameter parameter, Void arg) {
+            // Lambda ve catch parametreleri kısa adlarla yazılır; yalnızca metod parametreleri değerlendirilir
+            if (parameter.getParentNode().filter(parent -> parent instanceof CallableDeclaration).isPresent()) {
+                variables.add(new VariableInfo(parameter.getNameAsString(), line(parameter)));
+            }
+            super.visit(parameter, arg);
+        }
+
+        private void addVariables(NodeList<VariableDeclarator> declarators) {
+            for (VariableDeclarator declarator : declarators) {
+                variables.add(new VariableInfo(declarator.getNameAsString(), line(declarator)));
+            }
+        }
+
+        @Override
+        public void visit(SwitchStmt statement, Void arg) {
+            switchStatement();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(SwitchExpr expression, Void arg) {
+            switchStatement();
+            super.visit(expression, arg);
+        }
+
+        // McCabe: dallanma ve döngü yapıları, case etiketleri, catch blokları, ?: ve kısa devre operatörleri
+        @Override
+        public void visit(IfStmt statement, Void arg) {
+            decision();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(WhileStmt statement, Void arg) {
+            decision();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(DoStmt statement, Void arg) {
+            decision();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(ForStmt statement, Void arg) {
+            decision();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(ForEachStmt statement, Void arg) {
+            decision();
+            super.visit(statement, arg);
+        }
+
+        @Override
+        public void visit(SwitchEntry entry, Void arg) {
+            if (!entry.getLabels().isEmpty()) {
+                decision();
+            }
+            super.visit(entry, arg);
+        }
+
+        @Override
+        public void visit(CatchClause clause, Void arg) {
+            decision();
+            super.visit(clause, arg);
+        }
+
+        @Override
+        public void visit(ConditionalExpr expression, Void arg) {
+            decision();
+            super.visit(expression, arg);
+        }
+
+        @Override
+        public void visit(BinaryExpr expression, Void arg) {
+            if (expression.getOperator() == BinaryExpr.Operator.AND || expression.getOperator() == BinaryExpr.Operator.OR) {
+                decision();
+            }
+            super.visit(expression, arg);
+        }
+
+        private void decision() {
+            decisionPoints++;
+            if (!methodCounters.isEmpty()) {
+                methodCounters.peek()[0]++;
+            }
+        }
+
+        private void switchStatement() {
+            switchCount++;
+            if (!methodCounters.isEmpty()) {
+                methodCounters.peek()[1]++;
+            }
+        }
+
+        private static int line(Node node) {
+            return node.getBegin().map(position -> position.line).orElse(0);
+        }
+    }
+}
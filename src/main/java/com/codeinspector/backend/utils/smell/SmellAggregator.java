@@ -0,0 +1,62 @@
+package com.codeinspector.backend.utils.smell;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.codeinspector.backend.dto.CodeAnalysisResult;
+
+/**
+ * Dosya veya paket sonuçlarını tek bir CodeAnalysisResult'ta birleştirir. Skorlar üye ağırlığıyla (dosya sayısı)
+ * ortalanır; böylece paket ortalamalarından hesaplanan proje skoru dosya ortalamasıyla aynıdır. Detaylarda her
+ * kontrol için o kontrolde 100'ün altında kalan üyeler en düşük skordan başlayarak listelenir.
+ * Thread-safe değildir; birleştirme çağıran thread'de yapılır.
+ */
+public final class SmellAggregator {
+
+    private record Member(String name, double[] scores) {}
+
+    private final List<String> checks;
+    private final double[] sums;
+    private final List<Member> members = new ArrayList<>();
+    private double overallSum;
+    private int weight;
+
+    public SmellAggregator(List<String> checks) {
+        this.checks = List.copyOf(checks);
+        this.sums = new double[checks.size()];
+    }
+
+    public void add(String member, CodeAnalysisResult result, int memberWeight) {
+        double[] scores = new double[checks.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = result.getSmellScores().getOrDefault(checks.get(i), 100.0);
+            sums[i] += scores[i] * memberWeight;
+        }
+        overallSum += result.getOverallScore() * memberWeight;
+        weight += memberWeight;
+        members.add(new Member(member, scores));
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public CodeAnalysisResult result() {
+        Map<String, Double> smellScores = new LinkedHashMap<>();
+        Map<String, List<String>> smellDetails = new LinkedHashMap<>();
+        for (int i = 0; i < checks.size(); i++) {
+            int check = i;
+            smellScores.put(checks.get(i), weight > 0 ? sums[i] / weight : 100.0);
+            smellDetails.put(checks.get(i), members.stream()
+                .filter(member -> member.scores()[check] < 100.0)
+                .sorted(Comparator.<Member>comparingDouble(member -> member.scores()[check]).thenComparing(Member::name))
+                .map(member -> member.name() + " (" + String.format(Locale.ROOT, "%.1f", member.scores()[check]) + ")")
+                .toList());
+        }
+        return new CodeAnalysisResult(smellScores, smellDetails, weight > 0 ? overallSum / weight : 100.0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.codeinspector.backend.utils.smell;
+
+/**
+ * Kod kokusu kontrolleri. Sıra, sonuç haritalarındaki sıradır; displayName yanıtlarda görünen addır.
+ */
+public enum SmellCheck {
+
+    LONG_METHODS("Long Methods"),
+    LARGE_CLASS("Large Class"),
+    DUPLICATE_CODE("Duplicate Code"),
+    LONG_PARAMETER_LIST("Long Parameter List"),
+    CYCLOMATIC_COMPLEXITY("Cyclomatic Complexity"),
+    NAMING_CONVENTIONS("Naming Conventions"),
+    DATA_CLUMPS("Data Clumps"),
+    SWITCH_STATEMENTS("Switch Statements");
+
+    private final String displayName;
+
+    SmellCheck(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+}
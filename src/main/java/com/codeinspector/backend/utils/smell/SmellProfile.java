@@ -0,0 +1,56 @@
+package com.codeinspector.backend.utils.smell;
+
+import java.util.Map;
+
+/**
+ * İstek başına seçilebilen kod kokusu eşik ve ağırlık profilleri. Ağırlıklar {@link SmellCheck} başına verilir;
+ * belirtilmeyen kontrolün ağırlığı 1'dir. Analizci profilleri açılışta bir kez derler.
+ */
+public enum SmellProfile {
+
+    DEFAULT(new Thresholds(20, 10, 3, 5, 10, 2, 30), Map.of()),
+
+    // Yeni kod için: daha kısa metodlar, daha küçük sınıflar; karmaşıklık ve uzun metodlar skoru daha çok etkiler
+    STRICT(new Thresholds(15, 7, 3, 4, 7, 1, 20), Map.of(
+        SmellCheck.LONG_METHODS, 1.5,
+        SmellCheck.CYCLOMATIC_COMPLEXITY, 2.0,
+        SmellCheck.DUPLICATE_CODE, 1.5
+    )),
+
+    // Eski kod tabanları için: yalnızca belirgin aşımlar cezalandırılır, biçimsel kontrollerin etkisi azdır
+    LENIENT(new Thresholds(40, 20, 5, 8, 15, 4, 50), Map.of(
+        SmellCheck.NAMING_CONVENTIONS, 0.5,
+        SmellCheck.SWITCH_STATEMENTS, 0.5
+    ));
+
+    /**
+     * maxSimpleComplexity: "Simple" sayılan en yüksek McCabe değeri; üst kademeler bunun 2 ve 3 katıdır.
+     * maxSwitchStatements: bu sayıya kadar switch kullanımı bulgu olarak listelenmez.
+     * minCloneTokens: kopya sayılan en kısa token dizisi (yerel adlar ve literal'ler normalize edilir).
+     */
+    public record Thresholds(
+        int maxMethodLines,
+        int maxClassMethods,
+        int maxParameters,
+        int maxClassFields,
+        int maxSimpleComplexity,
+        int maxSwitchStatements,
+        int minCloneTokens
+    ) {}
+
+    private final Thresholds thresholds;
+    private final Map<SmellCheck, Double> weights;
+
+    SmellProfile(Thresholds thresholds, Map<SmellCheck, Double> weights) {
+        this.thresholds = thresholds;
+        this.weights = weights;
+    }
+
+    public Thresholds thresholds() {
+        return thresholds;
+    }
+
+    public double weight(SmellCheck check) {
+        return weights.getOrDefault(check, 1.0);
+    }
+}
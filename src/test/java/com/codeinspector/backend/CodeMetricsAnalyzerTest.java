@@ -1,8 +1,20 @@
 package com.codeinspector.backend;
+import com.codeinspector.backend.benchmark.CodeMetricsBenchmark;
+import com.codeinspector.backend.dto.CodeMetrics;
+import com.codeinspector.backend.dto.MemberMetrics;
+import com.codeinspector.backend.dto.MetricsTable;
+import com.codeinspector.backend.benchmark.LegacyCodeMetricsAnalyzer;
 import com.codeinspector.backend.utils.CodeMetricsAnalyzer;
+import com.codeinspector.backend.utils.metrics.MetricsSort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class CodeMetricsAnalyzerTest {
@@ -107,4 +119,95 @@ public class CodeMetricsAnalyzerTest {
         assertEquals("5", metrics.get("Empty Lines"), "Empty Lines mismatch");
     }
 
+    // Halstead ve ona bağlı bakım indeksi token tabanlıdır; satır metrikleri eski regex geçişleriyle aynı kalır
+    @Test
+    public void testSingleSweepMatchesLegacyLineMetrics() throws IOException {
+        List<String> inputs = new ArrayList<>(CodeMetricsBenchmark.loadSources());
+        inputs.add(code);
+        inputs.add("");
+        inputs.add("String s = \"if (a == b) return new X();\"; int x = 9abc + 12;");
+        inputs.add("public void run(\r) { do_it(); }\n\t* javadoc\n/* block */ call(x);\n");
+        inputs.add("private int protectedValue;\n\"unterminated class while\nreturn a_new >= 0x1F;");
+        LegacyCodeMetricsAnalyzer legacy = new LegacyCodeMetricsAnalyzer();
+        for (String input : inputs) {
+            Map<String, String> expected = new HashMap<>(legacy.analyzeMetrics(input));
+            Map<String, String> actual = new HashMap<>(analyzer.analyzeMetrics(input));
+            for (Map<String, String> metrics : List.of(expected, actual)) {
+                metrics.keySet().removeIf(key -> key.startsWith("Halstead") || key.equals("Maintainability Index"));
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testTypedMetricsBackTheMapView() throws IOException {
+        CodeMetrics metrics = analyzer.computeMetrics(code);
+        assertEquals(35, metrics.linesOfCode());
+        assertEquals(5, metrics.cyclomaticComplexity());
+        assertEquals(analyzer.analyzeMetrics(code), metrics.toMap());
+
+        // CBOR yanıtı aynı değerleri taşır ve metin haritasından küçüktür
+        byte[] cbor = new CBORMapper().writeValueAsBytes(metrics);
+        assertEquals(metrics, new CBORMapper().readValue(cbor, CodeMetrics.class));
+        assertTrue(cbor.length < new ObjectMapper().writeValueAsBytes(metrics.toMap()).length);
+    }
+
+    @Test
+    public void testHalsteadCountsLexerTokens() {
+        // Operatörler: if ( == && == ) { = ; }  Operandlar: a b b 1 a "b == c"
+        CodeMetrics metrics = analyzer.computeMetrics("if (a == b && b == 1) { a = \"b == c\"; }");
+        assertEquals(16, metrics.halsteadProgramLength());
+        assertEquals(13, metrics.halsteadVocabulary());
+        assertEquals(16 * Math.log(13) / Math.log(2), metrics.halsteadVolume(), 1e-9);
+        assertEquals(9 * 6 / (2.0 * 4), metrics.halsteadDifficulty(), 1e-9);
+
+        // Yorumlar sayılmaz, ">>>=" ve "->" tek operatördür
+        CodeMetrics shifted = analyzer.computeMetrics("x >>>= 2; // y = z\nf = v -> v;");
+        assertEquals(4 + 6, shifted.halsteadProgramLength());
+
+        // var ve yield burada anahtar kelime, record ise ad: operatörler var = . ( ) ; yield, operandlar list record items
+        CodeMetrics contextual = analyzer.computeMetrics("var list = record.items(); yield list;");
+        assertEquals(12, contextual.halsteadProgramLength());
+        assertEquals(7 / 2.0 * 4 / 3.0, contextual.halsteadDifficulty(), 1e-9);
+    }
+
+    @Test
+    public void testMetricsTableRanksMembersAndKeepsTopN() {
+        String nested = """
+            public class Outer {
+                private final Runnable task = new Runnable() {
+                    public void run() { if (ready) go(); }
+                };
+                enum Mode { FAST { int speed() { return 2; } }, SLOW; int speed() { return 1; } }
+                static class Inner {
+                    @Override
+                    public String toString() { return ok ? "a" : "b"; }
+                }
+                <T extends Comparable<? super T>> T max(List<? extends T> items) throws IllegalStateException {
+                    for (T item : items) {
+                        if (item != null && item.compareTo(null) > 0) return item;
+                    }
+                    return null;
+                }
+            }
+            """;
+        MetricsTable table = analyzer.metricsTable(nested, MetricsSort.COMPLEXITY, 0);
+
+        // Anonim sınıf ve enum sabiti gövdesi metod sayılmaz; joker tipteki '?' karar noktası değildir
+        assertEquals(List.of("Outer.max", "Outer.Inner.toString", "Outer.Mode.speed"),
+            table.methods().stream().map(MemberMetrics::name).toList());
+        assertEquals(List.of(4, 2, 1), table.methods().stream().map(MemberMetrics::complexity).toList());
+        assertEquals(List.of("Outer", "Outer.Inner", "Outer.Mode"),
+            table.classes().stream().map(MemberMetrics::name).toList());
+
+        MemberMetrics toString = table.methods().get(1);
+        assertEquals(7, toString.line());
+        assertEquals(8, toString.endLine());
+
+        MetricsTable top = analyzer.metricsTable(nested, MetricsSort.LOC, 1);
+        assertEquals(List.of("Outer.max"), top.methods().stream().map(MemberMetrics::name).toList());
+        assertEquals(6, top.methods().get(0).loc());
+        assertEquals(1, top.classes().size());
+        assertThrows(IllegalArgumentException.class, () -> analyzer.metricsTable(nested, MetricsSort.LOC, -1));
+    }
 }
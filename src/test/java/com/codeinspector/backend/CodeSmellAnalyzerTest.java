@@ -1,11 +1,23 @@
 package com.codeinspector.backend;
 
 import com.codeinspector.backend.dto.CodeAnalysisResult;
+import com.codeinspector.backend.dto.MethodSmellReport;
+import com.codeinspector.backend.dto.TypeSmellReport;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
 import com.codeinspector.backend.utils.CodeSmellAnalyzer;
+import com.codeinspector.backend.utils.smell.SmellCheck;
+import com.codeinspector.backend.utils.smell.SmellProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -229,9 +241,20 @@ public class UserManagementSystem {
     void testAnalyzeDuplicateCode() {
         String sourceCode = """
                 public class DuplicateCode {
-                    public void method1() {
-                        System.out.println("Duplicate");
-                        System.out.println("Duplicate");
+                    public int first(int[] values) {
+                        int total = 0;
+                        for (int i = 0; i < values.length; i++) {
+                            if (values[i] > 0) { total += values[i] * 2; }
+                        }
+                        return total;
+                    }
+
+                    public int second(int[] items) {
+                        int sum = 0;
+                        for (int k = 0; k < items.length; k++) {
+                            if (items[k] > 0) { sum += items[k] * 2; }
+                        }
+                        return sum;
                     }
                 }
                 """;
@@ -371,5 +394,213 @@ public class UserManagementSystem {
         assertTrue(result.getOverallScore() > 0);
         assertTrue(result.getOverallScore() <= 100);
     }
-}
 
+    @Test
+    void testConcurrentAnalysesKeepResultsIsolated() throws Exception {
+        // Farklı kokulara sahip girdiler; beklenen sonuçlar her girdi için ayrı örnekle, tek thread'de hesaplanır
+        List<String> sources = new ArrayList<>();
+        sources.add(code);
+        for (int i = 0; i < 7; i++) {
+            StringBuilder source = new StringBuilder("public class Sample" + i + " {\n");
+            for (int j = 0; j <= i * 2; j++) {
+                source.append("    private int field").append(j).append(";\n");
+                source.append("    public void method").append(j).append("(int a, int b, int c, int d) { if (a > b) { switch (c) { default -> {} } } }\n");
+            }
+            sources.add(source.append("}\n").toString());
+        }
+        List<CodeAnalysisResult> expected = sources.stream().map(source -> new CodeSmellAnalyzer().analyzeCode(source)).toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int task = 0; task < 400; task++) {
+                int index = task % sources.size();
+                ExecutionMode execution = task % 2 == 0 ? ExecutionMode.SEQUENTIAL : ExecutionMode.PARALLEL;
+                futures.add(executor.submit(() ->
+                    expected.get(index).equals(analyzer.analyzeCode(sources.get(index), execution))));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Önceki sonuçlar sonraki analizlerden etkilenmez
+        assertEquals(expected.get(0), analyzer.analyzeCode(sources.get(0)));
+    }
+
+    @Test
+    void testAstModeSeesNestedBlocksAndGenericParameters() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 24; i++) {
+            body.append("        if (total > ").append(i).append(") { total++; }\n");
+        }
+        String sourceCode = """
+            public class Report {
+                public int sum(Map<String, Integer> values, List<String> keys, int limit) {
+                    int total = 0;
+            %s        return total;
+                }
+            }
+            """.formatted(body);
+
+        CodeAnalysisResult ast = analyzer.analyzeCode(sourceCode, AnalysisMode.AST, ExecutionMode.SEQUENTIAL);
+        CodeAnalysisResult regex = analyzer.analyzeCode(sourceCode, AnalysisMode.REGEX, ExecutionMode.SEQUENTIAL);
+
+        // Regex gövdeyi ilk '}' karakterinde keser ve generic tipteki virgülü parametre ayırıcı sayar
+        assertTrue(regex.getSmellDetails().get("Long Methods").isEmpty());
+        assertEquals(1, regex.getSmellDetails().get("Long Parameter List").size());
+
+        assertEquals(List.of("Method sum at line 2 with 26 lines found"), ast.getSmellDetails().get("Long Methods"));
+        assertTrue(ast.getSmellDetails().get("Long Parameter List").isEmpty());
+        assertEquals(0.0, ast.getSmellScores().get("Long Methods"));
+        assertEquals(ast, analyzer.analyzeCode(sourceCode, AnalysisMode.AST, ExecutionMode.PARALLEL));
+    }
+
+    @Test
+    void testTypeBreakdownScoresEachClassSeparately() {
+        StringBuilder sourceCode = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            sourceCode.append("class Part").append(i).append(" {\n");
+            for (int j = 0; j < 4; j++) {
+                sourceCode.append("    private int value").append(j).append(";\n");
+                sourceCode.append("    int get").append(j).append("() { return value").append(j).append("; }\n");
+            }
+            sourceCode.append("}\n");
+        }
+        sourceCode.append("""
+            class Router {
+                int route(int code, int retries, int timeout, int limit) {
+                    switch (code) { case 1: return retries; case 2: return timeout; default: return limit; }
+                }
+            }
+            """);
+
+        CodeAnalysisResult result = analyzer.analyzeCode(sourceCode.toString(), AnalysisMode.AST, ExecutionMode.SEQUENTIAL);
+
+        // 20 metod ve 20 alan tek sınıfa yığılmaz
+        assertEquals(100.0, result.getSmellScores().get("Large Class"));
+        assertEquals(100.0, result.getSmellScores().get("Data Clumps"));
+        List<TypeSmellReport> types = result.getTypes();
+        assertEquals(6, types.size());
+        assertEquals("Part0", types.get(0).name());
+        assertEquals(4, types.get(0).methods().size());
+        assertEquals(100.0, types.get(0).overallScore());
+
+        TypeSmellReport router = types.get(5);
+        assertEquals("Router", router.name());
+        MethodSmellReport route = router.methods().get(0);
+        assertEquals("route", route.name());
+        assertEquals(4, route.parameterCount());
+        assertEquals(3, route.complexity());
+        assertEquals(1, route.switchCount());
+        assertEquals(List.of("Method route at line 52 has 4 parameters (recommended: max 3)"), route.issues());
+        assertEquals(85.0, router.smellScores().get("Long Parameter List"));
+
+        assertEquals(types, analyzer.analyzeTypes(sourceCode.toString()).toList());
+        assertEquals(AnalysisMode.AST, result.getAnalysisMode());
+        CodeAnalysisResult regex = analyzer.analyzeCode(sourceCode.toString());
+        assertNull(regex.getTypes());
+        assertEquals(AnalysisMode.REGEX, regex.getAnalysisMode());
+        assertThrows(IllegalArgumentException.class, () -> analyzer.analyzeTypes("void broken( {"));
+
+        // Ayrıştırılamayan kaynakta AST isteği regex kontrolleriyle yanıtlanır ve bu sonuçta görünür
+        CodeAnalysisResult fallback = analyzer.analyzeCode("void broken( {", AnalysisMode.AST, ExecutionMode.SEQUENTIAL);
+        assertEquals(AnalysisMode.REGEX, fallback.getAnalysisMode());
+        assertNull(fallback.getTypes());
+    }
+
+    @Test
+    void testStrictProfileAppliesItsThresholdsAndWeights() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            body.append("        total += ").append(i).append(";\n");
+        }
+        String sourceCode = """
+            public class Totals {
+                public int sum(int total) {
+            %s        return total;
+                }
+            }
+            """.formatted(body);
+
+        CodeAnalysisResult standard = analyzer.analyzeCode(sourceCode, AnalysisMode.AST, ExecutionMode.SEQUENTIAL, SmellProfile.DEFAULT);
+        CodeAnalysisResult strict = analyzer.analyzeCode(sourceCode, AnalysisMode.AST, ExecutionMode.SEQUENTIAL, SmellProfile.STRICT);
+
+        // 17 satırlık gövde varsayılan sınırın (20) altında, katı sınırın (15) üstünde
+        assertEquals(100.0, standard.getSmellScores().get("Long Methods"));
+        assertEquals(0.0, strict.getSmellScores().get("Long Methods"));
+        assertEquals(List.of("Method sum at line 2 with 17 lines found"), strict.getSmellDetails().get("Long Methods"));
+
+        // Katı profilde Long Methods 1.5, Cyclomatic Complexity 2, Duplicate Code 1.5 ağırlıklı; diğerleri 1
+        double weighted = 0.0;
+        for (SmellCheck check : SmellCheck.values()) {
+            weighted += SmellProfile.STRICT.weight(check) * strict.getSmellScores().get(check.displayName());
+        }
+        assertEquals(weighted / 10.0, strict.getOverallScore(), 1e-9);
+        assertEquals(strict, analyzer.analyzeCode(sourceCode, AnalysisMode.AST, ExecutionMode.PARALLEL, SmellProfile.STRICT));
+    }
+
+    @Test
+    void testDuplicateCodeReportsRenamedClonesButNotBoilerplate() {
+        String sourceCode = """
+            package demo;
+
+            import java.util.List;
+
+            public class Orders {
+                public String id() { String result = "o"; return result; }
+                public String tag() { String result = "t"; return result; }
+
+                public double total(List<Double> prices) {
+                    double sum = 0;
+                    for (Double price : prices) {
+                        if (price != null && price > 0) { sum += price * 1.2; }
+                    }
+                    return Math.round(sum * 100) / 100.0;
+                }
+
+                public double refund(List<Double> amounts) {
+                    double value = 0;
+                    for (Double amount : amounts) {
+                        if (amount != null && amount > 0) { value += amount * 1.2; }
+                    }
+                    return Math.round(value * 100) / 100.0;
+                }
+            }
+            """;
+
+        CodeAnalysisResult result = analyzer.analyzeCode(sourceCode);
+
+        // Kısa getter'lardaki ortak "return result;" kopya sayılmaz; adları değiştirilmiş metod gövdesi sayılır
+        List<String> duplicates = result.getSmellDetails().get("Duplicate Code");
+        assertEquals(1, duplicates.size());
+        assertTrue(duplicates.get(0).startsWith("Lines 9-15 duplicated at lines 17-23"), duplicates.get(0));
+        assertEquals(90.0, result.getSmellScores().get("Duplicate Code"));
+        assertEquals(duplicates, analyzer.analyzeCode(sourceCode, AnalysisMode.REGEX, ExecutionMode.SEQUENTIAL)
+            .getSmellDetails().get("Duplicate Code"));
+    }
+
+    @Test
+    void testAccessorOnlyClassHasNoDuplicateCode() {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder getters = new StringBuilder();
+        StringBuilder setters = new StringBuilder();
+        for (String name : List.of("id", "name", "email", "phone", "street", "city", "zip", "country")) {
+            String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            fields.append("    private String ").append(name).append(";\n");
+            getters.append("    public String get").append(property).append("() { return ").append(name).append("; }\n");
+            setters.append("    public void set").append(property).append("(String value) { this.").append(name)
+                .append(" = value; }\n");
+        }
+
+        // Alan ve metod adları kimliğini korur; yalnızca farklı alanlara erişen getter/setter'lar kopya değildir
+        for (String sourceCode : List.of(
+                "public class Customer {\n" + fields + getters + "}\n",
+                "public class Customer {\n" + fields + getters + setters + "}\n")) {
+            CodeAnalysisResult result = analyzer.analyzeCode(sourceCode);
+            assertEquals(List.of(), result.getSmellDetails().get("Duplicate Code"));
+            assertEquals(100.0, result.getSmellScores().get("Duplicate Code"));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.model.security.TextEdit;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import com.codeinspector.backend.utils.security.SecurityAnalysisSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalSecurityAnalysisTest {
+
+    private final AdvancedSecurityAnalyzer analyzer = new AdvancedSecurityAnalyzer();
+
+    private final String code = """
+            public class Dao {
+                public void run(String id) throws Exception {
+                    stmt.executeQuery("SELECT * FROM t WHERE id = " + id);
+                    System.out.println(id);
+                }
+
+                public void read(String path) {
+                    if (path == null) {
+                        return;
+                    }
+                    new FileInputStream(path);
+                }
+
+                public void log(String user) {
+                    logger.info("user " + user);
+                }
+            }
+            """;
+
+    private void assertMatchesFullScan(SecurityAnalysisSnapshot snapshot) {
+        assertEquals(analyzer.analyzeCode(snapshot.sourceCode()).vulnerabilities(), snapshot.result().vulnerabilities());
+    }
+
+    @Test
+    void testEditsRescanOnlyTheEditedWindow() {
+        SecurityAnalysisSnapshot snapshot = analyzer.analyzeForEditing(code, AnalysisOptions.DEFAULT);
+        assertTrue(snapshot.fullScan());
+
+        // Satır ekleme
+        int insertAt = code.indexOf("    public void log");
+        SecurityAnalysisSnapshot inserted = analyzer.reanalyze(snapshot,
+            List.of(new TextEdit(insertAt, insertAt, "    private String password = \"secret\";\n")));
+        assertFalse(inserted.fullScan());
+        assertTrue(inserted.rescannedLines() < inserted.lineIndex().lineCount() / 2);
+        assertTrue(inserted.result().vulnerabilities().containsKey("SENSITIVE_DATA"));
+        assertMatchesFullScan(inserted);
+
+        // Satır silme: sonraki bulguların satır numaraları kayar
+        String source = inserted.sourceCode();
+        int lineStart = source.indexOf("        System.out.println(id);");
+        SecurityAnalysisSnapshot deleted = analyzer.reanalyze(inserted,
+            List.of(new TextEdit(lineStart, source.indexOf('\n', lineStart) + 1, "")));
+        assertFalse(deleted.result().vulnerabilities().containsKey("UNSAFE_LOGGING"));
+        assertMatchesFullScan(deleted);
+
+        // Satır içi düzenleme
+        source = deleted.sourceCode();
+        int concat = source.indexOf("\" + id");
+        SecurityAnalysisSnapshot edited = analyzer.reanalyze(deleted,
+            List.of(new TextEdit(concat, concat + "\" + id".length(), "?\", id")));
+        assertFalse(edited.result().vulnerabilities().containsKey("SQL_INJECTION"));
+        assertMatchesFullScan(edited);
+    }
+
+    @Test
+    void testMatchReadingAcrossLinesIsRescanned() {
+        // [^?]* eşleşmeyi dosya sonuna kadar genişletebilir; sondaki düzenleme baştaki eşleşmeyi etkiler
+        String source = "class A {\n  void q() { stmt.executeQuery(sql +\n" + "  int x;\n".repeat(40) + "}\n";
+        SecurityAnalysisSnapshot snapshot = analyzer.analyzeForEditing(source, AnalysisOptions.DEFAULT);
+
+        int end = source.length() - 2;
+        SecurityAnalysisSnapshot edited = analyzer.reanalyze(snapshot, List.of(new TextEdit(end, end, "  int y = a + b;\n")));
+
+        assertFalse(edited.fullScan());
+        assertTrue(edited.result().vulnerabilities().get("INJECTION").get(0).vulnerableCode().endsWith("a +"));
+        assertMatchesFullScan(edited);
+    }
+
+    @Test
+    void testInvalidEditIsRejected() {
+        SecurityAnalysisSnapshot snapshot = analyzer.analyzeForEditing(code, AnalysisOptions.DEFAULT);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> analyzer.reanalyze(snapshot, List.of(new TextEdit(10, code.length() + 1, ""))));
+        assertThrows(IllegalArgumentException.class,
+            () -> analyzer.reanalyze(snapshot, List.of(new TextEdit(5, 2, "x"))));
+    }
+
+    @Test
+    void testRandomEditsMatchFullScan() {
+        // Eşleşme oluşturan/bozan parçalar; [^?]* gibi satır aşan pattern'ler de tetiklenir
+        List<String> fragments = List.of(
+            "\n", "\n    ", " + id", "\" + ", "?", ")", "}\n", "stmt.executeQuery(sql", "executeUpdate(\"DELETE \" + x);\n",
+            "System.out.println(id);\n", "password = \"hunter2\";\n", "if (value == null) {\n", "logger.info(\"a\" + b);\n",
+            "new Random()", "Math.random", "MD5", "DES", "\"SELECT * FROM t WHERE a = \" + a + \"\"", "jdbc:", "@PermitAll\n"
+        );
+        Random random = new Random(20240611L);
+        SecurityAnalysisSnapshot snapshot = analyzer.analyzeForEditing(code.repeat(3), AnalysisOptions.DEFAULT);
+        int partial = 0;
+
+        for (int i = 0; i < 300; i++) {
+            String source = snapshot.sourceCode();
+            int start = random.nextInt(source.length() + 1);
+            int end = Math.min(source.length(), start + (random.nextInt(3) == 0 ? random.nextInt(40) : 0));
+            String text = random.nextInt(4) == 0 ? "" : fragments.get(random.nextInt(fragments.size()));
+            if (start == end && text.isEmpty()) {
+                text = "x";
+            }
+
+            snapshot = analyzer.reanalyze(snapshot, List.of(new TextEdit(start, end, text)));
+            assertMatchesFullScan(snapshot);
+            if (!snapshot.fullScan()) {
+                partial++;
+            }
+        }
+        assertTrue(partial > 200, "partial re-scans: " + partial);
+    }
+}
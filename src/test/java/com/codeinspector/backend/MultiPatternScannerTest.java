@@ -0,0 +1,120 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.VulnerabilityPattern;
+import com.codeinspector.backend.utils.security.BudgetExceededException;
+import com.codeinspector.backend.utils.security.MultiPatternScanner;
+import com.codeinspector.backend.utils.security.ScanBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiPatternScannerTest {
+
+    private final String code = """
+            import java.util.Random;
+            import javax.crypto.Cipher;
+
+            public class UserDao {
+                private String password = "secret123";
+                private String apiKey = "abc";
+
+                public void find(String name) throws Exception {
+                    ResultSet rs = stmt.executeQuery("SELECT * FROM users WHERE name = '" + name + "'");
+                    if (name == null) { return; }
+                    if (rs != null) { System.out.println("found " + name); }
+                    Cipher c = Cipher.getInstance("DES/ECB/PKCS5Padding");
+                    Cipher d = Cipher.getInstance("TripleDES");
+                    int r = new Random().nextInt();
+                    logger.info("user " + name);
+                }
+            }
+            """;
+
+    private Map<String, VulnerabilityPattern> patterns() {
+        Map<String, VulnerabilityPattern> patterns = new LinkedHashMap<>();
+        patterns.put("SQL_INJECTION", pattern("(executeQuery|executeUpdate)\\s*\\([^?]*\\+|\"SELECT.*WHERE.*\\+.*\\\"",
+            List.of("executeQuery", "executeUpdate", "\"SELECT"), 0));
+        patterns.put("SENSITIVE_DATA", pattern("(password|secret|key|token|credential)\\s*=\\s*\"[^\"]*\"",
+            List.of("password", "secret", "key", "token", "credential"), 0));
+        patterns.put("NULL_CHECK", pattern("if\\s*\\([^=]*==\\s*null\\)|if\\s*\\([^=]*!=\\s*null\\)",
+            List.of("if"), 0));
+        patterns.put("WEAK_CRYPTO", pattern("DES|RC2|RC4|Blowfish|ECB|([^S]|^)DES",
+            List.of("DES", "RC2", "RC4", "Blowfish", "ECB"), 1));
+        patterns.put("INSECURE_RANDOM", pattern("Math\\.random|Random\\(\\)|java\\.util\\.Random",
+            List.of("Math.random", "Random()", "java.util.Random"), 0));
+        patterns.put("LOG_INJECTION", pattern("logger\\.(info|error|debug)\\(.*\\+.*\\)",
+            List.of("logger."), 0));
+        patterns.put("UNANCHORED", new VulnerabilityPattern(
+            Pattern.compile("Cipher\\.\\w+"), RiskLevel.LOW, "unanchored", "none"));
+        return patterns;
+    }
+
+    private VulnerabilityPattern pattern(String regex, List<String> anchors, int lead) {
+        return new VulnerabilityPattern(Pattern.compile(regex), RiskLevel.HIGH, "desc", "rec", anchors, lead);
+    }
+
+    @Test
+    void testMatchesSameAsIndividualMatchers() {
+        Map<String, VulnerabilityPattern> patterns = patterns();
+        MultiPatternScanner scanner = new MultiPatternScanner(patterns);
+
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        patterns.forEach((type, pattern) -> {
+            Matcher matcher = pattern.pattern().matcher(code);
+            while (matcher.find()) {
+                expected.computeIfAbsent(type, k -> new ArrayList<>())
+                    .add(matcher.start() + ":" + matcher.group());
+            }
+        });
+
+        Map<String, List<String>> actual = new LinkedHashMap<>();
+        scanner.scan(code, (type, pattern, start, end) ->
+            actual.computeIfAbsent(type, k -> new ArrayList<>()).add(start + ":" + code.substring(start, end)));
+
+        assertEquals(expected, actual);
+        assertTrue(actual.containsKey("WEAK_CRYPTO"));
+        assertTrue(actual.containsKey("UNANCHORED"));
+    }
+
+    @Test
+    void testNoCandidatesNoMatches() {
+        MultiPatternScanner scanner = new MultiPatternScanner(patterns());
+        List<String> matches = new ArrayList<>();
+        scanner.scan("public class Empty {}", (type, pattern, start, end) -> matches.add(type));
+        assertTrue(matches.isEmpty());
+    }
+
+    @Test
+    void testStepBudgetTruncatesCatastrophicPattern() {
+        Map<String, VulnerabilityPattern> patterns = new LinkedHashMap<>();
+        patterns.put("BACKTRACKING", pattern("(a*)*\\1b", List.of("a"), 0));
+        patterns.put("INSECURE_RANDOM", pattern("Random\\(\\)", List.of("Random()"), 0));
+        MultiPatternScanner scanner = new MultiPatternScanner(patterns);
+        String source = "new Random(); " + "a".repeat(64);
+
+        List<String> matches = new ArrayList<>();
+        List<BudgetExceededException.Reason> truncations = new ArrayList<>();
+        scanner.scan(source, new ScanBudget(100_000, 0), new MultiPatternScanner.MatchHandler() {
+            @Override
+            public void onMatch(String type, VulnerabilityPattern pattern, int start, int end) {
+                matches.add(type);
+            }
+
+            @Override
+            public void onTruncated(String type, VulnerabilityPattern pattern, int offset, BudgetExceededException.Reason reason) {
+                truncations.add(reason);
+            }
+        });
+
+        assertEquals(List.of(BudgetExceededException.Reason.STEP_BUDGET), truncations);
+        assertEquals(List.of("INSECURE_RANDOM"), matches);
+    }
+}
@@ -0,0 +1,147 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.dto.MetricDistribution;
+import com.codeinspector.backend.dto.PackageMetrics;
+import com.codeinspector.backend.dto.ProjectMetricsResult;
+import com.codeinspector.backend.dto.ProjectSourceFile;
+import com.codeinspector.backend.service.ProjectMetricsService;
+import com.codeinspector.backend.utils.metrics.QuantileSketch;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectMetricsAnalysisTest {
+
+    private final Map<String, String> project = new TreeMap<>(Map.of(
+        "src/app/Main.java", """
+            package app;
+
+            public class Main {
+                public static void main(String[] args) {
+                    for (String arg : args) {
+                        if (arg.isEmpty() || arg.startsWith("-")) {
+                            continue;
+                        }
+                        System.out.println(arg);
+                    }
+                }
+            }
+            """,
+        "src/app/Config.java", """
+            package app;
+
+            public class Config {
+                private String name;
+
+                public String name() {
+                    return name;
+                }
+            }
+            """,
+        "src/app/util/Router.java", """
+            package app.util;
+
+            public class Router {
+                public int route(int code, int a, int b) {
+                    switch (code) {
+                        case 1: return a;
+                        case 2: return b;
+                        default: return 0;
+                    }
+                }
+            }
+            """
+    ));
+
+    @Test
+    void testSketchQuantilesStayWithinErrorBound() {
+        Random random = new Random(42);
+        int[] values = new int[100_000];
+        QuantileSketch whole = new QuantileSketch();
+        QuantileSketch[] parts = new QuantileSketch[4];
+        Arrays.setAll(parts, i -> new QuantileSketch());
+        for (int i = 0; i < values.length; i++) {
+            // Uzun kuyruklu dağılım: çoğu küçük, bir kısmı çok büyük
+            values[i] = (int) Math.min(Integer.MAX_VALUE, Math.exp(random.nextDouble() * 16));
+            whole.add(values[i]);
+            parts[i % parts.length].add(values[i]);
+        }
+        QuantileSketch merged = new QuantileSketch();
+        for (int i = parts.length - 1; i >= 0; i--) {
+            merged.merge(parts[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[] {0.0, 0.01, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+            int exact = values[Math.max(0, (int) Math.ceil(q * values.length) - 1)];
+            int estimate = whole.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= exact / 64.0, "q=" + q + " exact=" + exact + " estimate=" + estimate);
+            assertEquals(estimate, merged.quantile(q));
+        }
+        assertEquals(whole.distribution(), merged.distribution());
+        assertEquals(values[0], whole.distribution().min());
+        assertEquals(values[values.length - 1], whole.distribution().max());
+
+        QuantileSketch small = new QuantileSketch();
+        List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).forEach(small::add);
+        assertEquals(new MetricDistribution(10, 5.5, 1, 5, 9, 10, 10), small.distribution());
+        assertThrows(IllegalArgumentException.class, () -> small.add(-1));
+    }
+
+    @Test
+    void testBatchAggregatesDistributionsPerPackage() throws IOException {
+        ProjectMetricsService service = new ProjectMetricsService(10, 1 << 20);
+        ProjectMetricsResult archive = service.analyzeArchive(new ByteArrayInputStream(zip(project)));
+
+        assertEquals(3, archive.fileCount());
+        assertEquals(List.of("app", "app.util"), List.copyOf(archive.packages().keySet()));
+        assertTrue(archive.filesPerSecond() > 0);
+
+        // app: main (for + if + ||) ve name(); app.util: route (iki case)
+        PackageMetrics app = archive.packages().get("app");
+        assertEquals(2, app.fileCount());
+        assertEquals(2, app.methodComplexity().count());
+        assertEquals(1, app.methodComplexity().min());
+        assertEquals(4, app.methodComplexity().max());
+        assertEquals(3, archive.packages().get("app.util").methodComplexity().p50());
+        assertEquals(3, archive.project().methodComplexity().count());
+        assertEquals(3, archive.project().fileLoc().count());
+        assertEquals(4, archive.project().methodComplexity().p99());
+
+        List<ProjectSourceFile> files = project.entrySet().stream()
+            .map(file -> new ProjectSourceFile(file.getKey(), file.getValue()))
+            .toList();
+        ProjectMetricsResult json = service.analyzeFiles(files);
+        assertEquals(archive.project(), json.project());
+        assertEquals(archive.packages(), json.packages());
+
+        ProjectMetricsResult limited = new ProjectMetricsService(10, 200).analyzeFiles(files);
+        assertEquals(List.of("src/app/Main.java", "src/app/util/Router.java"), limited.skippedFiles());
+        assertEquals(1, limited.fileCount());
+        assertThrows(IllegalArgumentException.class, () -> new ProjectMetricsService(2, 1 << 20).analyzeFiles(files));
+    }
+
+    private static byte[] zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.dto.ProjectSecurityResult;
+import com.codeinspector.backend.dto.ProjectSourceFile;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.TaintFinding;
+import com.codeinspector.backend.service.ProjectSecurityService;
+import com.codeinspector.backend.service.SecurityResultCache;
+import com.codeinspector.backend.service.SecurityService;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectSecurityScanTest {
+
+    private final ProjectSecurityService service = new ProjectSecurityService(
+        new SecurityService(new AdvancedSecurityAnalyzer(), new SecurityResultCache(0, "", 0)), 10, 1 << 20);
+
+    private final List<ProjectSourceFile> project = List.of(
+        new ProjectSourceFile("web/UserController.java", """
+                @RestController
+                public class UserController {
+                    private final UserService service;
+
+                    @GetMapping("/users")
+                    public String find(@RequestParam String name, HttpServletRequest request) {
+                        int page = Integer.parseInt(request.getParameter("page"));
+                        service.page(page);
+                        return service.find(name.trim());
+                    }
+                }
+                """),
+        new ProjectSourceFile("service/UserService.java", """
+                public class UserService {
+                    private UserRepository repository;
+
+                    public String find(String name) {
+                        return repository.load(name.toLowerCase());
+                    }
+
+                    public void page(int page) {
+                        repository.run("SELECT * FROM users LIMIT " + page);
+                    }
+                }
+                """),
+        new ProjectSourceFile("data/UserRepository.java", """
+                public interface UserRepository {
+                    String load(String name);
+                    void run(String sql);
+                }
+                """),
+        new ProjectSourceFile("data/JdbcUserRepository.java", """
+                public class JdbcUserRepository implements UserRepository {
+                    private Statement statement;
+
+                    public String load(String name) {
+                        String sql = "SELECT * FROM users WHERE name = '" + name + "'";
+                        return statement.executeQuery(sql).getString(1);
+                    }
+
+                    public void run(String sql) {
+                        statement.execute(sql);
+                    }
+                }
+                """)
+    );
+
+    @Test
+    void testRequestParameterIsTrackedIntoRepositoryInAnotherFile() {
+        ProjectSecurityResult result = service.analyzeFiles(project, AnalysisMode.REGEX);
+
+        // Sayıya çevrilen page parametresi run() sink'ine ulaşsa da bulgu üretmez
+        assertEquals(1, result.taintFindings().size());
+        TaintFinding finding = result.taintFindings().get(0);
+        assertEquals("SQL_INJECTION", finding.type());
+        assertEquals(RiskLevel.CRITICAL, finding.riskLevel());
+        assertEquals("@RequestParam name", finding.source());
+        assertEquals("web/UserController.java", finding.sourceFile());
+        assertEquals("data/JdbcUserRepository.java", finding.sinkFile());
+        assertEquals(6, finding.sinkLine());
+        assertEquals(List.of(
+            "UserController.find (web/UserController.java:9)",
+            "UserService.find (service/UserService.java:5)",
+            "JdbcUserRepository.load (data/JdbcUserRepository.java:6)"
+        ), finding.trace());
+
+        assertEquals(4, result.fileCount());
+        assertEquals(7, result.methodCount());
+        assertEquals(4, result.files().size());
+        assertNull(result.files().get("data/JdbcUserRepository.java").securityReport());
+    }
+
+    @Test
+    void testZipArchiveGivesSameFindings() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (ProjectSourceFile file : project) {
+                zip.putNextEntry(new ZipEntry(file.path()));
+                zip.write(file.content().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry("README.md"));
+            zip.write("ignored".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        ProjectSecurityResult result = service.analyzeArchive(new ByteArrayInputStream(bytes.toByteArray()), AnalysisMode.REGEX);
+
+        assertEquals(4, result.fileCount());
+        assertEquals(service.analyzeFiles(project, AnalysisMode.REGEX).taintFindings(), result.taintFindings());
+    }
+
+    @Test
+    void testFileLimitIsEnforced() {
+        List<ProjectSourceFile> files = java.util.stream.IntStream.range(0, 11)
+            .mapToObj(i -> new ProjectSourceFile("A" + i + ".java", "class A" + i + " {}"))
+            .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> service.analyzeFiles(files, AnalysisMode.REGEX));
+    }
+}
@@ -0,0 +1,143 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.dto.CodeAnalysisResult;
+import com.codeinspector.backend.dto.ProjectSmellResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.analysis.ExecutionMode;
+import com.codeinspector.backend.service.ProjectSmellService;
+import com.codeinspector.backend.utils.CodeSmellAnalyzer;
+import com.codeinspector.backend.utils.smell.SmellProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectSmellAnalysisTest {
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path outside;
+
+    private final CodeSmellAnalyzer analyzer = new CodeSmellAnalyzer();
+
+    private final Map<String, String> project = Map.of(
+        "src/app/Main.java", """
+            package app;
+
+            public class Main {
+                public static void main(String[] args) {
+                    System.out.println(new Config().name());
+                }
+            }
+            """,
+        "src/app/Config.java", """
+            package app;
+
+            public class Config {
+                private String name;
+                private String host;
+                private String user;
+                private String password;
+                private String region;
+                private String zone;
+                private String bucket;
+
+                public String name() { return name; }
+            }
+            """,
+        "src/app/util/Router.java", """
+            package app.util;
+
+            public class Router {
+                public int route(int code, int a, int b, int c) {
+                    switch (code) { case 1: return a; case 2: return b; default: return c; }
+                }
+            }
+            """
+    );
+
+    @Test
+    void testArchiveIsAggregatedPerPackage() throws IOException {
+        ProjectSmellService service = new ProjectSmellService(analyzer, 10, 1 << 20, "");
+        ProjectSmellResult result = service.analyzeArchive(new ByteArrayInputStream(zip(project)), AnalysisMode.AST, SmellProfile.DEFAULT);
+
+        assertEquals(3, result.fileCount());
+        assertEquals(List.of("app", "app.util"), List.copyOf(result.packages().keySet()));
+        assertTrue(result.filesPerSecond() > 0);
+
+        // Paket skoru dosyaların ortalaması, proje skoru tüm dosyaların ortalaması
+        double main = analyzer.analyzeCode(project.get("src/app/Main.java"), AnalysisMode.AST, ExecutionMode.SEQUENTIAL).getOverallScore();
+        double config = analyzer.analyzeCode(project.get("src/app/Config.java"), AnalysisMode.AST, ExecutionMode.SEQUENTIAL).getOverallScore();
+        double router = analyzer.analyzeCode(project.get("src/app/util/Router.java"), AnalysisMode.AST, ExecutionMode.SEQUENTIAL).getOverallScore();
+        assertEquals((main + config) / 2, result.packages().get("app").getOverallScore(), 1e-9);
+        assertEquals((main + config + router) / 3, result.project().getOverallScore(), 1e-9);
+        assertEquals(config, result.fileScores().get("src/app/Config.java"));
+
+        CodeAnalysisResult app = result.packages().get("app");
+        assertEquals(List.of("src/app/Config.java (90.0)"), app.getSmellDetails().get("Data Clumps"));
+        assertEquals(List.of("app.util (85.0)"), result.project().getSmellDetails().get("Long Parameter List"));
+    }
+
+    @Test
+    void testDirectoryMatchesArchiveAndStaysUnderRoot() throws IOException {
+        for (Map.Entry<String, String> file : project.entrySet()) {
+            Path path = root.resolve("module").resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file.getValue());
+        }
+        Files.writeString(root.resolve("module/README.md"), "ignored");
+        ProjectSmellService service = new ProjectSmellService(analyzer, 10, 1 << 20, root.toString());
+
+        ProjectSmellResult directory = service.analyzeDirectory("module", AnalysisMode.AST, SmellProfile.DEFAULT);
+        ProjectSmellResult archive = service.analyzeArchive(new ByteArrayInputStream(zip(project)), AnalysisMode.AST, SmellProfile.DEFAULT);
+
+        assertEquals(archive.project(), directory.project());
+        assertEquals(archive.packages(), directory.packages());
+        assertEquals(archive.fileScores(), directory.fileScores());
+        assertThrows(IllegalArgumentException.class, () -> service.analyzeDirectory("../", AnalysisMode.AST, SmellProfile.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> new ProjectSmellService(analyzer, 2, 1 << 20, root.toString())
+            .analyzeDirectory("module", AnalysisMode.AST, SmellProfile.DEFAULT));
+    }
+
+    @Test
+    void testDirectoryDoesNotFollowSymlinksOutOfRoot() throws IOException {
+        Files.writeString(outside.resolve("Secret.java"), "class Secret { }");
+        Path module = Files.createDirectories(root.resolve("module"));
+        Files.writeString(module.resolve("Main.java"), project.get("src/app/Main.java"));
+        Files.createSymbolicLink(module.resolve("linked"), outside);
+        Files.createSymbolicLink(module.resolve("Linked.java"), outside.resolve("Secret.java"));
+        Files.createSymbolicLink(root.resolve("escape"), outside);
+        ProjectSmellService service = new ProjectSmellService(analyzer, 10, 1 << 20, root.toString());
+
+        // Kök altındaki bir bağ üzerinden kök dışına çıkılamaz; taranan dizindeki bağlar izlenmez
+        assertThrows(IllegalArgumentException.class, () -> service.analyzeDirectory("escape", AnalysisMode.REGEX, SmellProfile.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> service.analyzeDirectory("module/linked", AnalysisMode.REGEX, SmellProfile.DEFAULT));
+        ProjectSmellResult result = service.analyzeDirectory("module", AnalysisMode.REGEX, SmellProfile.DEFAULT);
+        assertEquals(List.of("Main.java"), List.copyOf(result.fileScores().keySet()));
+    }
+
+    private static byte[] zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
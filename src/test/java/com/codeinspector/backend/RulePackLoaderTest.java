@@ -0,0 +1,159 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.security.RulePackReport;
+import com.codeinspector.backend.model.security.SecurityIssue;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import com.codeinspector.backend.utils.security.RulePackException;
+import com.codeinspector.backend.utils.security.RulePackLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RulePackLoaderTest {
+
+    private final AdvancedSecurityAnalyzer analyzer = new AdvancedSecurityAnalyzer();
+    private final RulePackLoader loader = new RulePackLoader();
+
+    private final String code = """
+            public class Client {
+                private static final String HOST = "10.0.0.12";
+
+                public void fail(Exception e) {
+                    e.printStackTrace();
+                }
+            }
+            """;
+
+    @Test
+    void testYamlAndJsonPacksAreApplied(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve("network.yml"), """
+                name: network
+                patterns:
+                  - id: HARDCODED_IP
+                    regex: '"\\d{1,3}(\\.\\d{1,3}){3}"'
+                    risk: MEDIUM
+                    description: Hard-coded IP address
+                    recommendation: Move addresses to configuration
+                """);
+        Files.writeString(dir.resolve("errors.json"), """
+                {"name": "errors", "rules": [{
+                  "id": "PRINT_STACK_TRACE", "lineRegex": "\\\\.printStackTrace\\\\(", "risk": "LOW",
+                  "description": "Stack trace printed to stderr", "recommendation": "Log the exception instead"
+                }]}
+                """);
+
+        String builtinVersion = analyzer.getRuleSetVersion();
+        assertNull(analyzer.analyzeCode(code).vulnerabilities().get("HARDCODED_IP"));
+
+        RulePackReport report = analyzer.applyRulePacks(loader.load(dir));
+        SecurityAnalysisResult result = analyzer.analyzeCode(code);
+
+        assertEquals(List.of("errors", "network"), report.packs());
+        assertNotEquals(builtinVersion, report.version());
+        assertEquals(report.version(), analyzer.getRuleSetVersion());
+        assertTrue(report.ruleCosts().stream().anyMatch(cost -> cost.ruleId().equals("HARDCODED_IP")));
+        assertEquals(List.of(2), result.vulnerabilities().get("HARDCODED_IP").stream().map(SecurityIssue::lineNumber).toList());
+        assertEquals(List.of(5), result.vulnerabilities().get("PRINT_STACK_TRACE").stream().map(SecurityIssue::lineNumber).toList());
+    }
+
+    @Test
+    void testInvalidPackIsRejected(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve("broken.yaml"), """
+                patterns:
+                  - id: BROKEN
+                    regex: '(unclosed'
+                    risk: HIGH
+                    description: Broken
+                    recommendation: Fix it
+                """);
+        String version = analyzer.getRuleSetVersion();
+
+        RulePackException error = assertThrows(RulePackException.class, () -> analyzer.applyRulePacks(loader.load(dir)));
+
+        assertTrue(error.getMessage().startsWith("broken.yaml: BROKEN: invalid regex"));
+        assertEquals(version, analyzer.getRuleSetVersion());
+    }
+
+    @Test
+    void testAnchorsMustOccurInRegex(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve("stack.yaml"), """
+                patterns:
+                  - id: PRINT_STACK_TRACE
+                    regex: '\\.printStackTrace\\(\\)'
+                    anchors: ['.printStackTrace(']
+                    risk: LOW
+                    description: Stack trace printed to stderr
+                    recommendation: Log the exception instead
+                """);
+        analyzer.applyRulePacks(loader.load(dir));
+        assertEquals(List.of(5), analyzer.analyzeCode(code).vulnerabilities().get("PRINT_STACK_TRACE").stream()
+            .map(SecurityIssue::lineNumber).toList());
+
+        String version = analyzer.getRuleSetVersion();
+        for (String anchors : List.of("['printStackTrce']", "['printStackTrace', 'printStackTrace']", "['']")) {
+            Files.writeString(dir.resolve("stack.yaml"), """
+                    patterns:
+                      - id: PRINT_STACK_TRACE
+                        regex: '\\.printStackTrace\\(\\)'
+                        anchors: %s
+                        risk: LOW
+                        description: Stack trace printed to stderr
+                        recommendation: Log the exception instead
+                    """.formatted(anchors));
+            assertThrows(RulePackException.class, () -> analyzer.applyRulePacks(loader.load(dir)), anchors);
+        }
+        Files.writeString(dir.resolve("stack.yaml"), """
+                patterns:
+                  - id: PRINT_STACK_TRACE
+                    regex: '(?i)printStackTrace'
+                    anchors: ['printStackTrace']
+                    risk: LOW
+                    description: Stack trace printed to stderr
+                    recommendation: Log the exception instead
+                """);
+        RulePackException error = assertThrows(RulePackException.class, () -> loader.load(dir));
+        assertTrue(error.getMessage().endsWith("anchors cannot be used with a case-insensitive regex"));
+        assertEquals(version, analyzer.getRuleSetVersion());
+    }
+
+    @Test
+    void testAnchorsMustCoverEveryAlternative(@TempDir Path dir) throws IOException {
+        String pack = """
+                patterns:
+                  - id: WEAK_DIGEST
+                    regex: '%s'
+                    anchors: %s
+                    anchorLead: 16
+                    risk: MEDIUM
+                    description: Weak digest algorithm
+                    recommendation: Use SHA-256 or stronger
+                """;
+        // 'SHA1' dalı hiçbir anchor içermez; yalnız 'MD5' ile ön filtre bu eşleşmeleri sessizce kaçırırdı
+        for (String[] invalid : List.of(
+                new String[] {"getInstance\\(\"(MD5|SHA1)\"\\)", "['MD5']"},
+                new String[] {"MD5|SHA1", "['MD5']"},
+                new String[] {"(?:MD5)?Digest", "['MD5']"},
+                new String[] {"(?=MD5)[A-Z0-9]+", "['MD5']"})) {
+            Files.writeString(dir.resolve("digest.yaml"), pack.formatted(invalid[0], invalid[1]));
+            RulePackException error = assertThrows(RulePackException.class, () -> loader.load(dir), invalid[0]);
+            assertTrue(error.getMessage().endsWith("anchors must cover every alternative of the regex"), error.getMessage());
+        }
+
+        for (String[] valid : List.of(
+                new String[] {"(?:Message)?Digest(MD5|(?<sha>SHA1))", "['MD5', 'SHA1']"},
+                new String[] {"getInstance\\(\"(MD5|SHA1)\"\\)", "['getInstance(']"},
+                new String[] {"getInstance\\(\"(MD5|SHA1)\"\\)", "['MD5', 'SHA1']"})) {
+            Files.writeString(dir.resolve("digest.yaml"), pack.formatted(valid[0], valid[1]));
+            analyzer.applyRulePacks(loader.load(dir));
+        }
+        String digest = "MessageDigest md = MessageDigest.getInstance(\"SHA1\");";
+        assertEquals(1, analyzer.analyzeCode(digest).vulnerabilities().get("WEAK_DIGEST").size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.codeinspector.backend;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.model.security.AnalysisOptions;
+import com.codeinspector.backend.service.SecurityResultCache;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SecurityResultCacheTest {
+
+    private final AdvancedSecurityAnalyzer analyzer = new AdvancedSecurityAnalyzer();
+    private final AtomicInteger analyses = new AtomicInteger();
+
+    private final String code = """
+            public class Dao {
+                public void run(String id) throws Exception {
+                    stmt.executeQuery("SELECT * FROM t WHERE id = " + id);
+                    System.out.println(id);
+                }
+            }
+            """;
+
+    private SecurityAnalysisResult analyze(SecurityResultCache cache, String source, AnalysisOptions options) {
+        return cache.getOrAnalyze(source, options, analyzer.getRuleSetVersion(), () -> {
+            analyses.incrementAndGet();
+            return analyzer.analyzeCode(source, options);
+        });
+    }
+
+    @Test
+    void testRepeatedScanIsServedFromMemory() {
+        SecurityResultCache cache = new SecurityResultCache(10, "", 10);
+
+        SecurityAnalysisResult first = analyze(cache, code, AnalysisOptions.DEFAULT);
+        SecurityAnalysisResult second = analyze(cache, code, AnalysisOptions.DEFAULT);
+        analyze(cache, code, new AnalysisOptions(AnalysisMode.AST, null));
+
+        assertSame(first, second);
+        assertEquals(2, analyses.get());
+        assertEquals(1L, cache.snapshot().get("cache.hit"));
+        assertEquals(2L, cache.snapshot().get("cache.miss"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        SecurityResultCache cache = new SecurityResultCache(2, "", 10);
+
+        analyze(cache, "class A {}", AnalysisOptions.DEFAULT);
+        analyze(cache, "class B {}", AnalysisOptions.DEFAULT);
+        analyze(cache, "class A {}", AnalysisOptions.DEFAULT);
+        analyze(cache, "class C {}", AnalysisOptions.DEFAULT);
+        analyze(cache, "class A {}", AnalysisOptions.DEFAULT);
+        analyze(cache, "class B {}", AnalysisOptions.DEFAULT);
+
+        assertEquals(4, analyses.get());
+        assertEquals(2L, cache.snapshot().get("cache.eviction"));
+    }
+
+    @Test
+    void testDiskTierSurvivesRestart(@TempDir Path dir) {
+        SecurityAnalysisResult original = analyze(new SecurityResultCache(10, dir.toString(), 10), code, AnalysisOptions.DEFAULT);
+
+        SecurityResultCache restarted = new SecurityResultCache(10, dir.toString(), 10);
+        SecurityAnalysisResult restored = analyze(restarted, code, AnalysisOptions.DEFAULT);
+
+        assertEquals(1, analyses.get());
+        assertEquals(1L, restarted.snapshot().get("cache.disk_hit"));
+        assertEquals(original, restored);
+    }
+
+    @Test
+    void testCachedResultCannotBeModifiedByCallers() {
+        SecurityResultCache cache = new SecurityResultCache(10, "", 10);
+
+        SecurityAnalysisResult first = analyze(cache, code, AnalysisOptions.DEFAULT);
+        assertThrows(UnsupportedOperationException.class, () -> first.vulnerabilities().clear());
+        assertThrows(UnsupportedOperationException.class, () -> first.recommendations().clear());
+        assertThrows(UnsupportedOperationException.class, () -> first.riskMetrics().categoryScores().clear());
+        first.vulnerabilities().values().forEach(issues ->
+            assertThrows(UnsupportedOperationException.class, () -> issues.remove(0)));
+
+        assertEquals(analyzer.analyzeCode(code, AnalysisOptions.DEFAULT), analyze(cache, code, AnalysisOptions.DEFAULT));
+    }
+
+    @Test
+    void testDiskTierIsBoundedByEntryCount(@TempDir Path dir) throws IOException {
+        SecurityResultCache cache = new SecurityResultCache(1, dir.toString(), 2);
+        for (String source : List.of("class A {}", "class B {}", "class C {}", "class D {}")) {
+            analyze(cache, source, AnalysisOptions.DEFAULT);
+        }
+
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertEquals(2, files.filter(path -> path.toString().endsWith(".json")).count());
+        }
+        assertEquals(2L, cache.snapshot().get("cache.disk_eviction"));
+    }
+}
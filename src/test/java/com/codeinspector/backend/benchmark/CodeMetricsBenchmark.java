@@ -0,0 +1,80 @@
+package com.codeinspector.backend.benchmark;
+
+import com.codeinspector.backend.utils.CodeMetricsAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Metrik başına ayrı regex geçişleri yapan eski analizci ile tek geçişli CodeMetricsAnalyzer'ın karşılaştırması.
+ * Korpus: projenin kendi kaynak dosyaları.
+ *
+ * Çalıştırma: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.codeinspector.backend.benchmark.CodeMetricsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeMetricsBenchmark {
+
+    private final LegacyCodeMetricsAnalyzer legacy = new LegacyCodeMetricsAnalyzer();
+    private final CodeMetricsAnalyzer analyzer = new CodeMetricsAnalyzer();
+    private List<String> corpus;
+
+    @Setup
+    public void loadCorpus() throws IOException {
+        corpus = loadSources();
+    }
+
+    @Benchmark
+    public void legacyPasses(Blackhole blackhole) {
+        for (String source : corpus) {
+            blackhole.consume(legacy.analyzeMetrics(source));
+        }
+    }
+
+    @Benchmark
+    public void singleSweep(Blackhole blackhole) {
+        for (String source : corpus) {
+            blackhole.consume(analyzer.analyzeMetrics(source));
+        }
+    }
+
+    public static List<String> loadSources() throws IOException {
+        List<String> sources = new ArrayList<>();
+        Path root = Path.of("src/main/java");
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".java")).sorted().toList()) {
+                    sources.add(Files.readString(file));
+                }
+            }
+        }
+        return sources;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(CodeMetricsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
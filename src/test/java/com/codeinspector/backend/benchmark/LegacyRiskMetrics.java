@@ -0,0 +1,169 @@
+package com.codeinspector.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codeinspector.backend.model.security.RiskLevel;
+import com.codeinspector.backend.model.security.RiskMetrics;
+import com.codeinspector.backend.model.security.SecurityIssue;
+import com.codeinspector.backend.model.security.SecurityRecommendation;
+
+/**
+ * AdvancedSecurityAnalyzer'ın RiskAggregator'dan önceki risk hesabı: bulgu haritası her skor için yeniden
+ * dolaşılır, kategori String.contains() ile her geçişte yeniden bulunur. Yalnızca eşdeğerlik testi için tutulur.
+ */
+public final class LegacyRiskMetrics {
+
+    private static final Map<String, Integer> CWE_WEIGHTS = Map.of(
+        "SQL_INJECTION", 100,
+        "XSS", 80,
+        "BROKEN_AUTH", 75,
+        "SENSITIVE_DATA", 70,
+        "UNSAFE_LOGGING", 30,
+        "NULL_CHECK", 20
+    );
+
+    private static final Map<RiskLevel, Double> SEVERITY_MULTIPLIERS = Map.of(
+        RiskLevel.CRITICAL, 10.0,
+        RiskLevel.HIGH, 5.0,
+        RiskLevel.MEDIUM, 2.0,
+        RiskLevel.LOW, 1.0
+    );
+
+    private static final Map<String, Double> EXPLOITABILITY_MULTIPLIERS = Map.of(
+        "SQL_INJECTION", 1.0,
+        "XSS", 0.9,
+        "BROKEN_AUTH", 0.8,
+        "SENSITIVE_DATA", 0.7,
+        "UNSAFE_LOGGING", 0.3,
+        "NULL_CHECK", 0.2
+    );
+
+    private LegacyRiskMetrics() {}
+
+    public static List<SecurityRecommendation> recommendations(Map<String, List<SecurityIssue>> vulnerabilities) {
+        Map<String, List<SecurityIssue>> issuesByCategory = issuesByCategory(vulnerabilities);
+        List<SecurityRecommendation> recommendations = new ArrayList<>();
+        issuesByCategory.forEach((category, issues) -> recommendations.add(new SecurityRecommendation(
+            category,
+            String.format("Found %d issues in category: %s", issues.size(), category),
+            "Review and fix all " + category.toLowerCase() + " related issues",
+            issues.stream().map(SecurityIssue::riskLevel).max(Enum::compareTo).orElse(RiskLevel.LOW),
+            issues.stream().map(SecurityIssue::type).distinct().toList()
+        )));
+        return recommendations;
+    }
+
+    // Eski sürümde kategori skoru tip başına hesaplanıp aynı kategorideki önceki tipin üzerine yazılıyordu
+    public static RiskMetrics riskMetrics(Map<String, List<SecurityIssue>> vulnerabilities) {
+        int criticalCount = 0, highCount = 0, mediumCount = 0, lowCount = 0;
+        for (List<SecurityIssue> issues : vulnerabilities.values()) {
+            for (SecurityIssue issue : issues) {
+                switch (issue.riskLevel()) {
+                    case CRITICAL -> criticalCount++;
+                    case HIGH -> highCount++;
+                    case MEDIUM -> mediumCount++;
+                    case LOW -> lowCount++;
+                }
+            }
+        }
+
+        Map<String, Double> categoryScores = new HashMap<>();
+        vulnerabilities.forEach((key, issues) -> categoryScores.put(categoryOf(key), categoryScore(issues)));
+
+        return new RiskMetrics(
+            overallScore(criticalCount, highCount, mediumCount, lowCount),
+            criticalCount,
+            highCount,
+            mediumCount,
+            lowCount,
+            codeQualityScore(vulnerabilities),
+            securityScore(vulnerabilities),
+            categoryScores
+        );
+    }
+
+    public static Map<String, List<SecurityIssue>> issuesByCategory(Map<String, List<SecurityIssue>> vulnerabilities) {
+        Map<String, List<SecurityIssue>> issuesByCategory = new HashMap<>();
+        vulnerabilities.forEach((key, issues) ->
+            issuesByCategory.computeIfAbsent(categoryOf(key), k -> new ArrayList<>()).addAll(issues));
+        return issuesByCategory;
+    }
+
+    public static String categoryOf(String issueType) {
+        if (issueType.contains("INJECTION")) return "Input Validation";
+        if (issueType.contains("AUTH")) return "Authentication";
+        if (issueType.contains("CRYPTO")) return "Cryptography";
+        return "General Security";
+    }
+
+    public static double categoryScore(List<SecurityIssue> issues) {
+        if (issues.isEmpty()) return 100.0;
+
+        double totalImpact = 0.0;
+        for (SecurityIssue issue : issues) {
+            double severityImpact = SEVERITY_MULTIPLIERS.get(issue.riskLevel());
+            double exploitabilityImpact = EXPLOITABILITY_MULTIPLIERS.getOrDefault(issue.type(), 0.5);
+            totalImpact += (severityImpact * 0.6) + (exploitabilityImpact * 0.4);
+        }
+
+        double averageImpact = totalImpact / issues.size();
+        return Math.max(0, Math.min(100, 100 - (averageImpact * 20)));
+    }
+
+    private static double overallScore(int critical, int high, int medium, int low) {
+        double baseScore = 100.0;
+        baseScore -= (critical * 25.0);
+        baseScore -= (high * 15.0);
+        baseScore -= (medium * 10.0);
+        baseScore -= (low * 5.0);
+        return Math.max(0, Math.min(100, baseScore));
+    }
+
+    private static double securityScore(Map<String, List<SecurityIssue>> vulnerabilities) {
+        double baseScore = 100.0;
+        double totalImpact = 0.0;
+        int totalIssues = 0;
+
+        for (Map.Entry<String, List<SecurityIssue>> entry : vulnerabilities.entrySet()) {
+            String issueType = entry.getKey();
+            for (SecurityIssue issue : entry.getValue()) {
+                double severityMultiplier = SEVERITY_MULTIPLIERS.get(issue.riskLevel());
+                double exploitabilityMultiplier = EXPLOITABILITY_MULTIPLIERS.getOrDefault(issueType, 0.5);
+                int cweWeight = CWE_WEIGHTS.getOrDefault(issueType, 100);
+                totalImpact += (cweWeight / 100.0) * severityMultiplier * exploitabilityMultiplier;
+                totalIssues++;
+            }
+        }
+
+        if (totalIssues > 0) {
+            baseScore -= (totalImpact / totalIssues) * 20;
+        }
+        return Math.max(0, Math.min(100, baseScore));
+    }
+
+    private static double codeQualityScore(Map<String, List<SecurityIssue>> vulnerabilities) {
+        double baseScore = 100.0;
+        for (List<SecurityIssue> issues : vulnerabilities.values()) {
+            for (SecurityIssue issue : issues) {
+                if (isCodeQualityIssue(issue.type())) {
+                    switch (issue.riskLevel()) {
+                        case CRITICAL -> baseScore -= 20.0;
+                        case HIGH -> baseScore -= 15.0;
+                        case MEDIUM -> baseScore -= 10.0;
+                        case LOW -> baseScore -= 5.0;
+                    }
+                }
+            }
+        }
+        return Math.max(0, Math.min(100, baseScore));
+    }
+
+    private static boolean isCodeQualityIssue(String issueType) {
+        return issueType.equals("NULL_CHECK")
+            || issueType.equals("UNSAFE_LOGGING")
+            || issueType.contains("CODE_SMELL");
+    }
+}
@@ -0,0 +1,145 @@
+package com.codeinspector.backend.benchmark;
+
+import com.codeinspector.backend.dto.SecurityAnalysisResult;
+import com.codeinspector.backend.model.analysis.AnalysisMode;
+import com.codeinspector.backend.utils.AdvancedSecurityAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Regex ve AST güvenlik modlarının karşılaştırması.
+ * Throughput: etiketli korpus + projenin kendi kaynak dosyaları.
+ * Precision/recall: src/test/resources/security-corpus/expected-findings.txt. Korpus iki parçadır: elle yazılmış
+ * üç fikstür dosyası ve repo/ altında projenin kendi kaynaklarından donmuş, elle etiketlenmiş bir dilim. Gerçek
+ * pozitiflerin çoğu fikstürlerden gelir; recall bu yüzden iyimserdir, precision ise repo dilimindeki yanlış
+ * pozitiflerle gerçek kod üzerinde de ölçülür.
+ *
+ * Çalıştırma: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.codeinspector.backend.benchmark.SecurityModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityModeBenchmark {
+
+    static final String CORPUS_DIR = "/security-corpus/";
+    static final List<String> LABELED_FILES = List.of(
+        "UserRepository.java",
+        "PasswordHasher.java",
+        "TokenService.java",
+        "repo/WeakCryptoDetector.java",
+        "repo/InsecureRandomDetector.java",
+        "repo/SqlConcatenationDetector.java",
+        "repo/ProjectRun.java",
+        "repo/SecurityResultCache.java"
+    );
+
+    private final AdvancedSecurityAnalyzer analyzer = new AdvancedSecurityAnalyzer();
+    private List<String> corpus;
+
+    @Setup
+    public void loadCorpus() throws IOException {
+        corpus = new ArrayList<>(loadLabeledCorpus().values());
+        Path sources = Path.of("src/main/java");
+        if (Files.isDirectory(sources)) {
+            try (Stream<Path> files = Files.walk(sources)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".java")).toList()) {
+                    corpus.add(Files.readString(file));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void regexMode(Blackhole blackhole) {
+        for (String source : corpus) {
+            blackhole.consume(analyzer.analyzeCode(source, AnalysisMode.REGEX));
+        }
+    }
+
+    @Benchmark
+    public void astMode(Blackhole blackhole) {
+        for (String source : corpus) {
+            blackhole.consume(analyzer.analyzeCode(source, AnalysisMode.AST));
+        }
+    }
+
+    static Map<String, String> loadLabeledCorpus() throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (String name : LABELED_FILES) {
+            files.put(name, readResource(CORPUS_DIR + name));
+        }
+        return files;
+    }
+
+    static Set<String> loadExpectedFindings() throws IOException {
+        Set<String> expected = new HashSet<>();
+        for (String line : readResource(CORPUS_DIR + "expected-findings.txt").split("\n")) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                expected.add(line.strip());
+            }
+        }
+        return expected;
+    }
+
+    private static String readResource(String path) throws IOException {
+        try (InputStream in = SecurityModeBenchmark.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("Corpus resource not found: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // Tüm bulgu türleri sayılır; aynı satırdaki aynı türden bulgular tek sayılır
+    static double[] precisionRecall(AdvancedSecurityAnalyzer analyzer, AnalysisMode mode) throws IOException {
+        Set<String> expected = loadExpectedFindings();
+        Set<String> reported = new HashSet<>();
+        for (Map.Entry<String, String> file : loadLabeledCorpus().entrySet()) {
+            SecurityAnalysisResult result = analyzer.analyzeCode(file.getValue(), mode);
+            result.vulnerabilities().forEach((type, issues) ->
+                issues.forEach(issue -> reported.add(file.getKey() + ":" + issue.lineNumber() + ":" + type)));
+        }
+        long truePositives = reported.stream().filter(expected::contains).count();
+        double precision = reported.isEmpty() ? 1.0 : (double) truePositives / reported.size();
+        double recall = expected.isEmpty() ? 1.0 : (double) truePositives / expected.size();
+        return new double[] {precision, recall};
+    }
+
+    public static void main(String[] args) throws Exception {
+        AdvancedSecurityAnalyzer analyzer = new AdvancedSecurityAnalyzer();
+        for (AnalysisMode mode : AnalysisMode.values()) {
+            double[] score = precisionRecall(analyzer, mode);
+            System.out.printf("%-5s precision=%.2f recall=%.2f%n", mode, score[0], score[1]);
+        }
+        new Runner(new OptionsBuilder().include(SecurityModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
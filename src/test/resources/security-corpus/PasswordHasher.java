@@ -0,0 +1,45 @@
+package com.example.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import javax.crypto.Cipher;
+
+public class PasswordHasher {
+
+    private static final String DESCRIPTION = "Hashes user passwords";
+
+    // DES ve RC4 artık kullanılmıyor; eski kayıtlar yalnızca MD5 ile doğrulanıyor
+    public String legacyHash(String password) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String fingerprint(byte[] data) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        return HexFormat.of().formatHex(digest.digest(data));
+    }
+
+    public String hash(String password) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public Cipher legacyCipher() throws Exception {
+        return Cipher.getInstance("DES/CBC/PKCS5Padding");
+    }
+
+    public Cipher blockCipher() throws Exception {
+        return Cipher.getInstance("AES/ECB/PKCS5Padding");
+    }
+
+    public Cipher modernCipher() throws Exception {
+        return Cipher.getInstance("AES/GCM/NoPadding");
+    }
+
+    public String describe() {
+        return DESCRIPTION + " using PBKDF2, not DES";
+    }
+}
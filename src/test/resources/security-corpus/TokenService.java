@@ -0,0 +1,34 @@
+package com.example.auth;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Random;
+
+public class TokenService {
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Random jitter = new Random();
+
+    // Math.random() ile üretilen token'lar tahmin edilebilir, bu yüzden SecureRandom kullanılıyor
+    public String newToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public long retryDelayMillis(int attempt) {
+        return (long) (Math.random() * 100) + attempt * 1000L;
+    }
+
+    public int shardFor(String key) {
+        return new java.util.Random(key.hashCode()).nextInt(16);
+    }
+
+    public String help() {
+        return "Tokens are never generated with new Random() or java.util.Random";
+    }
+
+    public int nextJitter() {
+        return jitter.nextInt(50);
+    }
+}
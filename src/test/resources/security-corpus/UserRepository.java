@@ -0,0 +1,44 @@
+package com.example.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class UserRepository {
+
+    private final Connection connection;
+
+    public UserRepository(Connection connection) {
+        this.connection = connection;
+    }
+
+    // Eski sürüm: stmt.executeQuery("SELECT * FROM users WHERE id = " + id) kullanıyordu
+    public ResultSet findById(long id) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement("SELECT * FROM users WHERE id = ?");
+        statement.setLong(1, id);
+        return statement.executeQuery();
+    }
+
+    public ResultSet findByName(String name) throws SQLException {
+        Statement statement = connection.createStatement();
+        return statement.executeQuery("SELECT * FROM users WHERE name = '" + name + "'");
+    }
+
+    public int deleteByEmail(String email) throws SQLException {
+        String sql = "DELETE FROM users WHERE email = '" + email + "'";
+        Statement statement = connection.createStatement();
+        return statement.executeUpdate(sql);
+    }
+
+    public ResultSet findActive() throws SQLException {
+        String sql = "SELECT * FROM users " + "WHERE active = true";
+        Statement statement = connection.createStatement();
+        return statement.executeQuery(sql);
+    }
+
+    public String describeQuery(String column) {
+        return "\"SELECT name FROM users WHERE " + column + " = ?\"";
+    }
+}
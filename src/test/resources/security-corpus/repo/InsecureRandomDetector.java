@@ -0,0 +1,55 @@
+package com.codeinspector.backend.utils.security;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * new Random() / new java.util.Random() ve Math.random() kullanımlarını bulur.
+ * Import satırları ve yorumlar AST'de ifade olmadığı için raporlanmaz.
+ */
+public final class InsecureRandomDetector extends VoidVisitorAdapter<Consumer<Node>> implements AstSecurityDetector {
+
+    @Override
+    public String type() {
+        return "INSECURE_RANDOM";
+    }
+
+    @Override
+    public Set<String> supersededPatterns() {
+        return Set.of("INSECURE_RANDOM");
+    }
+
+    @Override
+    public Set<String> triggers() {
+        return Set.of("Random", "random");
+    }
+
+    @Override
+    public void detect(CompilationUnit unit, Consumer<Node> findings) {
+        unit.accept(this, findings);
+    }
+
+    @Override
+    public void visit(ObjectCreationExpr creation, Consumer<Node> findings) {
+        super.visit(creation, findings);
+        String typeName = creation.getType().getNameWithScope();
+        if (typeName.equals("Random") || typeName.equals("java.util.Random")) {
+            findings.accept(creation);
+        }
+    }
+
+    @Override
+    public void visit(MethodCallExpr call, Consumer<Node> findings) {
+        super.visit(call, findings);
+        if (call.getNameAsString().equals("random")
+                && call.getScope().map(scope -> scope.toString().equals("Math")).orElse(false)) {
+            findings.accept(call);
+        }
+    }
+}